@@ -0,0 +1,93 @@
+package ca.digilogue.xp.config;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bytes allocated and time per decoded Kafka candles message: the ObjectMapper
+ * path CandlesMapDeserializer used before the streaming CandlesJsonDecoder
+ * (objectMapper) versus the current deserializer (streaming).
+ *
+ * The payload has the shape the generator publishes: a JSON object of symbol to
+ * candle with ISO-8601 UTC timestamps. Run with -prof gc and compare
+ * gc.alloc.rate.norm (bytes per message).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CandlesDecodeBenchmark {
+
+    private static final String TOPIC = "candles";
+
+    @Param({"1", "100", "1000"})
+    private int candleCount;
+
+    private byte[] payload;
+    private ObjectMapper objectMapper;
+    private CandlesMapDeserializer deserializer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder json = new StringBuilder(candleCount * 160).append('{');
+        Instant timestamp = Instant.parse("2024-03-01T14:30:00Z");
+        for (int i = 0; i < candleCount; i++) {
+            String symbol = "SYM" + i;
+            double open = 100 + i % 50 + 0.25;
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(symbol).append("\":{\"symbol\":\"").append(symbol)
+                    .append("\",\"open\":").append(open)
+                    .append(",\"high\":").append(open + 1.5)
+                    .append(",\"low\":").append(open - 0.75)
+                    .append(",\"close\":").append(open + 0.5)
+                    .append(",\"volume\":").append(1_000 + i)
+                    .append(",\"timestamp\":\"").append(timestamp.plusMillis(i)).append("\"}");
+        }
+        payload = json.append('}').toString().getBytes(StandardCharsets.UTF_8);
+
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        deserializer = new CandlesMapDeserializer();
+    }
+
+    /**
+     * The decode path before the streaming decoder: a String copy of the payload
+     * for the debug preview (built whether or not debug logging was on) and
+     * ObjectMapper.readValue with a new TypeReference per message.
+     */
+    @Benchmark
+    public void objectMapper(Blackhole blackhole) throws Exception {
+        String jsonString = new String(payload);
+        blackhole.consume(jsonString.length() > 200 ? jsonString.substring(0, 200) : jsonString);
+        blackhole.consume(objectMapper.readValue(payload, new TypeReference<Map<String, OhlcvCandle>>() {}));
+    }
+
+    @Benchmark
+    public Map<String, OhlcvCandle> streaming() {
+        return deserializer.deserialize(TOPIC, payload);
+    }
+}
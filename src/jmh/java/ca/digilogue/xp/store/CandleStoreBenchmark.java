@@ -0,0 +1,122 @@
+package ca.digilogue.xp.store;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the ColumnarCandleStore mirror on the real ingest path.
+ *
+ * One operation is one message: every symbol gets a new candle, merged through
+ * CandleStore.mergeAll into a store without listeners (merge) or into one that
+ * the ColumnarCandleStore follows (mergeWithColumnar), or every symbol's latest
+ * candle is read from either. The difference between the merge benchmarks is
+ * what enabling the mirror adds. Run with -prof gc to compare the bytes
+ * allocated per message (gc.alloc.rate.norm).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CandleStoreBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int symbolCount;
+
+    private String[] symbols;
+    private CandleStore store;
+    private CandleStore mirroredStore;
+    private ColumnarCandleStore columnar;
+    private int[] ids;
+    private final Map<String, OhlcvCandle> updates = new HashMap<>();
+    private final CandleView view = new CandleView();
+    private long tick;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        symbols = new String[symbolCount];
+        for (int i = 0; i < symbolCount; i++) {
+            symbols[i] = "SYM" + i;
+        }
+        SymbolRegistry registry = new SymbolRegistry();
+        store = new CandleStore(registry);
+        mirroredStore = new CandleStore(registry);
+        columnar = new ColumnarCandleStore(mirroredStore, registry);
+        mirroredStore.addListener(columnar);
+        merge();
+        mergeWithColumnar();
+        ids = new int[symbolCount];
+        for (int i = 0; i < symbolCount; i++) {
+            ids[i] = registry.find(symbols[i]);
+        }
+    }
+
+    @Benchmark
+    public CandleSnapshot merge() {
+        return store.mergeAll(nextMessage(), List.of());
+    }
+
+    @Benchmark
+    public CandleSnapshot mergeWithColumnar() {
+        return mirroredStore.mergeAll(nextMessage(), List.of());
+    }
+
+    @Benchmark
+    public void readStore(Blackhole blackhole) {
+        for (int i = 0; i < symbols.length; i++) {
+            OhlcvCandle candle = store.getLatestCandle(symbols[i]);
+            blackhole.consume(candle.getClose());
+            blackhole.consume(candle.getTimestamp());
+        }
+    }
+
+    @Benchmark
+    public void readColumnar(Blackhole blackhole) {
+        for (int i = 0; i < symbols.length; i++) {
+            columnar.read(symbols[i], view);
+            blackhole.consume(view.getClose());
+            blackhole.consume(view.getTimestampNanos());
+        }
+    }
+
+    @Benchmark
+    public void readColumnarById(Blackhole blackhole) {
+        for (int i = 0; i < ids.length; i++) {
+            columnar.read(ids[i], view);
+            blackhole.consume(view.getClose());
+            blackhole.consume(view.getTimestampNanos());
+        }
+    }
+
+    /**
+     * A new candle for every symbol, as the Kafka decoder would produce for one message.
+     */
+    private Map<String, OhlcvCandle> nextMessage() {
+        long t = ++tick;
+        for (int i = 0; i < symbols.length; i++) {
+            double price = 100 + (t + i) % 50;
+            updates.put(symbols[i], new OhlcvCandle(symbols[i], price, price + 1, price - 1, price + 0.5, 1_000,
+                    Instant.ofEpochSecond(t, i)));
+        }
+        return updates;
+    }
+}
@@ -3,8 +3,6 @@ package ca.digilogue.xp;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,7 +14,6 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
-import ca.digilogue.xp.generator.OhlcvCandle;
 import ca.digilogue.xp.service.ConsumerGroupLeaseService;
 
 @SpringBootApplication
@@ -30,8 +27,6 @@ public class App {
 
     private static final Logger log = LoggerFactory.getLogger(App.class);
     private static ConfigurableApplicationContext applicationContext;
-    
-    public static final Map<String, OhlcvCandle> latestCandles = new ConcurrentHashMap<>();
 
     public static void main(String[] args) {
         applicationContext = SpringApplication.run(App.class, args);
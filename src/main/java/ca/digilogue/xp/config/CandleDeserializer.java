@@ -0,0 +1,71 @@
+package ca.digilogue.xp.config;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import ca.digilogue.xp.store.SymbolRegistry;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Deserializer for single OhlcvCandle values of the per-symbol keyed topic
+ * (key = symbol, value = one candle).
+ *
+ * Like CandlesMapDeserializer, the "content-type" header selects the format:
+ * "application/x-protobuf" for a serialized OhlcvCandleResponse, JSON otherwise.
+ * A null value (tombstone) is returned as null and means the symbol was removed.
+ */
+public class CandleDeserializer implements Deserializer<OhlcvCandle> {
+
+    private static final Logger log = LoggerFactory.getLogger(CandleDeserializer.class);
+
+    private final CandlesJsonDecoder jsonDecoder;
+    private final CandlesProtobufDecoder protobufDecoder;
+
+    public CandleDeserializer() {
+        this(new SymbolRegistry());
+    }
+
+    /**
+     * @param symbols Registry that canonicalizes decoded symbols
+     */
+    public CandleDeserializer(SymbolRegistry symbols) {
+        this.jsonDecoder = new CandlesJsonDecoder(symbols);
+        this.protobufDecoder = new CandlesProtobufDecoder(symbols);
+    }
+
+    @Override
+    public OhlcvCandle deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        Header contentType = headers != null ? headers.lastHeader(CandlesMapDeserializer.CONTENT_TYPE_HEADER) : null;
+        boolean protobuf = contentType != null && contentType.value() != null
+                && new String(contentType.value(), StandardCharsets.UTF_8).trim().regionMatches(true, 0,
+                        CandlesMapDeserializer.PROTOBUF_CONTENT_TYPE, 0,
+                        CandlesMapDeserializer.PROTOBUF_CONTENT_TYPE.length());
+        return decode(topic, data, protobuf);
+    }
+
+    @Override
+    public OhlcvCandle deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return decode(topic, data, false);
+    }
+
+    private OhlcvCandle decode(String topic, byte[] data, boolean protobuf) {
+        try {
+            return protobuf ? protobufDecoder.decodeCandle(data) : jsonDecoder.decodeCandle(data);
+        } catch (IOException e) {
+            log.error("ERROR deserializing candle from topic: {}. Data length: {} bytes. Error: {}",
+                    topic, data.length, e.getMessage(), e);
+            throw new RuntimeException("Failed to deserialize candle", e);
+        }
+    }
+}
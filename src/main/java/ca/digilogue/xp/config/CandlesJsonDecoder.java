@@ -0,0 +1,228 @@
+package ca.digilogue.xp.config;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import ca.digilogue.xp.store.SymbolRegistry;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.Year;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Streaming decoder for the ohlcv-topic JSON payload (a JSON object of symbol to candle)
+ * and for single candles of the per-symbol keyed topic.
+ *
+ * Reads tokens straight from the message bytes into OhlcvCandle instances, without
+ * data binding, reflection or an intermediate tree. ISO-8601 UTC timestamps
+ * (e.g. "2025-01-01T12:00:00.123456789Z") are parsed in place from the parser's
+ * character buffer; any other timestamp form falls back to Instant.parse.
+ * Numeric timestamps are read as (fractional) epoch seconds, like Jackson's JavaTimeModule.
+ * Unknown candle fields are skipped.
+ * Symbols (map keys and "symbol" values) are resolved to their canonical instance
+ * through the SymbolRegistry, straight from the parser's buffer.
+ */
+public final class CandlesJsonDecoder {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final SymbolRegistry symbols;
+
+    public CandlesJsonDecoder() {
+        this(new SymbolRegistry());
+    }
+
+    /**
+     * @param symbols Registry that canonicalizes decoded symbols
+     */
+    public CandlesJsonDecoder(SymbolRegistry symbols) {
+        this.symbols = symbols;
+    }
+
+    /**
+     * Decodes a candles map.
+     *
+     * @param data The JSON payload
+     * @return Map of symbol to candle (insertion ordered), or null for a JSON null payload
+     * @throws IOException If the payload is not a valid candles map
+     */
+    public Map<String, OhlcvCandle> decode(byte[] data) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(data)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            expect(parser, token, JsonToken.START_OBJECT);
+
+            Map<String, OhlcvCandle> candles = new LinkedHashMap<>();
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String symbol = symbols.intern(parser.currentName());
+                token = parser.nextToken();
+                candles.put(symbol, token == JsonToken.VALUE_NULL ? null : readCandle(parser, token));
+            }
+            expect(parser, token, JsonToken.END_OBJECT);
+            return candles;
+        }
+    }
+
+    /**
+     * Decodes a single candle (the per-symbol keyed topic layout).
+     *
+     * @param data The JSON payload
+     * @return The candle, or null for a JSON null payload
+     * @throws IOException If the payload is not a valid candle
+     */
+    public OhlcvCandle decodeCandle(byte[] data) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(data)) {
+            JsonToken token = parser.nextToken();
+            return token == JsonToken.VALUE_NULL ? null : readCandle(parser, token);
+        }
+    }
+
+    private OhlcvCandle readCandle(JsonParser parser, JsonToken token) throws IOException {
+        expect(parser, token, JsonToken.START_OBJECT);
+
+        String symbol = null;
+        double open = 0, high = 0, low = 0, close = 0, volume = 0;
+        Instant timestamp = null;
+
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            token = parser.nextToken();
+            switch (field) {
+                case "symbol" -> symbol = token == JsonToken.VALUE_NULL ? null
+                        : symbols.intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                case "open" -> open = readDouble(parser, token);
+                case "high" -> high = readDouble(parser, token);
+                case "low" -> low = readDouble(parser, token);
+                case "close" -> close = readDouble(parser, token);
+                case "volume" -> volume = readDouble(parser, token);
+                case "timestamp" -> timestamp = readInstant(parser, token);
+                default -> parser.skipChildren();
+            }
+        }
+        expect(parser, token, JsonToken.END_OBJECT);
+        return new OhlcvCandle(symbol, open, high, low, close, volume, timestamp);
+    }
+
+    private static double readDouble(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_STRING -> Double.parseDouble(parser.getText().trim());
+            case VALUE_NULL -> 0.0;
+            default -> throw new JsonParseException(parser, "Expected a number but found " + token);
+        };
+    }
+
+    private static Instant readInstant(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_STRING: {
+                Instant instant = parseIsoUtc(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                return instant != null ? instant : Instant.parse(parser.getText().trim());
+            }
+            case VALUE_NUMBER_INT:
+                return Instant.ofEpochSecond(parser.getLongValue());
+            case VALUE_NUMBER_FLOAT: {
+                BigDecimal seconds = parser.getDecimalValue();
+                long wholeSeconds = seconds.longValue();
+                int nanos = seconds.subtract(BigDecimal.valueOf(wholeSeconds)).movePointRight(9).intValue();
+                return Instant.ofEpochSecond(wholeSeconds, nanos);
+            }
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new JsonParseException(parser, "Expected a timestamp but found " + token);
+        }
+    }
+
+    /**
+     * Parses "yyyy-MM-ddTHH:mm:ss[.f{1,9}]Z" without allocating intermediate objects.
+     *
+     * @return The instant, or null if the text is in any other form
+     */
+    static Instant parseIsoUtc(char[] text, int offset, int length) {
+        // Shortest form: 2025-01-01T00:00:00Z (20 chars); longest has 9 fraction digits (30 chars)
+        if (length < 20 || length > 30 || text[offset + length - 1] != 'Z'
+                || text[offset + 4] != '-' || text[offset + 7] != '-' || text[offset + 10] != 'T'
+                || text[offset + 13] != ':' || text[offset + 16] != ':') {
+            return null;
+        }
+        int year = digits(text, offset, 4);
+        int month = digits(text, offset + 5, 2);
+        int day = digits(text, offset + 8, 2);
+        int hour = digits(text, offset + 11, 2);
+        int minute = digits(text, offset + 14, 2);
+        int second = digits(text, offset + 17, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        if (day > 28 && day > daysInMonth(year, month)) {
+            return null;
+        }
+
+        int nanos = 0;
+        int fractionLength = length - 21; // chars between "ss." and "Z"
+        if (length > 20) {
+            if (text[offset + 19] != '.' || fractionLength < 1) {
+                return null;
+            }
+            int fraction = digits(text, offset + 20, fractionLength);
+            if (fraction < 0) {
+                return null;
+            }
+            nanos = fraction;
+            for (int i = fractionLength; i < 9; i++) {
+                nanos *= 10;
+            }
+        }
+
+        long epochDay = epochDay(year, month, day);
+        return Instant.ofEpochSecond(epochDay * 86_400L + hour * 3_600L + minute * 60L + second, nanos);
+    }
+
+    /**
+     * @return The decimal value of count ASCII digits, or -1 if any char is not a digit
+     */
+    private static int digits(char[] text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = text[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> Year.isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Days since 1970-01-01 for a proleptic Gregorian date (Howard Hinnant's days_from_civil).
+     */
+    private static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468L;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
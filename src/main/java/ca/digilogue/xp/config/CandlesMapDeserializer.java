@@ -1,30 +1,95 @@
 package ca.digilogue.xp.config;
 
 import ca.digilogue.xp.generator.OhlcvCandle;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import ca.digilogue.xp.store.SymbolRegistry;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 /**
  * Custom deserializer for Map<String, OhlcvCandle> from Kafka messages.
- * Properly deserializes the JSON Map structure using Jackson with TypeReference.
- * Registers JavaTimeModule to support java.time.Instant deserialization.
+ * Decodes the JSON Map structure with the streaming CandlesJsonDecoder, straight
+ * from the message bytes (no intermediate String copy, no per-message type
+ * reference or data binding). Payload previews are only decoded when debug
+ * logging is on or decoding fails.
+ *
+ * The payload format is selected by the "content-type" record header:
+ * "application/x-protobuf" is decoded as a binary AllCandlesResponse (see
+ * CandlesProtobufDecoder); no header or "application/json" is decoded as JSON.
+ * Unknown content types are logged and decoded as JSON.
+ *
+ * When allocation tracking is enabled, the bytes allocated by each decode are
+ * recorded in the kafka.candles.decode.allocated.bytes distribution summary.
  */
 public class CandlesMapDeserializer implements Deserializer<Map<String, OhlcvCandle>> {
 
     private static final Logger log = LoggerFactory.getLogger(CandlesMapDeserializer.class);
-    private final ObjectMapper objectMapper;
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+    public static final String JSON_CONTENT_TYPE = "application/json";
+    public static final String PROTOBUF_CONTENT_TYPE = "application/x-protobuf";
+
+    private static final int DEBUG_PREVIEW_CHARS = 200;
+    private static final int ERROR_PREVIEW_CHARS = 500;
+
+    private final CandlesJsonDecoder jsonDecoder;
+    private final CandlesProtobufDecoder protobufDecoder;
+    private final DistributionSummary allocatedBytes;
+    private final com.sun.management.ThreadMXBean threadMXBean;
 
     public CandlesMapDeserializer() {
-        this.objectMapper = new ObjectMapper();
-        // Register JavaTimeModule to support java.time.Instant and other Java 8 time types
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this(null, false, new SymbolRegistry());
+    }
+
+    /**
+     * @param meterRegistry    Registry for the allocation metric (may be null when tracking is off)
+     * @param trackAllocations True to measure the bytes allocated per decoded message
+     * @param symbols          Registry that canonicalizes decoded symbols
+     */
+    public CandlesMapDeserializer(MeterRegistry meterRegistry, boolean trackAllocations, SymbolRegistry symbols) {
+        this.jsonDecoder = new CandlesJsonDecoder(symbols);
+        this.protobufDecoder = new CandlesProtobufDecoder(symbols);
+        com.sun.management.ThreadMXBean bean = trackAllocations ? allocationBean() : null;
+        if (bean != null && meterRegistry != null) {
+            this.threadMXBean = bean;
+            this.allocatedBytes = DistributionSummary.builder("kafka.candles.decode.allocated.bytes")
+                    .description("Heap bytes allocated while decoding one candles message")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+            log.info("Candles decode allocation tracking enabled");
+        } else {
+            this.threadMXBean = null;
+            this.allocatedBytes = null;
+        }
+    }
+
+    @Override
+    public Map<String, OhlcvCandle> deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            log.warn("Received null data from topic: {}", topic);
+            return null;
+        }
+        Header contentType = headers != null ? headers.lastHeader(CONTENT_TYPE_HEADER) : null;
+        if (contentType == null || contentType.value() == null) {
+            return deserialize(topic, data);
+        }
+
+        String type = new String(contentType.value(), StandardCharsets.UTF_8).trim();
+        if (type.regionMatches(true, 0, PROTOBUF_CONTENT_TYPE, 0, PROTOBUF_CONTENT_TYPE.length())) {
+            return deserializeProtobuf(topic, data);
+        }
+        if (!type.regionMatches(true, 0, JSON_CONTENT_TYPE, 0, JSON_CONTENT_TYPE.length())) {
+            log.warn("Unknown content-type '{}' on topic: {} - decoding as JSON", type, topic);
+        }
+        return deserialize(topic, data);
     }
 
     @Override
@@ -34,29 +99,62 @@ public class CandlesMapDeserializer implements Deserializer<Map<String, OhlcvCan
             return null;
         }
 
-        log.debug("Deserializing message from topic: {}, data length: {} bytes", topic, data.length);
-        
+        if (log.isDebugEnabled()) {
+            log.debug("Deserializing message from topic: {}, data length: {} bytes", topic, data.length);
+            log.debug("Raw JSON data (first {} chars): {}", DEBUG_PREVIEW_CHARS, preview(data, DEBUG_PREVIEW_CHARS));
+        }
+
+        long allocatedBefore = threadMXBean != null ? threadMXBean.getCurrentThreadAllocatedBytes() : 0L;
         try {
-            String jsonString = new String(data);
-            log.debug("Raw JSON data (first 200 chars): {}", jsonString.length() > 200 ? jsonString.substring(0, 200) : jsonString);
-            
-            Map<String, OhlcvCandle> result = objectMapper.readValue(data, new TypeReference<Map<String, OhlcvCandle>>() {});
+            Map<String, OhlcvCandle> result = jsonDecoder.decode(data);
+            if (threadMXBean != null) {
+                allocatedBytes.record(threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore);
+            }
             log.debug("Successfully deserialized {} candles from topic: {}", result != null ? result.size() : 0, topic);
             return result;
         } catch (IOException e) {
             log.error("ERROR deserializing candles map from topic: {}. Data length: {} bytes. Error: {}", 
-                    topic, data != null ? data.length : 0, e.getMessage(), e);
+                    topic, data.length, e.getMessage(), e);
             // Log first 500 chars of the data for debugging
-            if (data != null && data.length > 0) {
-                try {
-                    String dataPreview = new String(data);
-                    log.error("Data preview (first 500 chars): {}", 
-                            dataPreview.length() > 500 ? dataPreview.substring(0, 500) : dataPreview);
-                } catch (Exception ex) {
-                    log.error("Could not convert data to string for preview", ex);
-                }
+            if (data.length > 0) {
+                log.error("Data preview (first {} chars): {}", ERROR_PREVIEW_CHARS, preview(data, ERROR_PREVIEW_CHARS));
+            }
+            throw new RuntimeException("Failed to deserialize candles map", e);
+        }
+    }
+
+    private Map<String, OhlcvCandle> deserializeProtobuf(String topic, byte[] data) {
+        log.debug("Deserializing protobuf message from topic: {}, data length: {} bytes", topic, data.length);
+
+        long allocatedBefore = threadMXBean != null ? threadMXBean.getCurrentThreadAllocatedBytes() : 0L;
+        try {
+            Map<String, OhlcvCandle> result = protobufDecoder.decode(data);
+            if (threadMXBean != null) {
+                allocatedBytes.record(threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore);
             }
+            log.debug("Successfully deserialized {} candles from topic: {}", result.size(), topic);
+            return result;
+        } catch (IOException e) {
+            log.error("ERROR deserializing protobuf candles from topic: {}. Data length: {} bytes. Error: {}",
+                    topic, data.length, e.getMessage(), e);
             throw new RuntimeException("Failed to deserialize candles map", e);
         }
     }
+
+    /**
+     * Decodes at most maxChars bytes of the payload for logging.
+     */
+    private static String preview(byte[] data, int maxChars) {
+        return new String(data, 0, Math.min(data.length, maxChars), StandardCharsets.UTF_8);
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        log.warn("Thread allocation measurement is not supported by this JVM - decode allocation tracking disabled");
+        return null;
+    }
 }
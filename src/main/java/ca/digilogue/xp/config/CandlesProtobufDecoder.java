@@ -0,0 +1,79 @@
+package ca.digilogue.xp.config;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import ca.digilogue.xp.grpc.OhlcvServiceProto;
+import ca.digilogue.xp.store.SymbolRegistry;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Decoder for the binary ohlcv-topic payload.
+ *
+ * The payload is a serialized AllCandlesResponse (the same message the gRPC
+ * service streams), i.e. a repeated OhlcvCandleResponse with timestamps in
+ * nanoseconds since epoch. Candles are keyed by their symbol. On the per-symbol
+ * keyed topic each value is a single serialized OhlcvCandleResponse.
+ * Symbols are canonicalized through the SymbolRegistry.
+ */
+public final class CandlesProtobufDecoder {
+
+    private final SymbolRegistry symbols;
+
+    public CandlesProtobufDecoder() {
+        this(new SymbolRegistry());
+    }
+
+    /**
+     * @param symbols Registry that canonicalizes decoded symbols
+     */
+    public CandlesProtobufDecoder(SymbolRegistry symbols) {
+        this.symbols = symbols;
+    }
+
+    /**
+     * Decodes a candles map.
+     *
+     * @param data The serialized AllCandlesResponse
+     * @return Map of symbol to candle (in message order)
+     * @throws IOException If the payload is not a valid AllCandlesResponse
+     */
+    public Map<String, OhlcvCandle> decode(byte[] data) throws IOException {
+        OhlcvServiceProto.AllCandlesResponse message = OhlcvServiceProto.AllCandlesResponse.parseFrom(data);
+
+        Map<String, OhlcvCandle> candles = new LinkedHashMap<>(message.getCandlesCount() * 2);
+        for (OhlcvServiceProto.OhlcvCandleResponse candle : message.getCandlesList()) {
+            OhlcvCandle decoded = toCandle(candle);
+            candles.put(decoded.getSymbol(), decoded);
+        }
+        return candles;
+    }
+
+    /**
+     * Decodes a single candle (the per-symbol keyed topic layout).
+     *
+     * @param data The serialized OhlcvCandleResponse
+     * @return The candle
+     * @throws IOException If the payload is not a valid OhlcvCandleResponse
+     */
+    public OhlcvCandle decodeCandle(byte[] data) throws IOException {
+        return toCandle(OhlcvServiceProto.OhlcvCandleResponse.parseFrom(data));
+    }
+
+    private OhlcvCandle toCandle(OhlcvServiceProto.OhlcvCandleResponse candle) {
+        return new OhlcvCandle(
+                symbols.intern(candle.getSymbol()),
+                candle.getOpen(),
+                candle.getHigh(),
+                candle.getLow(),
+                candle.getClose(),
+                candle.getVolume(),
+                fromEpochNanos(candle.getTimestamp()));
+    }
+
+    private static Instant fromEpochNanos(long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L), Math.floorMod(nanos, 1_000_000_000L));
+    }
+}
@@ -2,6 +2,8 @@ package ca.digilogue.xp.config;
 
 import ca.digilogue.xp.App;
 import ca.digilogue.xp.generator.OhlcvCandle;
+import ca.digilogue.xp.store.SymbolRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.slf4j.Logger;
@@ -13,6 +15,7 @@ import org.springframework.context.annotation.DependsOn;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
 import org.springframework.kafka.listener.ContainerProperties;
 
 import java.util.HashMap;
@@ -24,6 +27,10 @@ import java.util.Map;
  * Uses custom CandlesMapDeserializer for proper Map deserialization.
  * 
  * Configured for live streaming: always consumes NEW messages as they arrive.
+ *
+ * Also configures the optional per-symbol keyed topic layout (key = symbol,
+ * value = one OhlcvCandle), consumed in batches by a listener whose concurrency
+ * can be raised up to the topic's partition count.
  */
 @Configuration
 public class KafkaConfig {
@@ -36,6 +43,32 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id:xp-marketdata-service-group}")
     private String defaultGroupId;
 
+    @Value("${app.kafka.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${app.kafka.consumer.fetch-min-bytes:1}")
+    private int fetchMinBytes;
+
+    @Value("${app.kafka.consumer.fetch-max-wait-ms:500}")
+    private int fetchMaxWaitMs;
+
+    @Value("${app.kafka.listener.concurrency:1}")
+    private int listenerConcurrency;
+
+    @Value("${app.kafka.keyed.concurrency:1}")
+    private int keyedConcurrency;
+
+    @Value("${app.kafka.decode.track-allocations:false}")
+    private boolean trackDecodeAllocations;
+
+    private final MeterRegistry meterRegistry;
+    private final SymbolRegistry symbolRegistry;
+
+    public KafkaConfig(MeterRegistry meterRegistry, SymbolRegistry symbolRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.symbolRegistry = symbolRegistry;
+    }
+
     @Bean
     @DependsOn("leaseAcquisition")
     public ConsumerFactory<String, Map<String, OhlcvCandle>> consumerFactory() {
@@ -60,6 +93,11 @@ public class KafkaConfig {
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         
+        // Poll sizing (mostly relevant to the batch listener, which coalesces each poll)
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        configProps.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes);
+        configProps.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, fetchMaxWaitMs);
+        
         // Session and heartbeat timeouts
         configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
         configProps.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, 3000);
@@ -69,6 +107,8 @@ public class KafkaConfig {
         log.info("  group-id: {} (from lease: {})", groupId, App.acquiredConsumerGroupName != null ? "YES" : "NO - using default");
         log.info("  auto-offset-reset: latest (consume NEW messages only)");
         log.info("  enable-auto-commit: false (no offset commits)");
+        log.info("  max.poll.records: {}, fetch.min.bytes: {}, fetch.max.wait.ms: {}",
+                maxPollRecords, fetchMinBytes, fetchMaxWaitMs);
         
         // Verify the group ID is actually set in the config
         Object configuredGroupId = configProps.get(ConsumerConfig.GROUP_ID_CONFIG);
@@ -79,13 +119,16 @@ public class KafkaConfig {
         }
         
         // Use custom deserializer for Map<String, OhlcvCandle>
-        CandlesMapDeserializer candlesMapDeserializer = new CandlesMapDeserializer();
+        CandlesMapDeserializer candlesMapDeserializer = new CandlesMapDeserializer(meterRegistry, trackDecodeAllocations, symbolRegistry);
         
         DefaultKafkaConsumerFactory<String, Map<String, OhlcvCandle>> factory = 
             new DefaultKafkaConsumerFactory<>(configProps, 
                 new StringDeserializer(), 
                 candlesMapDeserializer);
         
+        // Kafka client metrics (incl. per-partition records-lag) on the actuator registry
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        
         // Double-check the factory has the correct group ID
         Map<String, Object> factoryConfig = factory.getConfigurationProperties();
         Object factoryGroupId = factoryConfig.get(ConsumerConfig.GROUP_ID_CONFIG);
@@ -100,13 +143,79 @@ public class KafkaConfig {
         ConcurrentKafkaListenerContainerFactory<String, Map<String, OhlcvCandle>> factory = 
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        // Threads decode in parallel; snapshots are applied one at a time under the CandleStore write lock
+        factory.setConcurrency(listenerConcurrency);
         
         // Set acknowledgment mode to manual since auto-commit is disabled
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
         
-        log.info("Created kafkaListenerContainerFactory with manual acknowledgment mode");
+        log.info("Created kafkaListenerContainerFactory with manual acknowledgment mode, concurrency: {}", listenerConcurrency);
         log.info("Container will consume messages from ohlcv-topic as they arrive");
         
         return factory;
     }
+
+    /**
+     * Batch listener container factory: the listener receives every record of a poll
+     * at once so it can coalesce them (see KafkaConsumerService.consumeCandlesBatch).
+     * Only started when app.kafka.listener.batch.enabled=true. As in
+     * kafkaListenerContainerFactory, concurrency parallelizes decoding only.
+     */
+    @Bean
+    @DependsOn("leaseAcquisition")
+    public ConcurrentKafkaListenerContainerFactory<String, Map<String, OhlcvCandle>> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Map<String, OhlcvCandle>> factory = 
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(listenerConcurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        
+        log.info("Created batchKafkaListenerContainerFactory with manual acknowledgment mode, concurrency: {}", listenerConcurrency);
+        
+        return factory;
+    }
+
+    /**
+     * Consumer factory for the per-symbol keyed topic. Same consumer settings
+     * as consumerFactory(), with interned symbol keys and a single-candle value deserializer.
+     */
+    @Bean
+    @DependsOn("leaseAcquisition")
+    public ConsumerFactory<String, OhlcvCandle> keyedConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>(consumerFactory().getConfigurationProperties());
+        DefaultKafkaConsumerFactory<String, OhlcvCandle> factory =
+            new DefaultKafkaConsumerFactory<>(configProps,
+                new SymbolKeyDeserializer(symbolRegistry),
+                new CandleDeserializer(symbolRegistry));
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
+    }
+
+    /**
+     * Batch listener container factory for the per-symbol keyed topic.
+     * Each poll is merged into the candle store in one step; concurrency
+     * (app.kafka.keyed.concurrency) spreads partitions over several consumer threads.
+     * A partition is only ever owned by one thread and a symbol always hashes to the
+     * same partition, so updates for one symbol are still applied in offset order.
+     *
+     * Only fetching and decoding run in parallel: merging into the candle store and
+     * notifying its listeners (stream fan-out, history, persistence) is serialized on
+     * the store's write lock, so it does not scale with concurrency. The time each
+     * partition waits for that lock is reported as kafka.candles.partition.lock.wait.
+     */
+    @Bean
+    @DependsOn("leaseAcquisition")
+    public ConcurrentKafkaListenerContainerFactory<String, OhlcvCandle> keyedKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, OhlcvCandle> factory = 
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(keyedConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(keyedConcurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        
+        log.info("Created keyedKafkaListenerContainerFactory with concurrency: {}", keyedConcurrency);
+        
+        return factory;
+    }
 }
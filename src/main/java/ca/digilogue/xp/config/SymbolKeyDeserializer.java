@@ -0,0 +1,23 @@
+package ca.digilogue.xp.config;
+
+import ca.digilogue.xp.store.SymbolRegistry;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Record key deserializer for the per-symbol keyed topic. Resolves the key bytes
+ * to the canonical symbol instance of the SymbolRegistry, so known symbols do not
+ * allocate a new String per record.
+ */
+public class SymbolKeyDeserializer implements Deserializer<String> {
+
+    private final SymbolRegistry symbols;
+
+    public SymbolKeyDeserializer(SymbolRegistry symbols) {
+        this.symbols = symbols;
+    }
+
+    @Override
+    public String deserialize(String topic, byte[] data) {
+        return data == null ? null : symbols.intern(data);
+    }
+}
@@ -0,0 +1,72 @@
+package ca.digilogue.xp.generator;
+
+import java.time.Instant;
+
+/**
+ * Mutable, reusable OHLCV candle used on allocation-free generator paths.
+ * A slot is overwritten in place on every tick; call toCandle() only when an
+ * immutable OhlcvCandle is actually needed.
+ */
+public final class CandleSlot {
+
+    private String symbol;
+    private double open;
+    private double high;
+    private double low;
+    private double close;
+    private double volume;
+    private long timestampNanos;
+
+    void set(String symbol, double open, double high, double low, double close, double volume,
+             long timestampNanos) {
+        this.symbol = symbol;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+        this.timestampNanos = timestampNanos;
+    }
+
+    /**
+     * Copies this slot into a new OhlcvCandle.
+     *
+     * @return The materialized candle
+     */
+    public OhlcvCandle toCandle() {
+        return new OhlcvCandle(symbol, open, high, low, close, volume,
+                Instant.ofEpochSecond(Math.floorDiv(timestampNanos, 1_000_000_000L),
+                        Math.floorMod(timestampNanos, 1_000_000_000L)));
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public double getOpen() {
+        return open;
+    }
+
+    public double getHigh() {
+        return high;
+    }
+
+    public double getLow() {
+        return low;
+    }
+
+    public double getClose() {
+        return close;
+    }
+
+    public double getVolume() {
+        return volume;
+    }
+
+    /**
+     * @return Candle timestamp in nanoseconds since epoch
+     */
+    public long getTimestampNanos() {
+        return timestampNanos;
+    }
+}
@@ -0,0 +1,324 @@
+package ca.digilogue.xp.generator;
+
+import ca.digilogue.xp.service.InfluxDbService;
+import ca.digilogue.xp.store.CandleStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives many OhlcvGenerators from one ScheduledExecutorService instead of a
+ * thread per symbol (app.generator.enabled).
+ *
+ * The symbol universe is split into app.generator.workers shards. Every tick
+ * interval each shard's task ticks all of its generators with one shared
+ * timestamp, then writes the tick as one batch: every influx-write-every-th tick
+ * to InfluxDB and, if publish-to-store is set, into the CandleStore (one merge
+ * per shard per tick). A shard is only ever run by one worker at a time.
+ *
+ * Symbols are either listed in app.generator.symbols or synthesized as
+ * {prefix}0 .. {prefix}{count - 1}.
+ *
+ * Reproducible runs (e.g. for benchmarks): with app.generator.seed set, every
+ * symbol gets its own SplittableRandom seeded from the run seed and the symbol,
+ * and with app.generator.clock=simulated tick N of a shard is stamped
+ * start-epoch-ms + N * tick-interval-ms instead of the wall clock. The same seed,
+ * scenario, symbols and start then produce identical candle streams regardless
+ * of scheduling jitter or the number of workers. app.generator.scenario selects a
+ * ScenarioProfile preset; its parameters can be overridden one by one with
+ * app.generator.scenario.{parameter} (e.g. app.generator.scenario.burst-probability).
+ *
+ * Load testing: app.generator.ticks-per-second above 1 replaces the shards with
+ * one thread per symbol running the generator's own high-rate loop (see
+ * OhlcvGenerator), so it is meant for a handful of symbols. Every
+ * influx-write-every-th tick goes to InfluxDB; publish-to-store does not apply.
+ * Tick N is stamped start + N / ticks-per-second, where start is start-epoch-ms
+ * with the simulated clock and the wall clock at startup otherwise.
+ *
+ * Metrics (shard mode; high-rate generators log their own ticks/sec):
+ *   generator.ticks           - symbol ticks generated
+ *   generator.shard.tick      - time to tick one shard (incl. batched writes)
+ *   generator.shard.overruns  - shard ticks that took longer than the tick interval
+ */
+@Component
+public class GeneratorEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(GeneratorEngine.class);
+
+    @Value("${app.generator.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.generator.symbols:}")
+    private List<String> symbols;
+
+    @Value("${app.generator.symbol-count:1000}")
+    private int symbolCount;
+
+    @Value("${app.generator.symbol-prefix:SIM-}")
+    private String symbolPrefix;
+
+    @Value("${app.generator.base-price:100.0}")
+    private double basePrice;
+
+    @Value("${app.generator.volatility:1.0}")
+    private double volatility;
+
+    @Value("${app.generator.tick-interval-ms:1000}")
+    private long tickIntervalMs;
+
+    @Value("${app.generator.workers:1}")
+    private int workers;
+
+    @Value("${app.generator.influx-write-every:0}")
+    private int influxWriteEvery;
+
+    @Value("${app.generator.publish-to-store:false}")
+    private boolean publishToStore;
+
+    @Value("${app.generator.seed:}")
+    private String seed;
+
+    @Value("${app.generator.scenario:none}")
+    private String scenarioName;
+
+    @Value("${app.generator.clock:wall}")
+    private String clock;
+
+    @Value("${app.generator.start-epoch-ms:0}")
+    private long startEpochMs;
+
+    @Value("${app.generator.ticks-per-second:0}")
+    private int ticksPerSecond;
+
+    private final Environment environment;
+    private final InfluxDbService influxDbService;
+    private final CandleStore candleStore;
+    private final Counter ticks;
+    private final Counter overruns;
+    private final Timer shardTickTimer;
+
+    private final List<Shard> shards = new ArrayList<>();
+    private final List<OhlcvGenerator> highRateGenerators = new ArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    public GeneratorEngine(Environment environment, InfluxDbService influxDbService, CandleStore candleStore,
+                           MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.influxDbService = influxDbService;
+        this.candleStore = candleStore;
+        this.ticks = Counter.builder("generator.ticks")
+                .description("Symbol ticks generated by the generator engine")
+                .register(meterRegistry);
+        this.overruns = Counter.builder("generator.shard.overruns")
+                .description("Shard ticks that took longer than the tick interval")
+                .register(meterRegistry);
+        this.shardTickTimer = Timer.builder("generator.shard.tick")
+                .description("Time to tick one shard of generators, including batched writes")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        List<String> universe = resolveSymbols();
+        long intervalMs = Math.max(1, tickIntervalMs);
+        int shardCount = Math.max(1, Math.min(workers, universe.size()));
+        Long runSeed = seed == null || seed.isBlank() ? null : Long.valueOf(seed.trim());
+        ScenarioProfile scenario = resolveScenario();
+        boolean simulatedClock = "simulated".equals(clock.trim().toLowerCase(Locale.ROOT));
+        long clockStartMs = simulatedClock && startEpochMs <= 0 ? System.currentTimeMillis() : startEpochMs;
+
+        if (ticksPerSecond > 1) {
+            startHighRate(universe, runSeed, scenario, simulatedClock ? clockStartMs : 0);
+            return;
+        }
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new Shard(simulatedClock, clockStartMs, intervalMs));
+        }
+        for (int i = 0; i < universe.size(); i++) {
+            String symbol = universe.get(i);
+            shards.get(i % shardCount).add(new OhlcvGenerator(symbol, basePrice, volatility, influxDbService,
+                    1, 1, randomFor(runSeed, symbol), scenario));
+        }
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(shardCount, runnable -> {
+            Thread thread = new Thread(runnable, "generator-tick-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (Shard shard : shards) {
+            scheduler.scheduleAtFixedRate(shard::tick, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+
+        log.info("Generator engine started: {} symbol(s), {} shard(s), tick interval {} ms, "
+                        + "InfluxDB write every {} tick(s), publish to store: {}, seed: {}, clock: {}, {}",
+                universe.size(), shardCount, intervalMs, influxWriteEvery, publishToStore,
+                runSeed != null ? runSeed : "random", simulatedClock ? "simulated from " + clockStartMs : "wall",
+                scenario);
+    }
+
+    /**
+     * Starts one thread per symbol running the generator's high-rate loop.
+     */
+    private void startHighRate(List<String> universe, Long runSeed, ScenarioProfile scenario, long clockStartMs) {
+        for (String symbol : universe) {
+            OhlcvGenerator generator = new OhlcvGenerator(symbol, basePrice, volatility, influxDbService,
+                    ticksPerSecond, influxWriteEvery, randomFor(runSeed, symbol), scenario);
+            generator.setStartEpochMs(clockStartMs);
+            highRateGenerators.add(generator);
+            Thread thread = new Thread(generator, "generator-" + symbol);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        log.info("Generator engine started in high-rate mode: {} symbol(s) at {} tick(s)/sec each, "
+                        + "InfluxDB write every {} tick(s), seed: {}, clock: {}, {}",
+                universe.size(), ticksPerSecond, influxWriteEvery, runSeed != null ? runSeed : "random",
+                clockStartMs > 0 ? "simulated from " + clockStartMs : "wall", scenario);
+    }
+
+    private static SplittableRandom randomFor(Long runSeed, String symbol) {
+        return runSeed != null
+                ? new SplittableRandom(OhlcvGenerator.seedFor(runSeed, symbol))
+                : new SplittableRandom();
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (OhlcvGenerator generator : highRateGenerators) {
+            generator.stop();
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            log.info("Generator engine stopped");
+        }
+    }
+
+    private List<String> resolveSymbols() {
+        List<String> universe = new ArrayList<>();
+        if (symbols != null) {
+            for (String symbol : symbols) {
+                if (!symbol.isBlank()) {
+                    universe.add(symbol.trim());
+                }
+            }
+        }
+        if (universe.isEmpty()) {
+            for (int i = 0; i < symbolCount; i++) {
+                universe.add(symbolPrefix + i);
+            }
+        }
+        return universe;
+    }
+
+    /**
+     * The app.generator.scenario preset with any app.generator.scenario.* overrides applied.
+     */
+    private ScenarioProfile resolveScenario() {
+        ScenarioProfile preset = ScenarioProfile.preset(scenarioName);
+        String prefix = "app.generator.scenario.";
+        return new ScenarioProfile(preset.getName(),
+                environment.getProperty(prefix + "regime-switch-probability", Double.class,
+                        preset.getRegimeSwitchProbability()),
+                environment.getProperty(prefix + "high-volatility-multiplier", Double.class,
+                        preset.getHighVolatilityMultiplier()),
+                environment.getProperty(prefix + "burst-probability", Double.class, preset.getBurstProbability()),
+                environment.getProperty(prefix + "burst-volume-multiplier", Double.class,
+                        preset.getBurstVolumeMultiplier()),
+                environment.getProperty(prefix + "gap-probability", Double.class, preset.getGapProbability()),
+                environment.getProperty(prefix + "gap-max-percent", Double.class, preset.getGapMaxPercent()),
+                environment.getProperty(prefix + "flash-crash-probability", Double.class,
+                        preset.getFlashCrashProbability()),
+                environment.getProperty(prefix + "flash-crash-percent", Double.class, preset.getFlashCrashPercent()),
+                environment.getProperty(prefix + "flash-crash-recovery-ticks", Integer.class,
+                        preset.getFlashCrashRecoveryTicks()));
+    }
+
+    /**
+     * A group of generators ticked together by one scheduled task.
+     */
+    private final class Shard {
+        private final List<OhlcvGenerator> generators = new ArrayList<>();
+        private final List<CandleSlot> tickSlots = new ArrayList<>();
+        private final boolean simulatedClock;
+        private final long clockStartMs;
+        private final long intervalMs;
+        private long tickNumber;
+
+        Shard(boolean simulatedClock, long clockStartMs, long intervalMs) {
+            this.simulatedClock = simulatedClock;
+            this.clockStartMs = clockStartMs;
+            this.intervalMs = intervalMs;
+        }
+
+        void add(OhlcvGenerator generator) {
+            generators.add(generator);
+        }
+
+        void tick() {
+            long start = System.nanoTime();
+            try {
+                long timestampNanos = (simulatedClock
+                        ? clockStartMs + tickNumber * intervalMs
+                        : System.currentTimeMillis()) * 1_000_000L;
+                tickSlots.clear();
+                for (OhlcvGenerator generator : generators) {
+                    tickSlots.add(generator.tick(timestampNanos));
+                }
+                ticks.increment(generators.size());
+                tickNumber++;
+
+                boolean writeInflux = influxWriteEvery > 0 && tickNumber % influxWriteEvery == 0;
+                if (writeInflux || publishToStore) {
+                    writeBatch(writeInflux);
+                }
+            } catch (Exception e) {
+                // An exception would cancel the periodic task - log and keep ticking
+                log.error("Generator shard tick failed", e);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                shardTickTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                if (elapsed > TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickIntervalMs))) {
+                    overruns.increment();
+                }
+            }
+        }
+
+        private void writeBatch(boolean writeInflux) {
+            List<OhlcvCandle> candles = new ArrayList<>(tickSlots.size());
+            for (CandleSlot slot : tickSlots) {
+                candles.add(slot.toCandle());
+            }
+            if (writeInflux) {
+                influxDbService.writeCandles(candles);
+            }
+            if (publishToStore) {
+                Map<String, OhlcvCandle> updates = new HashMap<>(candles.size() * 2);
+                for (OhlcvCandle candle : candles) {
+                    updates.put(candle.getSymbol(), candle);
+                }
+                candleStore.mergeAll(updates, List.of());
+            }
+        }
+    }
+}
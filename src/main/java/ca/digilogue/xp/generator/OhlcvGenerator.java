@@ -4,53 +4,117 @@ import ca.digilogue.xp.service.InfluxDbService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Random;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Generates OHLCV candle data every second for a given symbol.
  * Uses a random walk with volatility to simulate realistic price movements.
+ *
+ * With ticksPerSecond above 1 the generator runs in high-rate mode for load
+ * testing (GeneratorEngine, app.generator.ticks-per-second): each tick is written
+ * into the generator's one reusable CandleSlot (no OhlcvCandle, Instant or
+ * String per tick), ticks are paced with parkNanos, and only every
+ * influxWriteEvery-th tick is written to InfluxDB (0 = never). Tick N is stamped
+ * start + N / ticksPerSecond rather than with the wall clock, so every tick has
+ * its own timestamp even at more than 1000 ticks/sec.
+ * Both modes periodically log ticks/sec and bytes allocated per tick.
+ *
+ * Randomness comes from a per-generator SplittableRandom (no shared state). Given
+ * a seed, a ScenarioProfile and the same tick timestamps, the generated candles
+ * are identical run to run (see seedFor).
  */
 public class OhlcvGenerator implements Runnable {
     
     private static final Logger log = LoggerFactory.getLogger(OhlcvGenerator.class);
     
+    private static final long SEED_MULTIPLIER = 0xC6A4A7935BD1E995L;
+    
     private final String symbol;
     private final double basePrice;
     private final double volatility;
-    private final Random random;
+    private final SplittableRandom random;
+    private final ScenarioProfile scenario;
     private final InfluxDbService influxDbService;
     
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final int ticksPerSecond;
+    private final int influxWriteEvery;
+    private final CandleSlot slot = new CandleSlot();
+
     private volatile boolean running = false;
+    private long startEpochMs;
     private double currentPrice;
+    private boolean highVolatilityRegime;
+    private int crashRecoveryTicksLeft;
     private volatile OhlcvCandle latestCandle; // Latest generated candle (thread-safe access)
-    
+    private volatile long tickCount;
+    private volatile double ticksPerSecondRate;
+    private volatile double allocatedBytesPerTick;
+
     public OhlcvGenerator(String symbol, double basePrice, double volatility, InfluxDbService influxDbService) {
+        this(symbol, basePrice, volatility, influxDbService, 1, 1);
+    }
+
+    public OhlcvGenerator(String symbol, double basePrice, double volatility, InfluxDbService influxDbService,
+                          int ticksPerSecond, int influxWriteEvery) {
+        this(symbol, basePrice, volatility, influxDbService, ticksPerSecond, influxWriteEvery,
+                new SplittableRandom(), ScenarioProfile.NONE);
+    }
+
+    /**
+     * @param ticksPerSecond   Target tick rate (1 = classic one candle per second)
+     * @param influxWriteEvery Write every N-th tick to InfluxDB in high-rate mode (0 = never)
+     * @param random           This generator's own random stream (e.g. new SplittableRandom(seedFor(...)))
+     * @param scenario         Scenario applied on top of the random walk
+     */
+    public OhlcvGenerator(String symbol, double basePrice, double volatility, InfluxDbService influxDbService,
+                          int ticksPerSecond, int influxWriteEvery, SplittableRandom random, ScenarioProfile scenario) {
         this.symbol = symbol;
         this.basePrice = basePrice;
         this.volatility = volatility;
-        this.random = new Random();
+        this.random = random;
+        this.scenario = scenario;
         this.currentPrice = basePrice;
         this.influxDbService = influxDbService;
+        this.ticksPerSecond = Math.max(1, ticksPerSecond);
+        this.influxWriteEvery = Math.max(0, influxWriteEvery);
     }
     
     @Override
     public void run() {
         running = true;
-        log.info("OHLCV Generator started for symbol: {}", symbol);
-        
+        log.info("OHLCV Generator started for symbol: {} ({} tick(s)/sec)", symbol, ticksPerSecond);
+
+        if (ticksPerSecond > 1) {
+            runHighRate();
+        } else {
+            runOncePerSecond();
+        }
+
+        log.info("OHLCV Generator stopped for symbol: {}", symbol);
+    }
+
+    private void runOncePerSecond() {
+        TickStats stats = new TickStats();
         while (running) {
             try {
-                OhlcvCandle candle = generateCandle();
-                
+                CandleSlot slot = tick(System.currentTimeMillis() * 1_000_000L);
+                OhlcvCandle candle = slot.toCandle();
+
                 // Store the latest candle (thread-safe - volatile ensures visibility)
                 latestCandle = candle;
-                
+
                 // Write to InfluxDB
                 influxDbService.writeCandle(candle);
-                
-                // Also log to console for debugging
-                System.out.println(candle);
-                
+
+                log.debug("Generated {}", candle);
+                stats.tick();
+
                 // Sleep for 1 second
                 Thread.sleep(1000);
             } catch (InterruptedException e) {
@@ -61,27 +125,104 @@ public class OhlcvGenerator implements Runnable {
                 log.error("Error generating/writing OHLCV candle", e);
             }
         }
-        
-        log.info("OHLCV Generator stopped for symbol: {}", symbol);
     }
-    
+
+    /**
+     * High-rate loop: fills the slot in place and paces ticks with parkNanos.
+     * Timestamps follow the tick sequence, not the wall clock.
+     */
+    private void runHighRate() {
+        long intervalNanos = 1_000_000_000L / ticksPerSecond;
+        long firstTimestampNanos = (startEpochMs > 0 ? startEpochMs : System.currentTimeMillis()) * 1_000_000L;
+        long nextTick = System.nanoTime();
+        TickStats stats = new TickStats();
+        while (running) {
+            try {
+                CandleSlot slot = tick(firstTimestampNanos + tickOffsetNanos(tickCount));
+                long ticks = stats.tick();
+
+                if (influxWriteEvery > 0 && ticks % influxWriteEvery == 0) {
+                    influxDbService.writeCandle(slot.toCandle());
+                }
+
+                nextTick += intervalNanos;
+                long wait = nextTick - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else if (wait < -REPORT_INTERVAL_NANOS) {
+                    nextTick = System.nanoTime(); // far behind: don't try to catch up in a burst
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    log.warn("OHLCV Generator interrupted");
+                    break;
+                }
+            } catch (Exception e) {
+                log.error("Error generating/writing OHLCV candle", e);
+            }
+        }
+    }
+
+    /**
+     * Generates one tick into this generator's slot.
+     * Used by the own run() loop and by the GeneratorEngine, which drives many
+     * generators from shared tick workers (at most one thread per generator at a time).
+     *
+     * @param timestampNanos Candle timestamp in nanoseconds since epoch
+     * @return The slot, valid until the next tick overwrites it (read it on the ticking thread)
+     */
+    public CandleSlot tick(long timestampNanos) {
+        generateInto(slot, timestampNanos);
+        return slot;
+    }
+
+    /**
+     * Offset of a high-rate tick from the first one: tick / ticksPerSecond seconds.
+     * Split into whole seconds and a remainder so tick * 1e9 cannot overflow.
+     */
+    private long tickOffsetNanos(long tick) {
+        return (tick / ticksPerSecond) * 1_000_000_000L + (tick % ticksPerSecond) * 1_000_000_000L / ticksPerSecond;
+    }
+
     /**
-     * Generates a single OHLCV candle with realistic price movements.
+     * Generates the next OHLCV candle with realistic price movements into a slot,
+     * without allocating.
      */
-    private OhlcvCandle generateCandle() {
+    private void generateInto(CandleSlot slot, long timestampNanos) {
+        // Scenario: switch between calm and high-volatility regimes
+        if (scenario.getRegimeSwitchProbability() > 0 && random.nextDouble() < scenario.getRegimeSwitchProbability()) {
+            highVolatilityRegime = !highVolatilityRegime;
+        }
+        double tickVolatility = highVolatilityRegime ? volatility * scenario.getHighVolatilityMultiplier() : volatility;
+
         // Open price is the previous close (or current price for first candle)
         double open = currentPrice;
+
+        // Scenario: price gap between the previous close and this open
+        if (scenario.getGapProbability() > 0 && random.nextDouble() < scenario.getGapProbability()) {
+            open = Math.max(0.01, open * (1.0 + (random.nextDouble() * 2.0 - 1.0) * scenario.getGapMaxPercent() / 100.0));
+        }
         
         // Generate price change using random walk with volatility
         // Random walk: price change = volatility * random(-1 to 1)
-        double priceChange = volatility * (random.nextDouble() * 2.0 - 1.0);
+        double priceChange = tickVolatility * (random.nextDouble() * 2.0 - 1.0);
         
         // Apply some mean reversion (tendency to return to base price)
-        double meanReversion = (basePrice - currentPrice) * 0.01; // 1% pull toward base
+        // 1% pull toward base, 10% while recovering from a flash crash
+        double meanReversion = (basePrice - open) * (crashRecoveryTicksLeft > 0 ? 0.10 : 0.01);
         priceChange += meanReversion;
+        if (crashRecoveryTicksLeft > 0) {
+            crashRecoveryTicksLeft--;
+        }
+
+        // Scenario: flash crash
+        if (scenario.getFlashCrashProbability() > 0 && crashRecoveryTicksLeft == 0
+                && random.nextDouble() < scenario.getFlashCrashProbability()) {
+            priceChange -= open * scenario.getFlashCrashPercent() / 100.0;
+            crashRecoveryTicksLeft = scenario.getFlashCrashRecoveryTicks();
+        }
         
         // Calculate close price
-        double close = currentPrice + priceChange;
+        double close = open + priceChange;
         
         // Ensure price doesn't go negative
         if (close < 0.01) {
@@ -90,7 +231,7 @@ public class OhlcvGenerator implements Runnable {
         
         // Generate high and low within the candle
         // High is between open and close (or above if there's volatility)
-        double candleRange = Math.abs(close - open) + (volatility * random.nextDouble() * 0.5);
+        double candleRange = Math.abs(close - open) + (tickVolatility * random.nextDouble() * 0.5);
         double high = Math.max(open, close) + (candleRange * random.nextDouble() * 0.3);
         double low = Math.min(open, close) - (candleRange * random.nextDouble() * 0.3);
         
@@ -107,13 +248,59 @@ public class OhlcvGenerator implements Runnable {
         
         // Generate volume (random between 1000 and 100000)
         double volume = 1000.0 + (random.nextDouble() * 99000.0);
+
+        // Scenario: volume burst
+        if (scenario.getBurstProbability() > 0 && random.nextDouble() < scenario.getBurstProbability()) {
+            volume *= scenario.getBurstVolumeMultiplier();
+        }
         
         // Update current price for next candle
         currentPrice = close;
         
-        return new OhlcvCandle(symbol, open, high, low, close, volume);
+        slot.set(symbol, open, high, low, close, volume, timestampNanos);
     }
     
+    /**
+     * Derives a symbol's seed from a run seed. Depends only on the run seed and the
+     * symbol, so a symbol's stream does not change when the universe changes.
+     *
+     * The symbol's UTF-8 bytes are hashed to 64 bits (MurmurHash64A-style mixing,
+     * seeded with the run seed) rather than using String.hashCode(), whose 32-bit
+     * collisions (e.g. "Aa" and "BB") would give two symbols the same stream.
+     *
+     * @param runSeed The seed of the whole run
+     * @param symbol  The trading symbol
+     * @return The symbol's seed
+     */
+    public static long seedFor(long runSeed, String symbol) {
+        byte[] bytes = symbol.getBytes(StandardCharsets.UTF_8);
+        long h = runSeed ^ (bytes.length * SEED_MULTIPLIER);
+        for (int i = 0; i < bytes.length; i += 8) {
+            // Up to 8 bytes, little-endian
+            long k = 0;
+            for (int j = Math.min(i + 8, bytes.length) - 1; j >= i; j--) {
+                k = (k << 8) | (bytes[j] & 0xFF);
+            }
+            k *= SEED_MULTIPLIER;
+            k ^= k >>> 47;
+            k *= SEED_MULTIPLIER;
+            h ^= k;
+            h *= SEED_MULTIPLIER;
+        }
+        h ^= h >>> 47;
+        h *= SEED_MULTIPLIER;
+        return h ^ (h >>> 47);
+    }
+
+    /**
+     * Sets the timestamp of the first high-rate tick (e.g. a simulated clock start).
+     *
+     * @param startEpochMs Epoch ms of tick 0, or 0 for the wall clock when run() starts
+     */
+    public void setStartEpochMs(long startEpochMs) {
+        this.startEpochMs = startEpochMs;
+    }
+
     public void stop() {
         running = false;
     }
@@ -132,6 +319,27 @@ public class OhlcvGenerator implements Runnable {
         return latestCandle;
     }
     
+    /**
+     * @return Total number of ticks generated so far
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * @return Ticks per second measured over the last report interval
+     */
+    public double getTicksPerSecondRate() {
+        return ticksPerSecondRate;
+    }
+
+    /**
+     * @return Heap bytes allocated per tick over the last report interval (-1 if unsupported)
+     */
+    public double getAllocatedBytesPerTick() {
+        return allocatedBytesPerTick;
+    }
+
     /**
      * Gets the symbol this generator is producing candles for.
      * 
@@ -140,5 +348,45 @@ public class OhlcvGenerator implements Runnable {
     public String getSymbol() {
         return symbol;
     }
-}
 
+    /**
+     * Counts ticks on the generator thread and reports rate and allocation
+     * every REPORT_INTERVAL_NANOS (a cheap clock check per tick, no formatting).
+     */
+    private final class TickStats {
+        private final com.sun.management.ThreadMXBean threadMXBean = allocationBean();
+        private long windowStart = System.nanoTime();
+        private long windowTicks;
+        private long windowAllocated = allocatedBytes();
+
+        long tick() {
+            long ticks = tickCount + 1;
+            tickCount = ticks;
+            windowTicks++;
+            long now = System.nanoTime();
+            if (now - windowStart >= REPORT_INTERVAL_NANOS) {
+                long allocated = allocatedBytes();
+                ticksPerSecondRate = windowTicks * 1e9 / (now - windowStart);
+                allocatedBytesPerTick = threadMXBean != null ? (double) (allocated - windowAllocated) / windowTicks : -1;
+                log.info("OHLCV Generator {}: {} ticks/sec, {} bytes allocated/tick",
+                        symbol, Math.round(ticksPerSecondRate), Math.round(allocatedBytesPerTick));
+                windowStart = now;
+                windowTicks = 0;
+                windowAllocated = allocatedBytes();
+            }
+            return ticks;
+        }
+
+        private long allocatedBytes() {
+            return threadMXBean != null ? threadMXBean.getCurrentThreadAllocatedBytes() : 0L;
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            return bean;
+        }
+        return null;
+    }
+}
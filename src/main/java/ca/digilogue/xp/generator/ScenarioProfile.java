@@ -0,0 +1,118 @@
+package ca.digilogue.xp.generator;
+
+import java.util.Locale;
+
+/**
+ * Market scenario applied by an OhlcvGenerator on top of its random walk.
+ * All events are drawn from the generator's own seeded random stream, so the
+ * same seed and profile always produce the same candles.
+ *
+ * <ul>
+ *   <li>Volatility regimes: each tick the generator switches between a calm and a
+ *       high-volatility regime with regimeSwitchProbability; the high regime
+ *       multiplies volatility by highVolatilityMultiplier.</li>
+ *   <li>Bursts: with burstProbability the tick's volume is multiplied by burstVolumeMultiplier.</li>
+ *   <li>Gaps: with gapProbability the candle opens up to gapMaxPercent away from the previous close.</li>
+ *   <li>Flash crashes: with flashCrashProbability the price drops by flashCrashPercent,
+ *       then reverts to the base price with a stronger pull for flashCrashRecoveryTicks ticks.</li>
+ * </ul>
+ */
+public final class ScenarioProfile {
+
+    public static final ScenarioProfile NONE = new ScenarioProfile("none", 0, 1, 0, 1, 0, 0, 0, 0, 0);
+
+    private final String name;
+    private final double regimeSwitchProbability;
+    private final double highVolatilityMultiplier;
+    private final double burstProbability;
+    private final double burstVolumeMultiplier;
+    private final double gapProbability;
+    private final double gapMaxPercent;
+    private final double flashCrashProbability;
+    private final double flashCrashPercent;
+    private final int flashCrashRecoveryTicks;
+
+    public ScenarioProfile(String name,
+                           double regimeSwitchProbability, double highVolatilityMultiplier,
+                           double burstProbability, double burstVolumeMultiplier,
+                           double gapProbability, double gapMaxPercent,
+                           double flashCrashProbability, double flashCrashPercent, int flashCrashRecoveryTicks) {
+        this.name = name;
+        this.regimeSwitchProbability = regimeSwitchProbability;
+        this.highVolatilityMultiplier = highVolatilityMultiplier;
+        this.burstProbability = burstProbability;
+        this.burstVolumeMultiplier = burstVolumeMultiplier;
+        this.gapProbability = gapProbability;
+        this.gapMaxPercent = gapMaxPercent;
+        this.flashCrashProbability = flashCrashProbability;
+        this.flashCrashPercent = flashCrashPercent;
+        this.flashCrashRecoveryTicks = flashCrashRecoveryTicks;
+    }
+
+    /**
+     * Returns a predefined profile: none, calm, volatile, bursty, gappy or flash-crash.
+     *
+     * @param name The profile name (case-insensitive)
+     * @return The profile
+     * @throws IllegalArgumentException If the name is unknown
+     */
+    public static ScenarioProfile preset(String name) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "none" -> NONE;
+            case "calm" -> new ScenarioProfile("calm", 0.001, 0.5, 0, 1, 0, 0, 0, 0, 0);
+            case "volatile" -> new ScenarioProfile("volatile", 0.02, 4.0, 0.01, 5.0, 0.002, 1.0, 0, 0, 0);
+            case "bursty" -> new ScenarioProfile("bursty", 0, 1, 0.05, 20.0, 0, 0, 0, 0, 0);
+            case "gappy" -> new ScenarioProfile("gappy", 0, 1, 0, 1, 0.02, 3.0, 0, 0, 0);
+            case "flash-crash" -> new ScenarioProfile("flash-crash", 0.01, 3.0, 0.01, 10.0, 0, 0, 0.0005, 15.0, 60);
+            default -> throw new IllegalArgumentException("Unknown generator scenario: " + name);
+        };
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getRegimeSwitchProbability() {
+        return regimeSwitchProbability;
+    }
+
+    public double getHighVolatilityMultiplier() {
+        return highVolatilityMultiplier;
+    }
+
+    public double getBurstProbability() {
+        return burstProbability;
+    }
+
+    public double getBurstVolumeMultiplier() {
+        return burstVolumeMultiplier;
+    }
+
+    public double getGapProbability() {
+        return gapProbability;
+    }
+
+    public double getGapMaxPercent() {
+        return gapMaxPercent;
+    }
+
+    public double getFlashCrashProbability() {
+        return flashCrashProbability;
+    }
+
+    public double getFlashCrashPercent() {
+        return flashCrashPercent;
+    }
+
+    public int getFlashCrashRecoveryTicks() {
+        return flashCrashRecoveryTicks;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+            "ScenarioProfile{name='%s', regimeSwitch=%s x%s, burst=%s x%s, gap=%s %s%%, flashCrash=%s %s%% over %d ticks}",
+            name, regimeSwitchProbability, highVolatilityMultiplier, burstProbability, burstVolumeMultiplier,
+            gapProbability, gapMaxPercent, flashCrashProbability, flashCrashPercent, flashCrashRecoveryTicks);
+    }
+}
@@ -51,6 +51,37 @@ public final class OhlcvServiceGrpc {
     return getGetLatestCandleMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest,
+      ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse> getGetLatestCandlesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetLatestCandles",
+      requestType = ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest.class,
+      responseType = ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest,
+      ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse> getGetLatestCandlesMethod() {
+    io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest, ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse> getGetLatestCandlesMethod;
+    if ((getGetLatestCandlesMethod = OhlcvServiceGrpc.getGetLatestCandlesMethod) == null) {
+      synchronized (OhlcvServiceGrpc.class) {
+        if ((getGetLatestCandlesMethod = OhlcvServiceGrpc.getGetLatestCandlesMethod) == null) {
+          OhlcvServiceGrpc.getGetLatestCandlesMethod = getGetLatestCandlesMethod =
+              io.grpc.MethodDescriptor.<ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest, ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetLatestCandles"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new OhlcvServiceMethodDescriptorSupplier("GetLatestCandles"))
+              .build();
+        }
+      }
+    }
+    return getGetLatestCandlesMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest,
       ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse> getStreamAllLiveCandlesMethod;
 
@@ -82,6 +113,161 @@ public final class OhlcvServiceGrpc {
     return getStreamAllLiveCandlesMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest,
+      ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse> getStreamCandleDeltasMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "StreamCandleDeltas",
+      requestType = ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest.class,
+      responseType = ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest,
+      ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse> getStreamCandleDeltasMethod() {
+    io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest, ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse> getStreamCandleDeltasMethod;
+    if ((getStreamCandleDeltasMethod = OhlcvServiceGrpc.getStreamCandleDeltasMethod) == null) {
+      synchronized (OhlcvServiceGrpc.class) {
+        if ((getStreamCandleDeltasMethod = OhlcvServiceGrpc.getStreamCandleDeltasMethod) == null) {
+          OhlcvServiceGrpc.getStreamCandleDeltasMethod = getStreamCandleDeltasMethod =
+              io.grpc.MethodDescriptor.<ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest, ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "StreamCandleDeltas"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new OhlcvServiceMethodDescriptorSupplier("StreamCandleDeltas"))
+              .build();
+        }
+      }
+    }
+    return getStreamCandleDeltasMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest,
+      ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse> getSubscribeCandlesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "SubscribeCandles",
+      requestType = ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest.class,
+      responseType = ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest,
+      ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse> getSubscribeCandlesMethod() {
+    io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest, ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse> getSubscribeCandlesMethod;
+    if ((getSubscribeCandlesMethod = OhlcvServiceGrpc.getSubscribeCandlesMethod) == null) {
+      synchronized (OhlcvServiceGrpc.class) {
+        if ((getSubscribeCandlesMethod = OhlcvServiceGrpc.getSubscribeCandlesMethod) == null) {
+          OhlcvServiceGrpc.getSubscribeCandlesMethod = getSubscribeCandlesMethod =
+              io.grpc.MethodDescriptor.<ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest, ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "SubscribeCandles"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new OhlcvServiceMethodDescriptorSupplier("SubscribeCandles"))
+              .build();
+        }
+      }
+    }
+    return getSubscribeCandlesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest,
+      ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse> getManageCandleSubscriptionMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ManageCandleSubscription",
+      requestType = ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.class,
+      responseType = ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest,
+      ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse> getManageCandleSubscriptionMethod() {
+    io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest, ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse> getManageCandleSubscriptionMethod;
+    if ((getManageCandleSubscriptionMethod = OhlcvServiceGrpc.getManageCandleSubscriptionMethod) == null) {
+      synchronized (OhlcvServiceGrpc.class) {
+        if ((getManageCandleSubscriptionMethod = OhlcvServiceGrpc.getManageCandleSubscriptionMethod) == null) {
+          OhlcvServiceGrpc.getManageCandleSubscriptionMethod = getManageCandleSubscriptionMethod =
+              io.grpc.MethodDescriptor.<ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest, ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ManageCandleSubscription"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new OhlcvServiceMethodDescriptorSupplier("ManageCandleSubscription"))
+              .build();
+        }
+      }
+    }
+    return getManageCandleSubscriptionMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest,
+      ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage> getGetCandleHistoryMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetCandleHistory",
+      requestType = ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest.class,
+      responseType = ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest,
+      ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage> getGetCandleHistoryMethod() {
+    io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest, ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage> getGetCandleHistoryMethod;
+    if ((getGetCandleHistoryMethod = OhlcvServiceGrpc.getGetCandleHistoryMethod) == null) {
+      synchronized (OhlcvServiceGrpc.class) {
+        if ((getGetCandleHistoryMethod = OhlcvServiceGrpc.getGetCandleHistoryMethod) == null) {
+          OhlcvServiceGrpc.getGetCandleHistoryMethod = getGetCandleHistoryMethod =
+              io.grpc.MethodDescriptor.<ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest, ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetCandleHistory"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage.getDefaultInstance()))
+              .setSchemaDescriptor(new OhlcvServiceMethodDescriptorSupplier("GetCandleHistory"))
+              .build();
+        }
+      }
+    }
+    return getGetCandleHistoryMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest,
+      ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse> getGetRecentCandlesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetRecentCandles",
+      requestType = ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest.class,
+      responseType = ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest,
+      ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse> getGetRecentCandlesMethod() {
+    io.grpc.MethodDescriptor<ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest, ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse> getGetRecentCandlesMethod;
+    if ((getGetRecentCandlesMethod = OhlcvServiceGrpc.getGetRecentCandlesMethod) == null) {
+      synchronized (OhlcvServiceGrpc.class) {
+        if ((getGetRecentCandlesMethod = OhlcvServiceGrpc.getGetRecentCandlesMethod) == null) {
+          OhlcvServiceGrpc.getGetRecentCandlesMethod = getGetRecentCandlesMethod =
+              io.grpc.MethodDescriptor.<ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest, ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetRecentCandles"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new OhlcvServiceMethodDescriptorSupplier("GetRecentCandles"))
+              .build();
+        }
+      }
+    }
+    return getGetRecentCandlesMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -149,11 +335,27 @@ public final class OhlcvServiceGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetLatestCandleMethod(), responseObserver);
     }
 
+    /**
+     * <pre>
+     **
+     * Gets the latest OHLCV candles for several symbols in one call.
+     * All returned candles come from the same snapshot (the same Kafka message).
+     * 
+     * &#64;param request Contains the trading symbols to look up
+     * &#64;return The candles found, the symbols not found, and the snapshot sequence
+     * </pre>
+     */
+    default void getLatestCandles(ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest request,
+        io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetLatestCandlesMethod(), responseObserver);
+    }
+
     /**
      * <pre>
      **
      * Streams all live OHLCV candles from all active generators in real-time.
-     * Sends a collection of all current candles every second.
+     * Sends the current collection on connect, then a new collection every time
+     * an update is consumed from Kafka.
      * 
      * &#64;param request Empty request (no parameters needed)
      * &#64;return Stream of AllCandlesResponse containing all current candles
@@ -163,6 +365,90 @@ public final class OhlcvServiceGrpc {
         io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse> responseObserver) {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getStreamAllLiveCandlesMethod(), responseObserver);
     }
+
+    /**
+     * <pre>
+     **
+     * Streams candle changes instead of the whole collection.
+     * The first frame is a full snapshot; every following frame only carries the
+     * symbols whose candle changed (or was removed) since the previous frame.
+     * If a client sees previous_sequence differ from the last sequence it applied,
+     * it has missed an update and should re-open the stream to resync.
+     * 
+     * &#64;param request Empty request (no parameters needed)
+     * &#64;return Stream of CandleDeltaResponse frames
+     * </pre>
+     */
+    default void streamCandleDeltas(ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest request,
+        io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getStreamCandleDeltasMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     **
+     * Streams live candles for a subset of symbols only.
+     * The first frame contains the current candle of every matching symbol;
+     * following frames contain only matching symbols whose candle changed, and
+     * list matching symbols that were removed in removed_symbols.
+     * 
+     * &#64;param request Symbols and/or glob patterns to subscribe to
+     * &#64;return Stream of AllCandlesResponse containing matching candles
+     * </pre>
+     */
+    default void subscribeCandles(ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest request,
+        io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSubscribeCandlesMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     **
+     * Streams live candles for an interest set the client changes on the fly.
+     * The client sends SUBSCRIBE/UNSUBSCRIBE control messages on the same stream;
+     * newly subscribed symbols are sent with their current candle, and afterwards
+     * only subscribed symbols whose candle changed are sent (removed ones in removed_symbols).
+     * 
+     * &#64;param request Stream of subscription control messages
+     * &#64;return Stream of AllCandlesResponse containing subscribed candles
+     * </pre>
+     */
+    default io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest> manageCandleSubscription(
+        io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getManageCandleSubscriptionMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     **
+     * Gets stored candles of one symbol over a time range from InfluxDB.
+     * With an interval, candles are aggregated into windows of that size by the
+     * database (open = first, high = max, low = min, close = last, volume = sum),
+     * each stamped with its window start. Results are streamed in pages, oldest first.
+     * 
+     * &#64;param request Symbol, time range, interval and page size
+     * &#64;return Stream of CandleHistoryPage; the last one has last_page set
+     * </pre>
+     */
+    default void getCandleHistory(ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest request,
+        io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetCandleHistoryMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     **
+     * Gets the most recent candles of one symbol from the in-memory rolling history
+     * (no database round trip). Only available when the history is enabled.
+     * 
+     * &#64;param request Symbol and number of candles
+     * &#64;return Up to count of the newest candles, oldest first
+     * </pre>
+     */
+    default void getRecentCandles(ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest request,
+        io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetRecentCandlesMethod(), responseObserver);
+    }
   }
 
   /**
@@ -217,11 +503,28 @@ public final class OhlcvServiceGrpc {
           getChannel().newCall(getGetLatestCandleMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     * <pre>
+     **
+     * Gets the latest OHLCV candles for several symbols in one call.
+     * All returned candles come from the same snapshot (the same Kafka message).
+     * 
+     * &#64;param request Contains the trading symbols to look up
+     * &#64;return The candles found, the symbols not found, and the snapshot sequence
+     * </pre>
+     */
+    public void getLatestCandles(ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest request,
+        io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetLatestCandlesMethod(), getCallOptions()), request, responseObserver);
+    }
+
     /**
      * <pre>
      **
      * Streams all live OHLCV candles from all active generators in real-time.
-     * Sends a collection of all current candles every second.
+     * Sends the current collection on connect, then a new collection every time
+     * an update is consumed from Kafka.
      * 
      * &#64;param request Empty request (no parameters needed)
      * &#64;return Stream of AllCandlesResponse containing all current candles
@@ -232,6 +535,95 @@ public final class OhlcvServiceGrpc {
       io.grpc.stub.ClientCalls.asyncServerStreamingCall(
           getChannel().newCall(getStreamAllLiveCandlesMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     * <pre>
+     **
+     * Streams candle changes instead of the whole collection.
+     * The first frame is a full snapshot; every following frame only carries the
+     * symbols whose candle changed (or was removed) since the previous frame.
+     * If a client sees previous_sequence differ from the last sequence it applied,
+     * it has missed an update and should re-open the stream to resync.
+     * 
+     * &#64;param request Empty request (no parameters needed)
+     * &#64;return Stream of CandleDeltaResponse frames
+     * </pre>
+     */
+    public void streamCandleDeltas(ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest request,
+        io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getStreamCandleDeltasMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     **
+     * Streams live candles for a subset of symbols only.
+     * The first frame contains the current candle of every matching symbol;
+     * following frames contain only matching symbols whose candle changed, and
+     * list matching symbols that were removed in removed_symbols.
+     * 
+     * &#64;param request Symbols and/or glob patterns to subscribe to
+     * &#64;return Stream of AllCandlesResponse containing matching candles
+     * </pre>
+     */
+    public void subscribeCandles(ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest request,
+        io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getSubscribeCandlesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     **
+     * Streams live candles for an interest set the client changes on the fly.
+     * The client sends SUBSCRIBE/UNSUBSCRIBE control messages on the same stream;
+     * newly subscribed symbols are sent with their current candle, and afterwards
+     * only subscribed symbols whose candle changed are sent (removed ones in removed_symbols).
+     * 
+     * &#64;param request Stream of subscription control messages
+     * &#64;return Stream of AllCandlesResponse containing subscribed candles
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest> manageCandleSubscription(
+        io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncBidiStreamingCall(
+          getChannel().newCall(getManageCandleSubscriptionMethod(), getCallOptions()), responseObserver);
+    }
+
+    /**
+     * <pre>
+     **
+     * Gets stored candles of one symbol over a time range from InfluxDB.
+     * With an interval, candles are aggregated into windows of that size by the
+     * database (open = first, high = max, low = min, close = last, volume = sum),
+     * each stamped with its window start. Results are streamed in pages, oldest first.
+     * 
+     * &#64;param request Symbol, time range, interval and page size
+     * &#64;return Stream of CandleHistoryPage; the last one has last_page set
+     * </pre>
+     */
+    public void getCandleHistory(ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest request,
+        io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetCandleHistoryMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     **
+     * Gets the most recent candles of one symbol from the in-memory rolling history
+     * (no database round trip). Only available when the history is enabled.
+     * 
+     * &#64;param request Symbol and number of candles
+     * &#64;return Up to count of the newest candles, oldest first
+     * </pre>
+     */
+    public void getRecentCandles(ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest request,
+        io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetRecentCandlesMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -269,11 +661,27 @@ public final class OhlcvServiceGrpc {
           getChannel(), getGetLatestCandleMethod(), getCallOptions(), request);
     }
 
+    /**
+     * <pre>
+     **
+     * Gets the latest OHLCV candles for several symbols in one call.
+     * All returned candles come from the same snapshot (the same Kafka message).
+     * 
+     * &#64;param request Contains the trading symbols to look up
+     * &#64;return The candles found, the symbols not found, and the snapshot sequence
+     * </pre>
+     */
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse getLatestCandles(ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetLatestCandlesMethod(), getCallOptions(), request);
+    }
+
     /**
      * <pre>
      **
      * Streams all live OHLCV candles from all active generators in real-time.
-     * Sends a collection of all current candles every second.
+     * Sends the current collection on connect, then a new collection every time
+     * an update is consumed from Kafka.
      * 
      * &#64;param request Empty request (no parameters needed)
      * &#64;return Stream of AllCandlesResponse containing all current candles
@@ -284,6 +692,76 @@ public final class OhlcvServiceGrpc {
       return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
           getChannel(), getStreamAllLiveCandlesMethod(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     **
+     * Streams candle changes instead of the whole collection.
+     * The first frame is a full snapshot; every following frame only carries the
+     * symbols whose candle changed (or was removed) since the previous frame.
+     * If a client sees previous_sequence differ from the last sequence it applied,
+     * it has missed an update and should re-open the stream to resync.
+     * 
+     * &#64;param request Empty request (no parameters needed)
+     * &#64;return Stream of CandleDeltaResponse frames
+     * </pre>
+     */
+    public java.util.Iterator<ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse> streamCandleDeltas(
+        ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getStreamCandleDeltasMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     **
+     * Streams live candles for a subset of symbols only.
+     * The first frame contains the current candle of every matching symbol;
+     * following frames contain only matching symbols whose candle changed, and
+     * list matching symbols that were removed in removed_symbols.
+     * 
+     * &#64;param request Symbols and/or glob patterns to subscribe to
+     * &#64;return Stream of AllCandlesResponse containing matching candles
+     * </pre>
+     */
+    public java.util.Iterator<ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse> subscribeCandles(
+        ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getSubscribeCandlesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     **
+     * Gets stored candles of one symbol over a time range from InfluxDB.
+     * With an interval, candles are aggregated into windows of that size by the
+     * database (open = first, high = max, low = min, close = last, volume = sum),
+     * each stamped with its window start. Results are streamed in pages, oldest first.
+     * 
+     * &#64;param request Symbol, time range, interval and page size
+     * &#64;return Stream of CandleHistoryPage; the last one has last_page set
+     * </pre>
+     */
+    public java.util.Iterator<ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage> getCandleHistory(
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetCandleHistoryMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     **
+     * Gets the most recent candles of one symbol from the in-memory rolling history
+     * (no database round trip). Only available when the history is enabled.
+     * 
+     * &#64;param request Symbol and number of candles
+     * &#64;return Up to count of the newest candles, oldest first
+     * </pre>
+     */
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse getRecentCandles(ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetRecentCandlesMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -321,10 +799,48 @@ public final class OhlcvServiceGrpc {
       return io.grpc.stub.ClientCalls.futureUnaryCall(
           getChannel().newCall(getGetLatestCandleMethod(), getCallOptions()), request);
     }
+
+    /**
+     * <pre>
+     **
+     * Gets the latest OHLCV candles for several symbols in one call.
+     * All returned candles come from the same snapshot (the same Kafka message).
+     * 
+     * &#64;param request Contains the trading symbols to look up
+     * &#64;return The candles found, the symbols not found, and the snapshot sequence
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse> getLatestCandles(
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetLatestCandlesMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     **
+     * Gets the most recent candles of one symbol from the in-memory rolling history
+     * (no database round trip). Only available when the history is enabled.
+     * 
+     * &#64;param request Symbol and number of candles
+     * &#64;return Up to count of the newest candles, oldest first
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse> getRecentCandles(
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetRecentCandlesMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_GET_LATEST_CANDLE = 0;
-  private static final int METHODID_STREAM_ALL_LIVE_CANDLES = 1;
+  private static final int METHODID_GET_LATEST_CANDLES = 1;
+  private static final int METHODID_STREAM_ALL_LIVE_CANDLES = 2;
+  private static final int METHODID_STREAM_CANDLE_DELTAS = 3;
+  private static final int METHODID_SUBSCRIBE_CANDLES = 4;
+  private static final int METHODID_GET_CANDLE_HISTORY = 5;
+  private static final int METHODID_GET_RECENT_CANDLES = 6;
+  private static final int METHODID_MANAGE_CANDLE_SUBSCRIPTION = 7;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -347,10 +863,30 @@ public final class OhlcvServiceGrpc {
           serviceImpl.getLatestCandle((ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandleRequest) request,
               (io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse>) responseObserver);
           break;
+        case METHODID_GET_LATEST_CANDLES:
+          serviceImpl.getLatestCandles((ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest) request,
+              (io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse>) responseObserver);
+          break;
         case METHODID_STREAM_ALL_LIVE_CANDLES:
           serviceImpl.streamAllLiveCandles((ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest) request,
               (io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse>) responseObserver);
           break;
+        case METHODID_STREAM_CANDLE_DELTAS:
+          serviceImpl.streamCandleDeltas((ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest) request,
+              (io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse>) responseObserver);
+          break;
+        case METHODID_SUBSCRIBE_CANDLES:
+          serviceImpl.subscribeCandles((ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest) request,
+              (io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse>) responseObserver);
+          break;
+        case METHODID_GET_CANDLE_HISTORY:
+          serviceImpl.getCandleHistory((ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest) request,
+              (io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage>) responseObserver);
+          break;
+        case METHODID_GET_RECENT_CANDLES:
+          serviceImpl.getRecentCandles((ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest) request,
+              (io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -361,6 +897,9 @@ public final class OhlcvServiceGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_MANAGE_CANDLE_SUBSCRIPTION:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.manageCandleSubscription(
+              (io.grpc.stub.StreamObserver<ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -376,6 +915,13 @@ public final class OhlcvServiceGrpc {
               ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandleRequest,
               ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse>(
                 service, METHODID_GET_LATEST_CANDLE)))
+        .addMethod(
+          getGetLatestCandlesMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest,
+              ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse>(
+                service, METHODID_GET_LATEST_CANDLES)))
         .addMethod(
           getStreamAllLiveCandlesMethod(),
           io.grpc.stub.ServerCalls.asyncServerStreamingCall(
@@ -383,6 +929,41 @@ public final class OhlcvServiceGrpc {
               ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest,
               ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse>(
                 service, METHODID_STREAM_ALL_LIVE_CANDLES)))
+        .addMethod(
+          getStreamCandleDeltasMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest,
+              ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse>(
+                service, METHODID_STREAM_CANDLE_DELTAS)))
+        .addMethod(
+          getSubscribeCandlesMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest,
+              ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse>(
+                service, METHODID_SUBSCRIBE_CANDLES)))
+        .addMethod(
+          getManageCandleSubscriptionMethod(),
+          io.grpc.stub.ServerCalls.asyncBidiStreamingCall(
+            new MethodHandlers<
+              ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest,
+              ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse>(
+                service, METHODID_MANAGE_CANDLE_SUBSCRIPTION)))
+        .addMethod(
+          getGetCandleHistoryMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest,
+              ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage>(
+                service, METHODID_GET_CANDLE_HISTORY)))
+        .addMethod(
+          getGetRecentCandlesMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest,
+              ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse>(
+                service, METHODID_GET_RECENT_CANDLES)))
         .build();
   }
 
@@ -432,7 +1013,13 @@ public final class OhlcvServiceGrpc {
           serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
               .setSchemaDescriptor(new OhlcvServiceFileDescriptorSupplier())
               .addMethod(getGetLatestCandleMethod())
+              .addMethod(getGetLatestCandlesMethod())
               .addMethod(getStreamAllLiveCandlesMethod())
+              .addMethod(getStreamCandleDeltasMethod())
+              .addMethod(getSubscribeCandlesMethod())
+              .addMethod(getManageCandleSubscriptionMethod())
+              .addMethod(getGetCandleHistoryMethod())
+              .addMethod(getGetRecentCandlesMethod())
               .build();
         }
       }
@@ -613,266 +613,9959 @@ public final class OhlcvServiceProto {
 
   }
 
-  public interface OhlcvCandleResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.OhlcvCandleResponse)
+  public interface GetLatestCandlesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.GetLatestCandlesRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <pre>
-     * Trading symbol
+     * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
      * </pre>
      *
-     * <code>string symbol = 1;</code>
-     * @return The symbol.
+     * <code>repeated string symbols = 1;</code>
+     * @return A list containing the symbols.
      */
-    java.lang.String getSymbol();
+    java.util.List<java.lang.String>
+        getSymbolsList();
     /**
      * <pre>
-     * Trading symbol
+     * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
      * </pre>
      *
-     * <code>string symbol = 1;</code>
-     * @return The bytes for symbol.
+     * <code>repeated string symbols = 1;</code>
+     * @return The count of symbols.
+     */
+    int getSymbolsCount();
+    /**
+     * <pre>
+     * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 1;</code>
+     * @param index The index of the element to return.
+     * @return The symbols at the given index.
+     */
+    java.lang.String getSymbols(int index);
+    /**
+     * <pre>
+     * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the symbols at the given index.
      */
     com.google.protobuf.ByteString
-        getSymbolBytes();
+        getSymbolsBytes(int index);
+  }
+  /**
+   * <pre>
+   **
+   * Request message for getting the latest candles of several symbols.
+   * </pre>
+   *
+   * Protobuf type {@code ca.digilogue.xp.grpc.GetLatestCandlesRequest}
+   */
+  public static final class GetLatestCandlesRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.GetLatestCandlesRequest)
+      GetLatestCandlesRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetLatestCandlesRequest.newBuilder() to construct.
+    private GetLatestCandlesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetLatestCandlesRequest() {
+      symbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
 
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetLatestCandlesRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetLatestCandlesRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetLatestCandlesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest.Builder.class);
+    }
+
+    public static final int SYMBOLS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList symbols_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
     /**
      * <pre>
-     * Opening price
+     * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
      * </pre>
      *
-     * <code>double open = 2;</code>
-     * @return The open.
+     * <code>repeated string symbols = 1;</code>
+     * @return A list containing the symbols.
      */
-    double getOpen();
+    public com.google.protobuf.ProtocolStringList
+        getSymbolsList() {
+      return symbols_;
+    }
+    /**
+     * <pre>
+     * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 1;</code>
+     * @return The count of symbols.
+     */
+    public int getSymbolsCount() {
+      return symbols_.size();
+    }
+    /**
+     * <pre>
+     * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 1;</code>
+     * @param index The index of the element to return.
+     * @return The symbols at the given index.
+     */
+    public java.lang.String getSymbols(int index) {
+      return symbols_.get(index);
+    }
+    /**
+     * <pre>
+     * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the symbols at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getSymbolsBytes(int index) {
+      return symbols_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < symbols_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, symbols_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < symbols_.size(); i++) {
+          dataSize += computeStringSizeNoTag(symbols_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getSymbolsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest)) {
+        return super.equals(obj);
+      }
+      ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest other = (ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest) obj;
+
+      if (!getSymbolsList()
+          .equals(other.getSymbolsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getSymbolsCount() > 0) {
+        hash = (37 * hash) + SYMBOLS_FIELD_NUMBER;
+        hash = (53 * hash) + getSymbolsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     * Request message for getting the latest candles of several symbols.
+     * </pre>
+     *
+     * Protobuf type {@code ca.digilogue.xp.grpc.GetLatestCandlesRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.GetLatestCandlesRequest)
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetLatestCandlesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetLatestCandlesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest.Builder.class);
+      }
+
+      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        symbols_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetLatestCandlesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest getDefaultInstanceForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest.getDefaultInstance();
+      }
 
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest build() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest buildPartial() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest result = new ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          symbols_.makeImmutable();
+          result.symbols_ = symbols_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest) {
+          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest other) {
+        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest.getDefaultInstance()) return this;
+        if (!other.symbols_.isEmpty()) {
+          if (symbols_.isEmpty()) {
+            symbols_ = other.symbols_;
+            bitField0_ |= 0x00000001;
+          } else {
+            ensureSymbolsIsMutable();
+            symbols_.addAll(other.symbols_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureSymbolsIsMutable();
+                symbols_.add(s);
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringArrayList symbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureSymbolsIsMutable() {
+        if (!symbols_.isModifiable()) {
+          symbols_ = new com.google.protobuf.LazyStringArrayList(symbols_);
+        }
+        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <pre>
+       * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @return A list containing the symbols.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getSymbolsList() {
+        symbols_.makeImmutable();
+        return symbols_;
+      }
+      /**
+       * <pre>
+       * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @return The count of symbols.
+       */
+      public int getSymbolsCount() {
+        return symbols_.size();
+      }
+      /**
+       * <pre>
+       * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @param index The index of the element to return.
+       * @return The symbols at the given index.
+       */
+      public java.lang.String getSymbols(int index) {
+        return symbols_.get(index);
+      }
+      /**
+       * <pre>
+       * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the symbols at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getSymbolsBytes(int index) {
+        return symbols_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The symbols to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSymbols(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureSymbolsIsMutable();
+        symbols_.set(index, value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @param value The symbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSymbols(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureSymbolsIsMutable();
+        symbols_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @param values The symbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllSymbols(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureSymbolsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, symbols_);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSymbols() {
+        symbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Trading symbols (e.g., "MEGA-USD", "HELIO-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @param value The bytes of the symbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSymbolsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureSymbolsIsMutable();
+        symbols_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.GetLatestCandlesRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.GetLatestCandlesRequest)
+    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest();
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetLatestCandlesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetLatestCandlesRequest>() {
+      @java.lang.Override
+      public GetLatestCandlesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetLatestCandlesRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetLatestCandlesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetLatestCandlesResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.GetLatestCandlesResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Candles found, in request order
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> 
+        getCandlesList();
+    /**
+     * <pre>
+     * Candles found, in request order
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getCandles(int index);
+    /**
+     * <pre>
+     * Candles found, in request order
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    int getCandlesCount();
+    /**
+     * <pre>
+     * Candles found, in request order
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    java.util.List<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+        getCandlesOrBuilderList();
+    /**
+     * <pre>
+     * Candles found, in request order
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder getCandlesOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * Requested symbols with no candle data
+     * </pre>
+     *
+     * <code>repeated string missing_symbols = 2;</code>
+     * @return A list containing the missingSymbols.
+     */
+    java.util.List<java.lang.String>
+        getMissingSymbolsList();
+    /**
+     * <pre>
+     * Requested symbols with no candle data
+     * </pre>
+     *
+     * <code>repeated string missing_symbols = 2;</code>
+     * @return The count of missingSymbols.
+     */
+    int getMissingSymbolsCount();
+    /**
+     * <pre>
+     * Requested symbols with no candle data
+     * </pre>
+     *
+     * <code>repeated string missing_symbols = 2;</code>
+     * @param index The index of the element to return.
+     * @return The missingSymbols at the given index.
+     */
+    java.lang.String getMissingSymbols(int index);
+    /**
+     * <pre>
+     * Requested symbols with no candle data
+     * </pre>
+     *
+     * <code>repeated string missing_symbols = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the missingSymbols at the given index.
+     */
+    com.google.protobuf.ByteString
+        getMissingSymbolsBytes(int index);
+
+    /**
+     * <pre>
+     * Snapshot sequence all candles were read from
+     * </pre>
+     *
+     * <code>uint64 sequence = 3;</code>
+     * @return The sequence.
+     */
+    long getSequence();
+  }
+  /**
+   * <pre>
+   **
+   * Response message for a multi-symbol lookup.
+   * </pre>
+   *
+   * Protobuf type {@code ca.digilogue.xp.grpc.GetLatestCandlesResponse}
+   */
+  public static final class GetLatestCandlesResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.GetLatestCandlesResponse)
+      GetLatestCandlesResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetLatestCandlesResponse.newBuilder() to construct.
+    private GetLatestCandlesResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetLatestCandlesResponse() {
+      candles_ = java.util.Collections.emptyList();
+      missingSymbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetLatestCandlesResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetLatestCandlesResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetLatestCandlesResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse.class, ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse.Builder.class);
+    }
+
+    public static final int CANDLES_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> candles_;
+    /**
+     * <pre>
+     * Candles found, in request order
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> getCandlesList() {
+      return candles_;
+    }
+    /**
+     * <pre>
+     * Candles found, in request order
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+        getCandlesOrBuilderList() {
+      return candles_;
+    }
+    /**
+     * <pre>
+     * Candles found, in request order
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    @java.lang.Override
+    public int getCandlesCount() {
+      return candles_.size();
+    }
+    /**
+     * <pre>
+     * Candles found, in request order
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getCandles(int index) {
+      return candles_.get(index);
+    }
+    /**
+     * <pre>
+     * Candles found, in request order
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder getCandlesOrBuilder(
+        int index) {
+      return candles_.get(index);
+    }
+
+    public static final int MISSING_SYMBOLS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList missingSymbols_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * Requested symbols with no candle data
+     * </pre>
+     *
+     * <code>repeated string missing_symbols = 2;</code>
+     * @return A list containing the missingSymbols.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getMissingSymbolsList() {
+      return missingSymbols_;
+    }
+    /**
+     * <pre>
+     * Requested symbols with no candle data
+     * </pre>
+     *
+     * <code>repeated string missing_symbols = 2;</code>
+     * @return The count of missingSymbols.
+     */
+    public int getMissingSymbolsCount() {
+      return missingSymbols_.size();
+    }
+    /**
+     * <pre>
+     * Requested symbols with no candle data
+     * </pre>
+     *
+     * <code>repeated string missing_symbols = 2;</code>
+     * @param index The index of the element to return.
+     * @return The missingSymbols at the given index.
+     */
+    public java.lang.String getMissingSymbols(int index) {
+      return missingSymbols_.get(index);
+    }
+    /**
+     * <pre>
+     * Requested symbols with no candle data
+     * </pre>
+     *
+     * <code>repeated string missing_symbols = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the missingSymbols at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getMissingSymbolsBytes(int index) {
+      return missingSymbols_.getByteString(index);
+    }
+
+    public static final int SEQUENCE_FIELD_NUMBER = 3;
+    private long sequence_ = 0L;
+    /**
+     * <pre>
+     * Snapshot sequence all candles were read from
+     * </pre>
+     *
+     * <code>uint64 sequence = 3;</code>
+     * @return The sequence.
+     */
+    @java.lang.Override
+    public long getSequence() {
+      return sequence_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < candles_.size(); i++) {
+        output.writeMessage(1, candles_.get(i));
+      }
+      for (int i = 0; i < missingSymbols_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, missingSymbols_.getRaw(i));
+      }
+      if (sequence_ != 0L) {
+        output.writeUInt64(3, sequence_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < candles_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, candles_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < missingSymbols_.size(); i++) {
+          dataSize += computeStringSizeNoTag(missingSymbols_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getMissingSymbolsList().size();
+      }
+      if (sequence_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, sequence_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse)) {
+        return super.equals(obj);
+      }
+      ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse other = (ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse) obj;
+
+      if (!getCandlesList()
+          .equals(other.getCandlesList())) return false;
+      if (!getMissingSymbolsList()
+          .equals(other.getMissingSymbolsList())) return false;
+      if (getSequence()
+          != other.getSequence()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getCandlesCount() > 0) {
+        hash = (37 * hash) + CANDLES_FIELD_NUMBER;
+        hash = (53 * hash) + getCandlesList().hashCode();
+      }
+      if (getMissingSymbolsCount() > 0) {
+        hash = (37 * hash) + MISSING_SYMBOLS_FIELD_NUMBER;
+        hash = (53 * hash) + getMissingSymbolsList().hashCode();
+      }
+      hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSequence());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     * Response message for a multi-symbol lookup.
+     * </pre>
+     *
+     * Protobuf type {@code ca.digilogue.xp.grpc.GetLatestCandlesResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.GetLatestCandlesResponse)
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetLatestCandlesResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetLatestCandlesResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse.class, ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse.Builder.class);
+      }
+
+      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (candlesBuilder_ == null) {
+          candles_ = java.util.Collections.emptyList();
+        } else {
+          candles_ = null;
+          candlesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        missingSymbols_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        sequence_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetLatestCandlesResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse getDefaultInstanceForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse build() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse buildPartial() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse result = new ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse result) {
+        if (candlesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            candles_ = java.util.Collections.unmodifiableList(candles_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.candles_ = candles_;
+        } else {
+          result.candles_ = candlesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          missingSymbols_.makeImmutable();
+          result.missingSymbols_ = missingSymbols_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.sequence_ = sequence_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse) {
+          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse other) {
+        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse.getDefaultInstance()) return this;
+        if (candlesBuilder_ == null) {
+          if (!other.candles_.isEmpty()) {
+            if (candles_.isEmpty()) {
+              candles_ = other.candles_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureCandlesIsMutable();
+              candles_.addAll(other.candles_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.candles_.isEmpty()) {
+            if (candlesBuilder_.isEmpty()) {
+              candlesBuilder_.dispose();
+              candlesBuilder_ = null;
+              candles_ = other.candles_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              candlesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getCandlesFieldBuilder() : null;
+            } else {
+              candlesBuilder_.addAllMessages(other.candles_);
+            }
+          }
+        }
+        if (!other.missingSymbols_.isEmpty()) {
+          if (missingSymbols_.isEmpty()) {
+            missingSymbols_ = other.missingSymbols_;
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureMissingSymbolsIsMutable();
+            missingSymbols_.addAll(other.missingSymbols_);
+          }
+          onChanged();
+        }
+        if (other.getSequence() != 0L) {
+          setSequence(other.getSequence());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse m =
+                    input.readMessage(
+                        ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.parser(),
+                        extensionRegistry);
+                if (candlesBuilder_ == null) {
+                  ensureCandlesIsMutable();
+                  candles_.add(m);
+                } else {
+                  candlesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              case 18: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureMissingSymbolsIsMutable();
+                missingSymbols_.add(s);
+                break;
+              } // case 18
+              case 24: {
+                sequence_ = input.readUInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> candles_ =
+        java.util.Collections.emptyList();
+      private void ensureCandlesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          candles_ = new java.util.ArrayList<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse>(candles_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> candlesBuilder_;
+
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> getCandlesList() {
+        if (candlesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(candles_);
+        } else {
+          return candlesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public int getCandlesCount() {
+        if (candlesBuilder_ == null) {
+          return candles_.size();
+        } else {
+          return candlesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getCandles(int index) {
+        if (candlesBuilder_ == null) {
+          return candles_.get(index);
+        } else {
+          return candlesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder setCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse value) {
+        if (candlesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCandlesIsMutable();
+          candles_.set(index, value);
+          onChanged();
+        } else {
+          candlesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder setCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder builderForValue) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          candlesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder addCandles(ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse value) {
+        if (candlesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCandlesIsMutable();
+          candles_.add(value);
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder addCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse value) {
+        if (candlesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCandlesIsMutable();
+          candles_.add(index, value);
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder addCandles(
+          ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder builderForValue) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.add(builderForValue.build());
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder addCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder builderForValue) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder addAllCandles(
+          java.lang.Iterable<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> values) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, candles_);
+          onChanged();
+        } else {
+          candlesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder clearCandles() {
+        if (candlesBuilder_ == null) {
+          candles_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          candlesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder removeCandles(int index) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.remove(index);
+          onChanged();
+        } else {
+          candlesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder getCandlesBuilder(
+          int index) {
+        return getCandlesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder getCandlesOrBuilder(
+          int index) {
+        if (candlesBuilder_ == null) {
+          return candles_.get(index);  } else {
+          return candlesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public java.util.List<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+           getCandlesOrBuilderList() {
+        if (candlesBuilder_ != null) {
+          return candlesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(candles_);
+        }
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder addCandlesBuilder() {
+        return getCandlesFieldBuilder().addBuilder(
+            ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder addCandlesBuilder(
+          int index) {
+        return getCandlesFieldBuilder().addBuilder(
+            index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Candles found, in request order
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder> 
+           getCandlesBuilderList() {
+        return getCandlesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+          getCandlesFieldBuilder() {
+        if (candlesBuilder_ == null) {
+          candlesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder>(
+                  candles_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          candles_ = null;
+        }
+        return candlesBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringArrayList missingSymbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureMissingSymbolsIsMutable() {
+        if (!missingSymbols_.isModifiable()) {
+          missingSymbols_ = new com.google.protobuf.LazyStringArrayList(missingSymbols_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <pre>
+       * Requested symbols with no candle data
+       * </pre>
+       *
+       * <code>repeated string missing_symbols = 2;</code>
+       * @return A list containing the missingSymbols.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getMissingSymbolsList() {
+        missingSymbols_.makeImmutable();
+        return missingSymbols_;
+      }
+      /**
+       * <pre>
+       * Requested symbols with no candle data
+       * </pre>
+       *
+       * <code>repeated string missing_symbols = 2;</code>
+       * @return The count of missingSymbols.
+       */
+      public int getMissingSymbolsCount() {
+        return missingSymbols_.size();
+      }
+      /**
+       * <pre>
+       * Requested symbols with no candle data
+       * </pre>
+       *
+       * <code>repeated string missing_symbols = 2;</code>
+       * @param index The index of the element to return.
+       * @return The missingSymbols at the given index.
+       */
+      public java.lang.String getMissingSymbols(int index) {
+        return missingSymbols_.get(index);
+      }
+      /**
+       * <pre>
+       * Requested symbols with no candle data
+       * </pre>
+       *
+       * <code>repeated string missing_symbols = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the missingSymbols at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getMissingSymbolsBytes(int index) {
+        return missingSymbols_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Requested symbols with no candle data
+       * </pre>
+       *
+       * <code>repeated string missing_symbols = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The missingSymbols to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMissingSymbols(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureMissingSymbolsIsMutable();
+        missingSymbols_.set(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Requested symbols with no candle data
+       * </pre>
+       *
+       * <code>repeated string missing_symbols = 2;</code>
+       * @param value The missingSymbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addMissingSymbols(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureMissingSymbolsIsMutable();
+        missingSymbols_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Requested symbols with no candle data
+       * </pre>
+       *
+       * <code>repeated string missing_symbols = 2;</code>
+       * @param values The missingSymbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllMissingSymbols(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureMissingSymbolsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, missingSymbols_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Requested symbols with no candle data
+       * </pre>
+       *
+       * <code>repeated string missing_symbols = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMissingSymbols() {
+        missingSymbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Requested symbols with no candle data
+       * </pre>
+       *
+       * <code>repeated string missing_symbols = 2;</code>
+       * @param value The bytes of the missingSymbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addMissingSymbolsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureMissingSymbolsIsMutable();
+        missingSymbols_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private long sequence_ ;
+      /**
+       * <pre>
+       * Snapshot sequence all candles were read from
+       * </pre>
+       *
+       * <code>uint64 sequence = 3;</code>
+       * @return The sequence.
+       */
+      @java.lang.Override
+      public long getSequence() {
+        return sequence_;
+      }
+      /**
+       * <pre>
+       * Snapshot sequence all candles were read from
+       * </pre>
+       *
+       * <code>uint64 sequence = 3;</code>
+       * @param value The sequence to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSequence(long value) {
+
+        sequence_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Snapshot sequence all candles were read from
+       * </pre>
+       *
+       * <code>uint64 sequence = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSequence() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        sequence_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.GetLatestCandlesResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.GetLatestCandlesResponse)
+    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse();
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetLatestCandlesResponse>
+        PARSER = new com.google.protobuf.AbstractParser<GetLatestCandlesResponse>() {
+      @java.lang.Override
+      public GetLatestCandlesResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetLatestCandlesResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetLatestCandlesResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.GetLatestCandlesResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface OhlcvCandleResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.OhlcvCandleResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Trading symbol
+     * </pre>
+     *
+     * <code>string symbol = 1;</code>
+     * @return The symbol.
+     */
+    java.lang.String getSymbol();
+    /**
+     * <pre>
+     * Trading symbol
+     * </pre>
+     *
+     * <code>string symbol = 1;</code>
+     * @return The bytes for symbol.
+     */
+    com.google.protobuf.ByteString
+        getSymbolBytes();
+
+    /**
+     * <pre>
+     * Opening price
+     * </pre>
+     *
+     * <code>double open = 2;</code>
+     * @return The open.
+     */
+    double getOpen();
+
+    /**
+     * <pre>
+     * Highest price
+     * </pre>
+     *
+     * <code>double high = 3;</code>
+     * @return The high.
+     */
+    double getHigh();
+
+    /**
+     * <pre>
+     * Lowest price
+     * </pre>
+     *
+     * <code>double low = 4;</code>
+     * @return The low.
+     */
+    double getLow();
+
+    /**
+     * <pre>
+     * Closing price
+     * </pre>
+     *
+     * <code>double close = 5;</code>
+     * @return The close.
+     */
+    double getClose();
+
+    /**
+     * <pre>
+     * Trading volume
+     * </pre>
+     *
+     * <code>double volume = 6;</code>
+     * @return The volume.
+     */
+    double getVolume();
+
+    /**
+     * <pre>
+     * Timestamp in nanoseconds since epoch
+     * </pre>
+     *
+     * <code>int64 timestamp = 7;</code>
+     * @return The timestamp.
+     */
+    long getTimestamp();
+  }
+  /**
+   * <pre>
+   **
+   * Response message containing OHLCV candle data.
+   * </pre>
+   *
+   * Protobuf type {@code ca.digilogue.xp.grpc.OhlcvCandleResponse}
+   */
+  public static final class OhlcvCandleResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.OhlcvCandleResponse)
+      OhlcvCandleResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use OhlcvCandleResponse.newBuilder() to construct.
+    private OhlcvCandleResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private OhlcvCandleResponse() {
+      symbol_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new OhlcvCandleResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.class, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder.class);
+    }
+
+    public static final int SYMBOL_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object symbol_ = "";
+    /**
+     * <pre>
+     * Trading symbol
+     * </pre>
+     *
+     * <code>string symbol = 1;</code>
+     * @return The symbol.
+     */
+    @java.lang.Override
+    public java.lang.String getSymbol() {
+      java.lang.Object ref = symbol_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        symbol_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Trading symbol
+     * </pre>
+     *
+     * <code>string symbol = 1;</code>
+     * @return The bytes for symbol.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSymbolBytes() {
+      java.lang.Object ref = symbol_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        symbol_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OPEN_FIELD_NUMBER = 2;
+    private double open_ = 0D;
+    /**
+     * <pre>
+     * Opening price
+     * </pre>
+     *
+     * <code>double open = 2;</code>
+     * @return The open.
+     */
+    @java.lang.Override
+    public double getOpen() {
+      return open_;
+    }
+
+    public static final int HIGH_FIELD_NUMBER = 3;
+    private double high_ = 0D;
+    /**
+     * <pre>
+     * Highest price
+     * </pre>
+     *
+     * <code>double high = 3;</code>
+     * @return The high.
+     */
+    @java.lang.Override
+    public double getHigh() {
+      return high_;
+    }
+
+    public static final int LOW_FIELD_NUMBER = 4;
+    private double low_ = 0D;
+    /**
+     * <pre>
+     * Lowest price
+     * </pre>
+     *
+     * <code>double low = 4;</code>
+     * @return The low.
+     */
+    @java.lang.Override
+    public double getLow() {
+      return low_;
+    }
+
+    public static final int CLOSE_FIELD_NUMBER = 5;
+    private double close_ = 0D;
+    /**
+     * <pre>
+     * Closing price
+     * </pre>
+     *
+     * <code>double close = 5;</code>
+     * @return The close.
+     */
+    @java.lang.Override
+    public double getClose() {
+      return close_;
+    }
+
+    public static final int VOLUME_FIELD_NUMBER = 6;
+    private double volume_ = 0D;
+    /**
+     * <pre>
+     * Trading volume
+     * </pre>
+     *
+     * <code>double volume = 6;</code>
+     * @return The volume.
+     */
+    @java.lang.Override
+    public double getVolume() {
+      return volume_;
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 7;
+    private long timestamp_ = 0L;
+    /**
+     * <pre>
+     * Timestamp in nanoseconds since epoch
+     * </pre>
+     *
+     * <code>int64 timestamp = 7;</code>
+     * @return The timestamp.
+     */
+    @java.lang.Override
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(symbol_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, symbol_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(open_) != 0) {
+        output.writeDouble(2, open_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(high_) != 0) {
+        output.writeDouble(3, high_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(low_) != 0) {
+        output.writeDouble(4, low_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(close_) != 0) {
+        output.writeDouble(5, close_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(volume_) != 0) {
+        output.writeDouble(6, volume_);
+      }
+      if (timestamp_ != 0L) {
+        output.writeInt64(7, timestamp_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(symbol_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, symbol_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(open_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(2, open_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(high_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(3, high_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(low_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(4, low_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(close_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(5, close_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(volume_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(6, volume_);
+      }
+      if (timestamp_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(7, timestamp_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse)) {
+        return super.equals(obj);
+      }
+      ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse other = (ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse) obj;
+
+      if (!getSymbol()
+          .equals(other.getSymbol())) return false;
+      if (java.lang.Double.doubleToLongBits(getOpen())
+          != java.lang.Double.doubleToLongBits(
+              other.getOpen())) return false;
+      if (java.lang.Double.doubleToLongBits(getHigh())
+          != java.lang.Double.doubleToLongBits(
+              other.getHigh())) return false;
+      if (java.lang.Double.doubleToLongBits(getLow())
+          != java.lang.Double.doubleToLongBits(
+              other.getLow())) return false;
+      if (java.lang.Double.doubleToLongBits(getClose())
+          != java.lang.Double.doubleToLongBits(
+              other.getClose())) return false;
+      if (java.lang.Double.doubleToLongBits(getVolume())
+          != java.lang.Double.doubleToLongBits(
+              other.getVolume())) return false;
+      if (getTimestamp()
+          != other.getTimestamp()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SYMBOL_FIELD_NUMBER;
+      hash = (53 * hash) + getSymbol().hashCode();
+      hash = (37 * hash) + OPEN_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getOpen()));
+      hash = (37 * hash) + HIGH_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getHigh()));
+      hash = (37 * hash) + LOW_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getLow()));
+      hash = (37 * hash) + CLOSE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getClose()));
+      hash = (37 * hash) + VOLUME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getVolume()));
+      hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTimestamp());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     * Response message containing OHLCV candle data.
+     * </pre>
+     *
+     * Protobuf type {@code ca.digilogue.xp.grpc.OhlcvCandleResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.OhlcvCandleResponse)
+        ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.class, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder.class);
+      }
+
+      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        symbol_ = "";
+        open_ = 0D;
+        high_ = 0D;
+        low_ = 0D;
+        close_ = 0D;
+        volume_ = 0D;
+        timestamp_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getDefaultInstanceForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse build() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse buildPartial() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse result = new ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.symbol_ = symbol_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.open_ = open_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.high_ = high_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.low_ = low_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.close_ = close_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.volume_ = volume_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.timestamp_ = timestamp_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse) {
+          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse other) {
+        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.getDefaultInstance()) return this;
+        if (!other.getSymbol().isEmpty()) {
+          symbol_ = other.symbol_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getOpen() != 0D) {
+          setOpen(other.getOpen());
+        }
+        if (other.getHigh() != 0D) {
+          setHigh(other.getHigh());
+        }
+        if (other.getLow() != 0D) {
+          setLow(other.getLow());
+        }
+        if (other.getClose() != 0D) {
+          setClose(other.getClose());
+        }
+        if (other.getVolume() != 0D) {
+          setVolume(other.getVolume());
+        }
+        if (other.getTimestamp() != 0L) {
+          setTimestamp(other.getTimestamp());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                symbol_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 17: {
+                open_ = input.readDouble();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 17
+              case 25: {
+                high_ = input.readDouble();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 25
+              case 33: {
+                low_ = input.readDouble();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 33
+              case 41: {
+                close_ = input.readDouble();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 41
+              case 49: {
+                volume_ = input.readDouble();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 49
+              case 56: {
+                timestamp_ = input.readInt64();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object symbol_ = "";
+      /**
+       * <pre>
+       * Trading symbol
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @return The symbol.
+       */
+      public java.lang.String getSymbol() {
+        java.lang.Object ref = symbol_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          symbol_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Trading symbol
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @return The bytes for symbol.
+       */
+      public com.google.protobuf.ByteString
+          getSymbolBytes() {
+        java.lang.Object ref = symbol_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          symbol_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Trading symbol
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @param value The symbol to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSymbol(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        symbol_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Trading symbol
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSymbol() {
+        symbol_ = getDefaultInstance().getSymbol();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Trading symbol
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @param value The bytes for symbol to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSymbolBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        symbol_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private double open_ ;
+      /**
+       * <pre>
+       * Opening price
+       * </pre>
+       *
+       * <code>double open = 2;</code>
+       * @return The open.
+       */
+      @java.lang.Override
+      public double getOpen() {
+        return open_;
+      }
+      /**
+       * <pre>
+       * Opening price
+       * </pre>
+       *
+       * <code>double open = 2;</code>
+       * @param value The open to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOpen(double value) {
+
+        open_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Opening price
+       * </pre>
+       *
+       * <code>double open = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOpen() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        open_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double high_ ;
+      /**
+       * <pre>
+       * Highest price
+       * </pre>
+       *
+       * <code>double high = 3;</code>
+       * @return The high.
+       */
+      @java.lang.Override
+      public double getHigh() {
+        return high_;
+      }
+      /**
+       * <pre>
+       * Highest price
+       * </pre>
+       *
+       * <code>double high = 3;</code>
+       * @param value The high to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHigh(double value) {
+
+        high_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Highest price
+       * </pre>
+       *
+       * <code>double high = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHigh() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        high_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double low_ ;
+      /**
+       * <pre>
+       * Lowest price
+       * </pre>
+       *
+       * <code>double low = 4;</code>
+       * @return The low.
+       */
+      @java.lang.Override
+      public double getLow() {
+        return low_;
+      }
+      /**
+       * <pre>
+       * Lowest price
+       * </pre>
+       *
+       * <code>double low = 4;</code>
+       * @param value The low to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLow(double value) {
+
+        low_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Lowest price
+       * </pre>
+       *
+       * <code>double low = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLow() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        low_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double close_ ;
+      /**
+       * <pre>
+       * Closing price
+       * </pre>
+       *
+       * <code>double close = 5;</code>
+       * @return The close.
+       */
+      @java.lang.Override
+      public double getClose() {
+        return close_;
+      }
+      /**
+       * <pre>
+       * Closing price
+       * </pre>
+       *
+       * <code>double close = 5;</code>
+       * @param value The close to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClose(double value) {
+
+        close_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Closing price
+       * </pre>
+       *
+       * <code>double close = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClose() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        close_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double volume_ ;
+      /**
+       * <pre>
+       * Trading volume
+       * </pre>
+       *
+       * <code>double volume = 6;</code>
+       * @return The volume.
+       */
+      @java.lang.Override
+      public double getVolume() {
+        return volume_;
+      }
+      /**
+       * <pre>
+       * Trading volume
+       * </pre>
+       *
+       * <code>double volume = 6;</code>
+       * @param value The volume to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVolume(double value) {
+
+        volume_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Trading volume
+       * </pre>
+       *
+       * <code>double volume = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVolume() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        volume_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <pre>
+       * Timestamp in nanoseconds since epoch
+       * </pre>
+       *
+       * <code>int64 timestamp = 7;</code>
+       * @return The timestamp.
+       */
+      @java.lang.Override
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <pre>
+       * Timestamp in nanoseconds since epoch
+       * </pre>
+       *
+       * <code>int64 timestamp = 7;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestamp(long value) {
+
+        timestamp_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Timestamp in nanoseconds since epoch
+       * </pre>
+       *
+       * <code>int64 timestamp = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.OhlcvCandleResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.OhlcvCandleResponse)
+    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse();
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<OhlcvCandleResponse>
+        PARSER = new com.google.protobuf.AbstractParser<OhlcvCandleResponse>() {
+      @java.lang.Override
+      public OhlcvCandleResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<OhlcvCandleResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<OhlcvCandleResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StreamAllLiveCandlesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.StreamAllLiveCandlesRequest)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * <pre>
+   **
+   * Request message for streaming all live candles.
+   * </pre>
+   *
+   * Protobuf type {@code ca.digilogue.xp.grpc.StreamAllLiveCandlesRequest}
+   */
+  public static final class StreamAllLiveCandlesRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.StreamAllLiveCandlesRequest)
+      StreamAllLiveCandlesRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use StreamAllLiveCandlesRequest.newBuilder() to construct.
+    private StreamAllLiveCandlesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private StreamAllLiveCandlesRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new StreamAllLiveCandlesRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamAllLiveCandlesRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamAllLiveCandlesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest)) {
+        return super.equals(obj);
+      }
+      ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest other = (ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest) obj;
+
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     * Request message for streaming all live candles.
+     * </pre>
+     *
+     * Protobuf type {@code ca.digilogue.xp.grpc.StreamAllLiveCandlesRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.StreamAllLiveCandlesRequest)
+        ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamAllLiveCandlesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamAllLiveCandlesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest.Builder.class);
+      }
+
+      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamAllLiveCandlesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest getDefaultInstanceForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest build() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest buildPartial() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest result = new ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest(this);
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest) {
+          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest other) {
+        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.StreamAllLiveCandlesRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.StreamAllLiveCandlesRequest)
+    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest();
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<StreamAllLiveCandlesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<StreamAllLiveCandlesRequest>() {
+      @java.lang.Override
+      public StreamAllLiveCandlesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<StreamAllLiveCandlesRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StreamAllLiveCandlesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AllCandlesResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.AllCandlesResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Collection of all current candles from all generators
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> 
+        getCandlesList();
+    /**
+     * <pre>
+     * Collection of all current candles from all generators
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getCandles(int index);
+    /**
+     * <pre>
+     * Collection of all current candles from all generators
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    int getCandlesCount();
+    /**
+     * <pre>
+     * Collection of all current candles from all generators
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    java.util.List<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+        getCandlesOrBuilderList();
+    /**
+     * <pre>
+     * Collection of all current candles from all generators
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder getCandlesOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * Filtered streams only: subscribed symbols that were removed
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 2;</code>
+     * @return A list containing the removedSymbols.
+     */
+    java.util.List<java.lang.String>
+        getRemovedSymbolsList();
+    /**
+     * <pre>
+     * Filtered streams only: subscribed symbols that were removed
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 2;</code>
+     * @return The count of removedSymbols.
+     */
+    int getRemovedSymbolsCount();
+    /**
+     * <pre>
+     * Filtered streams only: subscribed symbols that were removed
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 2;</code>
+     * @param index The index of the element to return.
+     * @return The removedSymbols at the given index.
+     */
+    java.lang.String getRemovedSymbols(int index);
+    /**
+     * <pre>
+     * Filtered streams only: subscribed symbols that were removed
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedSymbols at the given index.
+     */
+    com.google.protobuf.ByteString
+        getRemovedSymbolsBytes(int index);
+  }
+  /**
+   * <pre>
+   **
+   * Response message containing a collection of all current OHLCV candles.
+   * </pre>
+   *
+   * Protobuf type {@code ca.digilogue.xp.grpc.AllCandlesResponse}
+   */
+  public static final class AllCandlesResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.AllCandlesResponse)
+      AllCandlesResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use AllCandlesResponse.newBuilder() to construct.
+    private AllCandlesResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private AllCandlesResponse() {
+      candles_ = java.util.Collections.emptyList();
+      removedSymbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new AllCandlesResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_AllCandlesResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_AllCandlesResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.class, ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.Builder.class);
+    }
+
+    public static final int CANDLES_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> candles_;
+    /**
+     * <pre>
+     * Collection of all current candles from all generators
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> getCandlesList() {
+      return candles_;
+    }
+    /**
+     * <pre>
+     * Collection of all current candles from all generators
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+        getCandlesOrBuilderList() {
+      return candles_;
+    }
+    /**
+     * <pre>
+     * Collection of all current candles from all generators
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    @java.lang.Override
+    public int getCandlesCount() {
+      return candles_.size();
+    }
+    /**
+     * <pre>
+     * Collection of all current candles from all generators
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getCandles(int index) {
+      return candles_.get(index);
+    }
+    /**
+     * <pre>
+     * Collection of all current candles from all generators
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder getCandlesOrBuilder(
+        int index) {
+      return candles_.get(index);
+    }
+
+    public static final int REMOVED_SYMBOLS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList removedSymbols_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * Filtered streams only: subscribed symbols that were removed
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 2;</code>
+     * @return A list containing the removedSymbols.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getRemovedSymbolsList() {
+      return removedSymbols_;
+    }
+    /**
+     * <pre>
+     * Filtered streams only: subscribed symbols that were removed
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 2;</code>
+     * @return The count of removedSymbols.
+     */
+    public int getRemovedSymbolsCount() {
+      return removedSymbols_.size();
+    }
+    /**
+     * <pre>
+     * Filtered streams only: subscribed symbols that were removed
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 2;</code>
+     * @param index The index of the element to return.
+     * @return The removedSymbols at the given index.
+     */
+    public java.lang.String getRemovedSymbols(int index) {
+      return removedSymbols_.get(index);
+    }
+    /**
+     * <pre>
+     * Filtered streams only: subscribed symbols that were removed
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedSymbols at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getRemovedSymbolsBytes(int index) {
+      return removedSymbols_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < candles_.size(); i++) {
+        output.writeMessage(1, candles_.get(i));
+      }
+      for (int i = 0; i < removedSymbols_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, removedSymbols_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < candles_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, candles_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedSymbols_.size(); i++) {
+          dataSize += computeStringSizeNoTag(removedSymbols_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedSymbolsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse)) {
+        return super.equals(obj);
+      }
+      ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse other = (ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse) obj;
+
+      if (!getCandlesList()
+          .equals(other.getCandlesList())) return false;
+      if (!getRemovedSymbolsList()
+          .equals(other.getRemovedSymbolsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getCandlesCount() > 0) {
+        hash = (37 * hash) + CANDLES_FIELD_NUMBER;
+        hash = (53 * hash) + getCandlesList().hashCode();
+      }
+      if (getRemovedSymbolsCount() > 0) {
+        hash = (37 * hash) + REMOVED_SYMBOLS_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedSymbolsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     * Response message containing a collection of all current OHLCV candles.
+     * </pre>
+     *
+     * Protobuf type {@code ca.digilogue.xp.grpc.AllCandlesResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.AllCandlesResponse)
+        ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_AllCandlesResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_AllCandlesResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.class, ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.Builder.class);
+      }
+
+      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (candlesBuilder_ == null) {
+          candles_ = java.util.Collections.emptyList();
+        } else {
+          candles_ = null;
+          candlesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        removedSymbols_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_AllCandlesResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse getDefaultInstanceForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse build() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse buildPartial() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse result = new ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse result) {
+        if (candlesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            candles_ = java.util.Collections.unmodifiableList(candles_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.candles_ = candles_;
+        } else {
+          result.candles_ = candlesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          removedSymbols_.makeImmutable();
+          result.removedSymbols_ = removedSymbols_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse) {
+          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse other) {
+        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.getDefaultInstance()) return this;
+        if (candlesBuilder_ == null) {
+          if (!other.candles_.isEmpty()) {
+            if (candles_.isEmpty()) {
+              candles_ = other.candles_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureCandlesIsMutable();
+              candles_.addAll(other.candles_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.candles_.isEmpty()) {
+            if (candlesBuilder_.isEmpty()) {
+              candlesBuilder_.dispose();
+              candlesBuilder_ = null;
+              candles_ = other.candles_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              candlesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getCandlesFieldBuilder() : null;
+            } else {
+              candlesBuilder_.addAllMessages(other.candles_);
+            }
+          }
+        }
+        if (!other.removedSymbols_.isEmpty()) {
+          if (removedSymbols_.isEmpty()) {
+            removedSymbols_ = other.removedSymbols_;
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureRemovedSymbolsIsMutable();
+            removedSymbols_.addAll(other.removedSymbols_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse m =
+                    input.readMessage(
+                        ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.parser(),
+                        extensionRegistry);
+                if (candlesBuilder_ == null) {
+                  ensureCandlesIsMutable();
+                  candles_.add(m);
+                } else {
+                  candlesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              case 18: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureRemovedSymbolsIsMutable();
+                removedSymbols_.add(s);
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> candles_ =
+        java.util.Collections.emptyList();
+      private void ensureCandlesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          candles_ = new java.util.ArrayList<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse>(candles_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> candlesBuilder_;
+
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> getCandlesList() {
+        if (candlesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(candles_);
+        } else {
+          return candlesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public int getCandlesCount() {
+        if (candlesBuilder_ == null) {
+          return candles_.size();
+        } else {
+          return candlesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getCandles(int index) {
+        if (candlesBuilder_ == null) {
+          return candles_.get(index);
+        } else {
+          return candlesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder setCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse value) {
+        if (candlesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCandlesIsMutable();
+          candles_.set(index, value);
+          onChanged();
+        } else {
+          candlesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder setCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder builderForValue) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          candlesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder addCandles(ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse value) {
+        if (candlesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCandlesIsMutable();
+          candles_.add(value);
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder addCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse value) {
+        if (candlesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCandlesIsMutable();
+          candles_.add(index, value);
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder addCandles(
+          ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder builderForValue) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.add(builderForValue.build());
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder addCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder builderForValue) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder addAllCandles(
+          java.lang.Iterable<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> values) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, candles_);
+          onChanged();
+        } else {
+          candlesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder clearCandles() {
+        if (candlesBuilder_ == null) {
+          candles_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          candlesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder removeCandles(int index) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.remove(index);
+          onChanged();
+        } else {
+          candlesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder getCandlesBuilder(
+          int index) {
+        return getCandlesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder getCandlesOrBuilder(
+          int index) {
+        if (candlesBuilder_ == null) {
+          return candles_.get(index);  } else {
+          return candlesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public java.util.List<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+           getCandlesOrBuilderList() {
+        if (candlesBuilder_ != null) {
+          return candlesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(candles_);
+        }
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder addCandlesBuilder() {
+        return getCandlesFieldBuilder().addBuilder(
+            ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder addCandlesBuilder(
+          int index) {
+        return getCandlesFieldBuilder().addBuilder(
+            index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Collection of all current candles from all generators
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder> 
+           getCandlesBuilderList() {
+        return getCandlesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+          getCandlesFieldBuilder() {
+        if (candlesBuilder_ == null) {
+          candlesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder>(
+                  candles_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          candles_ = null;
+        }
+        return candlesBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringArrayList removedSymbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureRemovedSymbolsIsMutable() {
+        if (!removedSymbols_.isModifiable()) {
+          removedSymbols_ = new com.google.protobuf.LazyStringArrayList(removedSymbols_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <pre>
+       * Filtered streams only: subscribed symbols that were removed
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 2;</code>
+       * @return A list containing the removedSymbols.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getRemovedSymbolsList() {
+        removedSymbols_.makeImmutable();
+        return removedSymbols_;
+      }
+      /**
+       * <pre>
+       * Filtered streams only: subscribed symbols that were removed
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 2;</code>
+       * @return The count of removedSymbols.
+       */
+      public int getRemovedSymbolsCount() {
+        return removedSymbols_.size();
+      }
+      /**
+       * <pre>
+       * Filtered streams only: subscribed symbols that were removed
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 2;</code>
+       * @param index The index of the element to return.
+       * @return The removedSymbols at the given index.
+       */
+      public java.lang.String getRemovedSymbols(int index) {
+        return removedSymbols_.get(index);
+      }
+      /**
+       * <pre>
+       * Filtered streams only: subscribed symbols that were removed
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the removedSymbols at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getRemovedSymbolsBytes(int index) {
+        return removedSymbols_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Filtered streams only: subscribed symbols that were removed
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The removedSymbols to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemovedSymbols(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureRemovedSymbolsIsMutable();
+        removedSymbols_.set(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Filtered streams only: subscribed symbols that were removed
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 2;</code>
+       * @param value The removedSymbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedSymbols(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureRemovedSymbolsIsMutable();
+        removedSymbols_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Filtered streams only: subscribed symbols that were removed
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 2;</code>
+       * @param values The removedSymbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemovedSymbols(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureRemovedSymbolsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedSymbols_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Filtered streams only: subscribed symbols that were removed
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemovedSymbols() {
+        removedSymbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Filtered streams only: subscribed symbols that were removed
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 2;</code>
+       * @param value The bytes of the removedSymbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedSymbolsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureRemovedSymbolsIsMutable();
+        removedSymbols_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.AllCandlesResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.AllCandlesResponse)
+    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse();
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<AllCandlesResponse>
+        PARSER = new com.google.protobuf.AbstractParser<AllCandlesResponse>() {
+      @java.lang.Override
+      public AllCandlesResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<AllCandlesResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AllCandlesResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StreamCandleDeltasRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.StreamCandleDeltasRequest)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * <pre>
+   **
+   * Request message for streaming candle deltas.
+   * </pre>
+   *
+   * Protobuf type {@code ca.digilogue.xp.grpc.StreamCandleDeltasRequest}
+   */
+  public static final class StreamCandleDeltasRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.StreamCandleDeltasRequest)
+      StreamCandleDeltasRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use StreamCandleDeltasRequest.newBuilder() to construct.
+    private StreamCandleDeltasRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private StreamCandleDeltasRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new StreamCandleDeltasRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamCandleDeltasRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamCandleDeltasRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest)) {
+        return super.equals(obj);
+      }
+      ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest other = (ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest) obj;
+
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     * Request message for streaming candle deltas.
+     * </pre>
+     *
+     * Protobuf type {@code ca.digilogue.xp.grpc.StreamCandleDeltasRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.StreamCandleDeltasRequest)
+        ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamCandleDeltasRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamCandleDeltasRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest.Builder.class);
+      }
+
+      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamCandleDeltasRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest getDefaultInstanceForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest build() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest buildPartial() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest result = new ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest(this);
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest) {
+          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest other) {
+        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.StreamCandleDeltasRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.StreamCandleDeltasRequest)
+    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest();
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<StreamCandleDeltasRequest>
+        PARSER = new com.google.protobuf.AbstractParser<StreamCandleDeltasRequest>() {
+      @java.lang.Override
+      public StreamCandleDeltasRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<StreamCandleDeltasRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StreamCandleDeltasRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.StreamCandleDeltasRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CandleDeltaResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.CandleDeltaResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Snapshot sequence this frame brings the client up to
+     * </pre>
+     *
+     * <code>uint64 sequence = 1;</code>
+     * @return The sequence.
+     */
+    long getSequence();
+
+    /**
+     * <pre>
+     * Sequence this delta applies on top of (0 for full snapshots)
+     * </pre>
+     *
+     * <code>uint64 previous_sequence = 2;</code>
+     * @return The previousSequence.
+     */
+    long getPreviousSequence();
+
+    /**
+     * <pre>
+     * True if candles is the complete collection (replace all state)
+     * </pre>
+     *
+     * <code>bool full_snapshot = 3;</code>
+     * @return The fullSnapshot.
+     */
+    boolean getFullSnapshot();
+
+    /**
+     * <pre>
+     * Changed candles (all candles when full_snapshot is true)
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+     */
+    java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> 
+        getCandlesList();
+    /**
+     * <pre>
+     * Changed candles (all candles when full_snapshot is true)
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+     */
+    ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getCandles(int index);
+    /**
+     * <pre>
+     * Changed candles (all candles when full_snapshot is true)
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+     */
+    int getCandlesCount();
+    /**
+     * <pre>
+     * Changed candles (all candles when full_snapshot is true)
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+     */
+    java.util.List<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+        getCandlesOrBuilderList();
+    /**
+     * <pre>
+     * Changed candles (all candles when full_snapshot is true)
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+     */
+    ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder getCandlesOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * Symbols no longer present since previous_sequence
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 5;</code>
+     * @return A list containing the removedSymbols.
+     */
+    java.util.List<java.lang.String>
+        getRemovedSymbolsList();
+    /**
+     * <pre>
+     * Symbols no longer present since previous_sequence
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 5;</code>
+     * @return The count of removedSymbols.
+     */
+    int getRemovedSymbolsCount();
+    /**
+     * <pre>
+     * Symbols no longer present since previous_sequence
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 5;</code>
+     * @param index The index of the element to return.
+     * @return The removedSymbols at the given index.
+     */
+    java.lang.String getRemovedSymbols(int index);
+    /**
+     * <pre>
+     * Symbols no longer present since previous_sequence
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedSymbols at the given index.
+     */
+    com.google.protobuf.ByteString
+        getRemovedSymbolsBytes(int index);
+  }
+  /**
+   * <pre>
+   **
+   * A full snapshot or a set of changes to apply on top of the previous frame.
+   * </pre>
+   *
+   * Protobuf type {@code ca.digilogue.xp.grpc.CandleDeltaResponse}
+   */
+  public static final class CandleDeltaResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.CandleDeltaResponse)
+      CandleDeltaResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CandleDeltaResponse.newBuilder() to construct.
+    private CandleDeltaResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CandleDeltaResponse() {
+      candles_ = java.util.Collections.emptyList();
+      removedSymbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CandleDeltaResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_CandleDeltaResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_CandleDeltaResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse.class, ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse.Builder.class);
+    }
+
+    public static final int SEQUENCE_FIELD_NUMBER = 1;
+    private long sequence_ = 0L;
+    /**
+     * <pre>
+     * Snapshot sequence this frame brings the client up to
+     * </pre>
+     *
+     * <code>uint64 sequence = 1;</code>
+     * @return The sequence.
+     */
+    @java.lang.Override
+    public long getSequence() {
+      return sequence_;
+    }
+
+    public static final int PREVIOUS_SEQUENCE_FIELD_NUMBER = 2;
+    private long previousSequence_ = 0L;
+    /**
+     * <pre>
+     * Sequence this delta applies on top of (0 for full snapshots)
+     * </pre>
+     *
+     * <code>uint64 previous_sequence = 2;</code>
+     * @return The previousSequence.
+     */
+    @java.lang.Override
+    public long getPreviousSequence() {
+      return previousSequence_;
+    }
+
+    public static final int FULL_SNAPSHOT_FIELD_NUMBER = 3;
+    private boolean fullSnapshot_ = false;
+    /**
+     * <pre>
+     * True if candles is the complete collection (replace all state)
+     * </pre>
+     *
+     * <code>bool full_snapshot = 3;</code>
+     * @return The fullSnapshot.
+     */
+    @java.lang.Override
+    public boolean getFullSnapshot() {
+      return fullSnapshot_;
+    }
+
+    public static final int CANDLES_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> candles_;
+    /**
+     * <pre>
+     * Changed candles (all candles when full_snapshot is true)
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> getCandlesList() {
+      return candles_;
+    }
+    /**
+     * <pre>
+     * Changed candles (all candles when full_snapshot is true)
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+        getCandlesOrBuilderList() {
+      return candles_;
+    }
+    /**
+     * <pre>
+     * Changed candles (all candles when full_snapshot is true)
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+     */
+    @java.lang.Override
+    public int getCandlesCount() {
+      return candles_.size();
+    }
+    /**
+     * <pre>
+     * Changed candles (all candles when full_snapshot is true)
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+     */
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getCandles(int index) {
+      return candles_.get(index);
+    }
+    /**
+     * <pre>
+     * Changed candles (all candles when full_snapshot is true)
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+     */
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder getCandlesOrBuilder(
+        int index) {
+      return candles_.get(index);
+    }
+
+    public static final int REMOVED_SYMBOLS_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList removedSymbols_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * Symbols no longer present since previous_sequence
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 5;</code>
+     * @return A list containing the removedSymbols.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getRemovedSymbolsList() {
+      return removedSymbols_;
+    }
+    /**
+     * <pre>
+     * Symbols no longer present since previous_sequence
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 5;</code>
+     * @return The count of removedSymbols.
+     */
+    public int getRemovedSymbolsCount() {
+      return removedSymbols_.size();
+    }
+    /**
+     * <pre>
+     * Symbols no longer present since previous_sequence
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 5;</code>
+     * @param index The index of the element to return.
+     * @return The removedSymbols at the given index.
+     */
+    public java.lang.String getRemovedSymbols(int index) {
+      return removedSymbols_.get(index);
+    }
+    /**
+     * <pre>
+     * Symbols no longer present since previous_sequence
+     * </pre>
+     *
+     * <code>repeated string removed_symbols = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedSymbols at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getRemovedSymbolsBytes(int index) {
+      return removedSymbols_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (sequence_ != 0L) {
+        output.writeUInt64(1, sequence_);
+      }
+      if (previousSequence_ != 0L) {
+        output.writeUInt64(2, previousSequence_);
+      }
+      if (fullSnapshot_ != false) {
+        output.writeBool(3, fullSnapshot_);
+      }
+      for (int i = 0; i < candles_.size(); i++) {
+        output.writeMessage(4, candles_.get(i));
+      }
+      for (int i = 0; i < removedSymbols_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, removedSymbols_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (sequence_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, sequence_);
+      }
+      if (previousSequence_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, previousSequence_);
+      }
+      if (fullSnapshot_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, fullSnapshot_);
+      }
+      for (int i = 0; i < candles_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, candles_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedSymbols_.size(); i++) {
+          dataSize += computeStringSizeNoTag(removedSymbols_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedSymbolsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse)) {
+        return super.equals(obj);
+      }
+      ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse other = (ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse) obj;
+
+      if (getSequence()
+          != other.getSequence()) return false;
+      if (getPreviousSequence()
+          != other.getPreviousSequence()) return false;
+      if (getFullSnapshot()
+          != other.getFullSnapshot()) return false;
+      if (!getCandlesList()
+          .equals(other.getCandlesList())) return false;
+      if (!getRemovedSymbolsList()
+          .equals(other.getRemovedSymbolsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSequence());
+      hash = (37 * hash) + PREVIOUS_SEQUENCE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getPreviousSequence());
+      hash = (37 * hash) + FULL_SNAPSHOT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getFullSnapshot());
+      if (getCandlesCount() > 0) {
+        hash = (37 * hash) + CANDLES_FIELD_NUMBER;
+        hash = (53 * hash) + getCandlesList().hashCode();
+      }
+      if (getRemovedSymbolsCount() > 0) {
+        hash = (37 * hash) + REMOVED_SYMBOLS_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedSymbolsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     * A full snapshot or a set of changes to apply on top of the previous frame.
+     * </pre>
+     *
+     * Protobuf type {@code ca.digilogue.xp.grpc.CandleDeltaResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.CandleDeltaResponse)
+        ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_CandleDeltaResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_CandleDeltaResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse.class, ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse.Builder.class);
+      }
+
+      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        sequence_ = 0L;
+        previousSequence_ = 0L;
+        fullSnapshot_ = false;
+        if (candlesBuilder_ == null) {
+          candles_ = java.util.Collections.emptyList();
+        } else {
+          candles_ = null;
+          candlesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        removedSymbols_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_CandleDeltaResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse getDefaultInstanceForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse build() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse buildPartial() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse result = new ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse result) {
+        if (candlesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            candles_ = java.util.Collections.unmodifiableList(candles_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.candles_ = candles_;
+        } else {
+          result.candles_ = candlesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.sequence_ = sequence_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.previousSequence_ = previousSequence_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.fullSnapshot_ = fullSnapshot_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          removedSymbols_.makeImmutable();
+          result.removedSymbols_ = removedSymbols_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse) {
+          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse other) {
+        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse.getDefaultInstance()) return this;
+        if (other.getSequence() != 0L) {
+          setSequence(other.getSequence());
+        }
+        if (other.getPreviousSequence() != 0L) {
+          setPreviousSequence(other.getPreviousSequence());
+        }
+        if (other.getFullSnapshot() != false) {
+          setFullSnapshot(other.getFullSnapshot());
+        }
+        if (candlesBuilder_ == null) {
+          if (!other.candles_.isEmpty()) {
+            if (candles_.isEmpty()) {
+              candles_ = other.candles_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureCandlesIsMutable();
+              candles_.addAll(other.candles_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.candles_.isEmpty()) {
+            if (candlesBuilder_.isEmpty()) {
+              candlesBuilder_.dispose();
+              candlesBuilder_ = null;
+              candles_ = other.candles_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              candlesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getCandlesFieldBuilder() : null;
+            } else {
+              candlesBuilder_.addAllMessages(other.candles_);
+            }
+          }
+        }
+        if (!other.removedSymbols_.isEmpty()) {
+          if (removedSymbols_.isEmpty()) {
+            removedSymbols_ = other.removedSymbols_;
+            bitField0_ |= 0x00000010;
+          } else {
+            ensureRemovedSymbolsIsMutable();
+            removedSymbols_.addAll(other.removedSymbols_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                sequence_ = input.readUInt64();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                previousSequence_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                fullSnapshot_ = input.readBool();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 34: {
+                ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse m =
+                    input.readMessage(
+                        ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.parser(),
+                        extensionRegistry);
+                if (candlesBuilder_ == null) {
+                  ensureCandlesIsMutable();
+                  candles_.add(m);
+                } else {
+                  candlesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              case 42: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureRemovedSymbolsIsMutable();
+                removedSymbols_.add(s);
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private long sequence_ ;
+      /**
+       * <pre>
+       * Snapshot sequence this frame brings the client up to
+       * </pre>
+       *
+       * <code>uint64 sequence = 1;</code>
+       * @return The sequence.
+       */
+      @java.lang.Override
+      public long getSequence() {
+        return sequence_;
+      }
+      /**
+       * <pre>
+       * Snapshot sequence this frame brings the client up to
+       * </pre>
+       *
+       * <code>uint64 sequence = 1;</code>
+       * @param value The sequence to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSequence(long value) {
+
+        sequence_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Snapshot sequence this frame brings the client up to
+       * </pre>
+       *
+       * <code>uint64 sequence = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSequence() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sequence_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long previousSequence_ ;
+      /**
+       * <pre>
+       * Sequence this delta applies on top of (0 for full snapshots)
+       * </pre>
+       *
+       * <code>uint64 previous_sequence = 2;</code>
+       * @return The previousSequence.
+       */
+      @java.lang.Override
+      public long getPreviousSequence() {
+        return previousSequence_;
+      }
+      /**
+       * <pre>
+       * Sequence this delta applies on top of (0 for full snapshots)
+       * </pre>
+       *
+       * <code>uint64 previous_sequence = 2;</code>
+       * @param value The previousSequence to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPreviousSequence(long value) {
+
+        previousSequence_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Sequence this delta applies on top of (0 for full snapshots)
+       * </pre>
+       *
+       * <code>uint64 previous_sequence = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPreviousSequence() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        previousSequence_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean fullSnapshot_ ;
+      /**
+       * <pre>
+       * True if candles is the complete collection (replace all state)
+       * </pre>
+       *
+       * <code>bool full_snapshot = 3;</code>
+       * @return The fullSnapshot.
+       */
+      @java.lang.Override
+      public boolean getFullSnapshot() {
+        return fullSnapshot_;
+      }
+      /**
+       * <pre>
+       * True if candles is the complete collection (replace all state)
+       * </pre>
+       *
+       * <code>bool full_snapshot = 3;</code>
+       * @param value The fullSnapshot to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFullSnapshot(boolean value) {
+
+        fullSnapshot_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * True if candles is the complete collection (replace all state)
+       * </pre>
+       *
+       * <code>bool full_snapshot = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFullSnapshot() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        fullSnapshot_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> candles_ =
+        java.util.Collections.emptyList();
+      private void ensureCandlesIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          candles_ = new java.util.ArrayList<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse>(candles_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> candlesBuilder_;
+
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> getCandlesList() {
+        if (candlesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(candles_);
+        } else {
+          return candlesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public int getCandlesCount() {
+        if (candlesBuilder_ == null) {
+          return candles_.size();
+        } else {
+          return candlesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getCandles(int index) {
+        if (candlesBuilder_ == null) {
+          return candles_.get(index);
+        } else {
+          return candlesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public Builder setCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse value) {
+        if (candlesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCandlesIsMutable();
+          candles_.set(index, value);
+          onChanged();
+        } else {
+          candlesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public Builder setCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder builderForValue) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          candlesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public Builder addCandles(ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse value) {
+        if (candlesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCandlesIsMutable();
+          candles_.add(value);
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public Builder addCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse value) {
+        if (candlesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCandlesIsMutable();
+          candles_.add(index, value);
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public Builder addCandles(
+          ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder builderForValue) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.add(builderForValue.build());
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public Builder addCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder builderForValue) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public Builder addAllCandles(
+          java.lang.Iterable<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> values) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, candles_);
+          onChanged();
+        } else {
+          candlesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public Builder clearCandles() {
+        if (candlesBuilder_ == null) {
+          candles_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          candlesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public Builder removeCandles(int index) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.remove(index);
+          onChanged();
+        } else {
+          candlesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder getCandlesBuilder(
+          int index) {
+        return getCandlesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder getCandlesOrBuilder(
+          int index) {
+        if (candlesBuilder_ == null) {
+          return candles_.get(index);  } else {
+          return candlesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public java.util.List<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+           getCandlesOrBuilderList() {
+        if (candlesBuilder_ != null) {
+          return candlesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(candles_);
+        }
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder addCandlesBuilder() {
+        return getCandlesFieldBuilder().addBuilder(
+            ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder addCandlesBuilder(
+          int index) {
+        return getCandlesFieldBuilder().addBuilder(
+            index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Changed candles (all candles when full_snapshot is true)
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 4;</code>
+       */
+      public java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder> 
+           getCandlesBuilderList() {
+        return getCandlesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+          getCandlesFieldBuilder() {
+        if (candlesBuilder_ == null) {
+          candlesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder>(
+                  candles_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          candles_ = null;
+        }
+        return candlesBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringArrayList removedSymbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureRemovedSymbolsIsMutable() {
+        if (!removedSymbols_.isModifiable()) {
+          removedSymbols_ = new com.google.protobuf.LazyStringArrayList(removedSymbols_);
+        }
+        bitField0_ |= 0x00000010;
+      }
+      /**
+       * <pre>
+       * Symbols no longer present since previous_sequence
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 5;</code>
+       * @return A list containing the removedSymbols.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getRemovedSymbolsList() {
+        removedSymbols_.makeImmutable();
+        return removedSymbols_;
+      }
+      /**
+       * <pre>
+       * Symbols no longer present since previous_sequence
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 5;</code>
+       * @return The count of removedSymbols.
+       */
+      public int getRemovedSymbolsCount() {
+        return removedSymbols_.size();
+      }
+      /**
+       * <pre>
+       * Symbols no longer present since previous_sequence
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 5;</code>
+       * @param index The index of the element to return.
+       * @return The removedSymbols at the given index.
+       */
+      public java.lang.String getRemovedSymbols(int index) {
+        return removedSymbols_.get(index);
+      }
+      /**
+       * <pre>
+       * Symbols no longer present since previous_sequence
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 5;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the removedSymbols at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getRemovedSymbolsBytes(int index) {
+        return removedSymbols_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Symbols no longer present since previous_sequence
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The removedSymbols to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemovedSymbols(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureRemovedSymbolsIsMutable();
+        removedSymbols_.set(index, value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Symbols no longer present since previous_sequence
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 5;</code>
+       * @param value The removedSymbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedSymbols(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureRemovedSymbolsIsMutable();
+        removedSymbols_.add(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Symbols no longer present since previous_sequence
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 5;</code>
+       * @param values The removedSymbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemovedSymbols(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureRemovedSymbolsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedSymbols_);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Symbols no longer present since previous_sequence
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemovedSymbols() {
+        removedSymbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Symbols no longer present since previous_sequence
+       * </pre>
+       *
+       * <code>repeated string removed_symbols = 5;</code>
+       * @param value The bytes of the removedSymbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedSymbolsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureRemovedSymbolsIsMutable();
+        removedSymbols_.add(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.CandleDeltaResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.CandleDeltaResponse)
+    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse();
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CandleDeltaResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CandleDeltaResponse>() {
+      @java.lang.Override
+      public CandleDeltaResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CandleDeltaResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CandleDeltaResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.CandleDeltaResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SubscribeCandlesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.SubscribeCandlesRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 1;</code>
+     * @return A list containing the symbols.
+     */
+    java.util.List<java.lang.String>
+        getSymbolsList();
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 1;</code>
+     * @return The count of symbols.
+     */
+    int getSymbolsCount();
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 1;</code>
+     * @param index The index of the element to return.
+     * @return The symbols at the given index.
+     */
+    java.lang.String getSymbols(int index);
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the symbols at the given index.
+     */
+    com.google.protobuf.ByteString
+        getSymbolsBytes(int index);
+
+    /**
+     * <pre>
+     * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+     * </pre>
+     *
+     * <code>repeated string patterns = 2;</code>
+     * @return A list containing the patterns.
+     */
+    java.util.List<java.lang.String>
+        getPatternsList();
+    /**
+     * <pre>
+     * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+     * </pre>
+     *
+     * <code>repeated string patterns = 2;</code>
+     * @return The count of patterns.
+     */
+    int getPatternsCount();
+    /**
+     * <pre>
+     * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+     * </pre>
+     *
+     * <code>repeated string patterns = 2;</code>
+     * @param index The index of the element to return.
+     * @return The patterns at the given index.
+     */
+    java.lang.String getPatterns(int index);
+    /**
+     * <pre>
+     * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+     * </pre>
+     *
+     * <code>repeated string patterns = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the patterns at the given index.
+     */
+    com.google.protobuf.ByteString
+        getPatternsBytes(int index);
+  }
+  /**
+   * <pre>
+   **
+   * Request message for a symbol-filtered candle subscription.
+   * </pre>
+   *
+   * Protobuf type {@code ca.digilogue.xp.grpc.SubscribeCandlesRequest}
+   */
+  public static final class SubscribeCandlesRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.SubscribeCandlesRequest)
+      SubscribeCandlesRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SubscribeCandlesRequest.newBuilder() to construct.
+    private SubscribeCandlesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SubscribeCandlesRequest() {
+      symbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      patterns_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SubscribeCandlesRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_SubscribeCandlesRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_SubscribeCandlesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest.Builder.class);
+    }
+
+    public static final int SYMBOLS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList symbols_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 1;</code>
+     * @return A list containing the symbols.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getSymbolsList() {
+      return symbols_;
+    }
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 1;</code>
+     * @return The count of symbols.
+     */
+    public int getSymbolsCount() {
+      return symbols_.size();
+    }
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 1;</code>
+     * @param index The index of the element to return.
+     * @return The symbols at the given index.
+     */
+    public java.lang.String getSymbols(int index) {
+      return symbols_.get(index);
+    }
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the symbols at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getSymbolsBytes(int index) {
+      return symbols_.getByteString(index);
+    }
+
+    public static final int PATTERNS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList patterns_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+     * </pre>
+     *
+     * <code>repeated string patterns = 2;</code>
+     * @return A list containing the patterns.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPatternsList() {
+      return patterns_;
+    }
+    /**
+     * <pre>
+     * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+     * </pre>
+     *
+     * <code>repeated string patterns = 2;</code>
+     * @return The count of patterns.
+     */
+    public int getPatternsCount() {
+      return patterns_.size();
+    }
+    /**
+     * <pre>
+     * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+     * </pre>
+     *
+     * <code>repeated string patterns = 2;</code>
+     * @param index The index of the element to return.
+     * @return The patterns at the given index.
+     */
+    public java.lang.String getPatterns(int index) {
+      return patterns_.get(index);
+    }
+    /**
+     * <pre>
+     * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+     * </pre>
+     *
+     * <code>repeated string patterns = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the patterns at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getPatternsBytes(int index) {
+      return patterns_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < symbols_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, symbols_.getRaw(i));
+      }
+      for (int i = 0; i < patterns_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, patterns_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < symbols_.size(); i++) {
+          dataSize += computeStringSizeNoTag(symbols_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getSymbolsList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < patterns_.size(); i++) {
+          dataSize += computeStringSizeNoTag(patterns_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getPatternsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest)) {
+        return super.equals(obj);
+      }
+      ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest other = (ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest) obj;
+
+      if (!getSymbolsList()
+          .equals(other.getSymbolsList())) return false;
+      if (!getPatternsList()
+          .equals(other.getPatternsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getSymbolsCount() > 0) {
+        hash = (37 * hash) + SYMBOLS_FIELD_NUMBER;
+        hash = (53 * hash) + getSymbolsList().hashCode();
+      }
+      if (getPatternsCount() > 0) {
+        hash = (37 * hash) + PATTERNS_FIELD_NUMBER;
+        hash = (53 * hash) + getPatternsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     * Request message for a symbol-filtered candle subscription.
+     * </pre>
+     *
+     * Protobuf type {@code ca.digilogue.xp.grpc.SubscribeCandlesRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.SubscribeCandlesRequest)
+        ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_SubscribeCandlesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_SubscribeCandlesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest.Builder.class);
+      }
+
+      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        symbols_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        patterns_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_SubscribeCandlesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest getDefaultInstanceForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest build() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest buildPartial() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest result = new ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          symbols_.makeImmutable();
+          result.symbols_ = symbols_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          patterns_.makeImmutable();
+          result.patterns_ = patterns_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest) {
+          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest other) {
+        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest.getDefaultInstance()) return this;
+        if (!other.symbols_.isEmpty()) {
+          if (symbols_.isEmpty()) {
+            symbols_ = other.symbols_;
+            bitField0_ |= 0x00000001;
+          } else {
+            ensureSymbolsIsMutable();
+            symbols_.addAll(other.symbols_);
+          }
+          onChanged();
+        }
+        if (!other.patterns_.isEmpty()) {
+          if (patterns_.isEmpty()) {
+            patterns_ = other.patterns_;
+            bitField0_ |= 0x00000002;
+          } else {
+            ensurePatternsIsMutable();
+            patterns_.addAll(other.patterns_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureSymbolsIsMutable();
+                symbols_.add(s);
+                break;
+              } // case 10
+              case 18: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensurePatternsIsMutable();
+                patterns_.add(s);
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringArrayList symbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureSymbolsIsMutable() {
+        if (!symbols_.isModifiable()) {
+          symbols_ = new com.google.protobuf.LazyStringArrayList(symbols_);
+        }
+        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @return A list containing the symbols.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getSymbolsList() {
+        symbols_.makeImmutable();
+        return symbols_;
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @return The count of symbols.
+       */
+      public int getSymbolsCount() {
+        return symbols_.size();
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @param index The index of the element to return.
+       * @return The symbols at the given index.
+       */
+      public java.lang.String getSymbols(int index) {
+        return symbols_.get(index);
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the symbols at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getSymbolsBytes(int index) {
+        return symbols_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The symbols to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSymbols(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureSymbolsIsMutable();
+        symbols_.set(index, value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @param value The symbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSymbols(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureSymbolsIsMutable();
+        symbols_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @param values The symbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllSymbols(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureSymbolsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, symbols_);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSymbols() {
+        symbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 1;</code>
+       * @param value The bytes of the symbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSymbolsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureSymbolsIsMutable();
+        symbols_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList patterns_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensurePatternsIsMutable() {
+        if (!patterns_.isModifiable()) {
+          patterns_ = new com.google.protobuf.LazyStringArrayList(patterns_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <pre>
+       * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+       * </pre>
+       *
+       * <code>repeated string patterns = 2;</code>
+       * @return A list containing the patterns.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPatternsList() {
+        patterns_.makeImmutable();
+        return patterns_;
+      }
+      /**
+       * <pre>
+       * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+       * </pre>
+       *
+       * <code>repeated string patterns = 2;</code>
+       * @return The count of patterns.
+       */
+      public int getPatternsCount() {
+        return patterns_.size();
+      }
+      /**
+       * <pre>
+       * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+       * </pre>
+       *
+       * <code>repeated string patterns = 2;</code>
+       * @param index The index of the element to return.
+       * @return The patterns at the given index.
+       */
+      public java.lang.String getPatterns(int index) {
+        return patterns_.get(index);
+      }
+      /**
+       * <pre>
+       * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+       * </pre>
+       *
+       * <code>repeated string patterns = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the patterns at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getPatternsBytes(int index) {
+        return patterns_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+       * </pre>
+       *
+       * <code>repeated string patterns = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The patterns to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPatterns(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePatternsIsMutable();
+        patterns_.set(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+       * </pre>
+       *
+       * <code>repeated string patterns = 2;</code>
+       * @param value The patterns to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPatterns(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePatternsIsMutable();
+        patterns_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+       * </pre>
+       *
+       * <code>repeated string patterns = 2;</code>
+       * @param values The patterns to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPatterns(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePatternsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, patterns_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+       * </pre>
+       *
+       * <code>repeated string patterns = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPatterns() {
+        patterns_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Glob patterns: '*' matches any run of characters, '?' one character (e.g., "MEGA-*", "*-USD")
+       * </pre>
+       *
+       * <code>repeated string patterns = 2;</code>
+       * @param value The bytes of the patterns to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPatternsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensurePatternsIsMutable();
+        patterns_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.SubscribeCandlesRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.SubscribeCandlesRequest)
+    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest();
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SubscribeCandlesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<SubscribeCandlesRequest>() {
+      @java.lang.Override
+      public SubscribeCandlesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SubscribeCandlesRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SubscribeCandlesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.SubscribeCandlesRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SubscriptionControlRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.SubscriptionControlRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.ca.digilogue.xp.grpc.SubscriptionControlRequest.Action action = 1;</code>
+     * @return The enum numeric value on the wire for action.
+     */
+    int getActionValue();
+    /**
+     * <code>.ca.digilogue.xp.grpc.SubscriptionControlRequest.Action action = 1;</code>
+     * @return The action.
+     */
+    ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.Action getAction();
+
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 2;</code>
+     * @return A list containing the symbols.
+     */
+    java.util.List<java.lang.String>
+        getSymbolsList();
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 2;</code>
+     * @return The count of symbols.
+     */
+    int getSymbolsCount();
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 2;</code>
+     * @param index The index of the element to return.
+     * @return The symbols at the given index.
+     */
+    java.lang.String getSymbols(int index);
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the symbols at the given index.
+     */
+    com.google.protobuf.ByteString
+        getSymbolsBytes(int index);
+
+    /**
+     * <pre>
+     * Glob patterns, as in SubscribeCandlesRequest
+     * </pre>
+     *
+     * <code>repeated string patterns = 3;</code>
+     * @return A list containing the patterns.
+     */
+    java.util.List<java.lang.String>
+        getPatternsList();
+    /**
+     * <pre>
+     * Glob patterns, as in SubscribeCandlesRequest
+     * </pre>
+     *
+     * <code>repeated string patterns = 3;</code>
+     * @return The count of patterns.
+     */
+    int getPatternsCount();
+    /**
+     * <pre>
+     * Glob patterns, as in SubscribeCandlesRequest
+     * </pre>
+     *
+     * <code>repeated string patterns = 3;</code>
+     * @param index The index of the element to return.
+     * @return The patterns at the given index.
+     */
+    java.lang.String getPatterns(int index);
+    /**
+     * <pre>
+     * Glob patterns, as in SubscribeCandlesRequest
+     * </pre>
+     *
+     * <code>repeated string patterns = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the patterns at the given index.
+     */
+    com.google.protobuf.ByteString
+        getPatternsBytes(int index);
+  }
+  /**
+   * <pre>
+   **
+   * Control message for changing the interest set of a ManageCandleSubscription stream.
+   * </pre>
+   *
+   * Protobuf type {@code ca.digilogue.xp.grpc.SubscriptionControlRequest}
+   */
+  public static final class SubscriptionControlRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.SubscriptionControlRequest)
+      SubscriptionControlRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SubscriptionControlRequest.newBuilder() to construct.
+    private SubscriptionControlRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SubscriptionControlRequest() {
+      action_ = 0;
+      symbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      patterns_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SubscriptionControlRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_SubscriptionControlRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_SubscriptionControlRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code ca.digilogue.xp.grpc.SubscriptionControlRequest.Action}
+     */
+    public enum Action
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <pre>
+       * Add the symbols/patterns to the interest set
+       * </pre>
+       *
+       * <code>SUBSCRIBE = 0;</code>
+       */
+      SUBSCRIBE(0),
+      /**
+       * <pre>
+       * Remove the symbols/patterns from the interest set
+       * </pre>
+       *
+       * <code>UNSUBSCRIBE = 1;</code>
+       */
+      UNSUBSCRIBE(1),
+      UNRECOGNIZED(-1),
+      ;
+
+      /**
+       * <pre>
+       * Add the symbols/patterns to the interest set
+       * </pre>
+       *
+       * <code>SUBSCRIBE = 0;</code>
+       */
+      public static final int SUBSCRIBE_VALUE = 0;
+      /**
+       * <pre>
+       * Remove the symbols/patterns from the interest set
+       * </pre>
+       *
+       * <code>UNSUBSCRIBE = 1;</code>
+       */
+      public static final int UNSUBSCRIBE_VALUE = 1;
+
+
+      public final int getNumber() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalArgumentException(
+              "Can't get the number of an unknown enum value.");
+        }
+        return value;
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static Action valueOf(int value) {
+        return forNumber(value);
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       */
+      public static Action forNumber(int value) {
+        switch (value) {
+          case 0: return SUBSCRIBE;
+          case 1: return UNSUBSCRIBE;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Action>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          Action> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<Action>() {
+              public Action findValueByNumber(int number) {
+                return Action.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalStateException(
+              "Can't get the descriptor of an unrecognized enum value.");
+        }
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final Action[] VALUES = values();
+
+      public static Action valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        if (desc.getIndex() == -1) {
+          return UNRECOGNIZED;
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private Action(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:ca.digilogue.xp.grpc.SubscriptionControlRequest.Action)
+    }
+
+    public static final int ACTION_FIELD_NUMBER = 1;
+    private int action_ = 0;
+    /**
+     * <code>.ca.digilogue.xp.grpc.SubscriptionControlRequest.Action action = 1;</code>
+     * @return The enum numeric value on the wire for action.
+     */
+    @java.lang.Override public int getActionValue() {
+      return action_;
+    }
+    /**
+     * <code>.ca.digilogue.xp.grpc.SubscriptionControlRequest.Action action = 1;</code>
+     * @return The action.
+     */
+    @java.lang.Override public ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.Action getAction() {
+      ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.Action result = ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.Action.forNumber(action_);
+      return result == null ? ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.Action.UNRECOGNIZED : result;
+    }
+
+    public static final int SYMBOLS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList symbols_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 2;</code>
+     * @return A list containing the symbols.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getSymbolsList() {
+      return symbols_;
+    }
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 2;</code>
+     * @return The count of symbols.
+     */
+    public int getSymbolsCount() {
+      return symbols_.size();
+    }
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 2;</code>
+     * @param index The index of the element to return.
+     * @return The symbols at the given index.
+     */
+    public java.lang.String getSymbols(int index) {
+      return symbols_.get(index);
+    }
+    /**
+     * <pre>
+     * Exact trading symbols (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>repeated string symbols = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the symbols at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getSymbolsBytes(int index) {
+      return symbols_.getByteString(index);
+    }
+
+    public static final int PATTERNS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList patterns_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * Glob patterns, as in SubscribeCandlesRequest
+     * </pre>
+     *
+     * <code>repeated string patterns = 3;</code>
+     * @return A list containing the patterns.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPatternsList() {
+      return patterns_;
+    }
+    /**
+     * <pre>
+     * Glob patterns, as in SubscribeCandlesRequest
+     * </pre>
+     *
+     * <code>repeated string patterns = 3;</code>
+     * @return The count of patterns.
+     */
+    public int getPatternsCount() {
+      return patterns_.size();
+    }
+    /**
+     * <pre>
+     * Glob patterns, as in SubscribeCandlesRequest
+     * </pre>
+     *
+     * <code>repeated string patterns = 3;</code>
+     * @param index The index of the element to return.
+     * @return The patterns at the given index.
+     */
+    public java.lang.String getPatterns(int index) {
+      return patterns_.get(index);
+    }
+    /**
+     * <pre>
+     * Glob patterns, as in SubscribeCandlesRequest
+     * </pre>
+     *
+     * <code>repeated string patterns = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the patterns at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getPatternsBytes(int index) {
+      return patterns_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (action_ != ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.Action.SUBSCRIBE.getNumber()) {
+        output.writeEnum(1, action_);
+      }
+      for (int i = 0; i < symbols_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, symbols_.getRaw(i));
+      }
+      for (int i = 0; i < patterns_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, patterns_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (action_ != ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.Action.SUBSCRIBE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, action_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < symbols_.size(); i++) {
+          dataSize += computeStringSizeNoTag(symbols_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getSymbolsList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < patterns_.size(); i++) {
+          dataSize += computeStringSizeNoTag(patterns_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getPatternsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest)) {
+        return super.equals(obj);
+      }
+      ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest other = (ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest) obj;
+
+      if (action_ != other.action_) return false;
+      if (!getSymbolsList()
+          .equals(other.getSymbolsList())) return false;
+      if (!getPatternsList()
+          .equals(other.getPatternsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ACTION_FIELD_NUMBER;
+      hash = (53 * hash) + action_;
+      if (getSymbolsCount() > 0) {
+        hash = (37 * hash) + SYMBOLS_FIELD_NUMBER;
+        hash = (53 * hash) + getSymbolsList().hashCode();
+      }
+      if (getPatternsCount() > 0) {
+        hash = (37 * hash) + PATTERNS_FIELD_NUMBER;
+        hash = (53 * hash) + getPatternsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     * Control message for changing the interest set of a ManageCandleSubscription stream.
+     * </pre>
+     *
+     * Protobuf type {@code ca.digilogue.xp.grpc.SubscriptionControlRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.SubscriptionControlRequest)
+        ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_SubscriptionControlRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_SubscriptionControlRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.Builder.class);
+      }
+
+      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        action_ = 0;
+        symbols_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        patterns_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_SubscriptionControlRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest getDefaultInstanceForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest build() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest buildPartial() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest result = new ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.action_ = action_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          symbols_.makeImmutable();
+          result.symbols_ = symbols_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          patterns_.makeImmutable();
+          result.patterns_ = patterns_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest) {
+          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest other) {
+        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.getDefaultInstance()) return this;
+        if (other.action_ != 0) {
+          setActionValue(other.getActionValue());
+        }
+        if (!other.symbols_.isEmpty()) {
+          if (symbols_.isEmpty()) {
+            symbols_ = other.symbols_;
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureSymbolsIsMutable();
+            symbols_.addAll(other.symbols_);
+          }
+          onChanged();
+        }
+        if (!other.patterns_.isEmpty()) {
+          if (patterns_.isEmpty()) {
+            patterns_ = other.patterns_;
+            bitField0_ |= 0x00000004;
+          } else {
+            ensurePatternsIsMutable();
+            patterns_.addAll(other.patterns_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                action_ = input.readEnum();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureSymbolsIsMutable();
+                symbols_.add(s);
+                break;
+              } // case 18
+              case 26: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensurePatternsIsMutable();
+                patterns_.add(s);
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int action_ = 0;
+      /**
+       * <code>.ca.digilogue.xp.grpc.SubscriptionControlRequest.Action action = 1;</code>
+       * @return The enum numeric value on the wire for action.
+       */
+      @java.lang.Override public int getActionValue() {
+        return action_;
+      }
+      /**
+       * <code>.ca.digilogue.xp.grpc.SubscriptionControlRequest.Action action = 1;</code>
+       * @param value The enum numeric value on the wire for action to set.
+       * @return This builder for chaining.
+       */
+      public Builder setActionValue(int value) {
+        action_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.ca.digilogue.xp.grpc.SubscriptionControlRequest.Action action = 1;</code>
+       * @return The action.
+       */
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.Action getAction() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.Action result = ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.Action.forNumber(action_);
+        return result == null ? ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.Action.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.ca.digilogue.xp.grpc.SubscriptionControlRequest.Action action = 1;</code>
+       * @param value The action to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAction(ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest.Action value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        action_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.ca.digilogue.xp.grpc.SubscriptionControlRequest.Action action = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAction() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        action_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList symbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureSymbolsIsMutable() {
+        if (!symbols_.isModifiable()) {
+          symbols_ = new com.google.protobuf.LazyStringArrayList(symbols_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 2;</code>
+       * @return A list containing the symbols.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getSymbolsList() {
+        symbols_.makeImmutable();
+        return symbols_;
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 2;</code>
+       * @return The count of symbols.
+       */
+      public int getSymbolsCount() {
+        return symbols_.size();
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 2;</code>
+       * @param index The index of the element to return.
+       * @return The symbols at the given index.
+       */
+      public java.lang.String getSymbols(int index) {
+        return symbols_.get(index);
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the symbols at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getSymbolsBytes(int index) {
+        return symbols_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The symbols to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSymbols(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureSymbolsIsMutable();
+        symbols_.set(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 2;</code>
+       * @param value The symbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSymbols(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureSymbolsIsMutable();
+        symbols_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 2;</code>
+       * @param values The symbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllSymbols(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureSymbolsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, symbols_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSymbols() {
+        symbols_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Exact trading symbols (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>repeated string symbols = 2;</code>
+       * @param value The bytes of the symbols to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSymbolsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureSymbolsIsMutable();
+        symbols_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList patterns_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensurePatternsIsMutable() {
+        if (!patterns_.isModifiable()) {
+          patterns_ = new com.google.protobuf.LazyStringArrayList(patterns_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <pre>
+       * Glob patterns, as in SubscribeCandlesRequest
+       * </pre>
+       *
+       * <code>repeated string patterns = 3;</code>
+       * @return A list containing the patterns.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPatternsList() {
+        patterns_.makeImmutable();
+        return patterns_;
+      }
+      /**
+       * <pre>
+       * Glob patterns, as in SubscribeCandlesRequest
+       * </pre>
+       *
+       * <code>repeated string patterns = 3;</code>
+       * @return The count of patterns.
+       */
+      public int getPatternsCount() {
+        return patterns_.size();
+      }
+      /**
+       * <pre>
+       * Glob patterns, as in SubscribeCandlesRequest
+       * </pre>
+       *
+       * <code>repeated string patterns = 3;</code>
+       * @param index The index of the element to return.
+       * @return The patterns at the given index.
+       */
+      public java.lang.String getPatterns(int index) {
+        return patterns_.get(index);
+      }
+      /**
+       * <pre>
+       * Glob patterns, as in SubscribeCandlesRequest
+       * </pre>
+       *
+       * <code>repeated string patterns = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the patterns at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getPatternsBytes(int index) {
+        return patterns_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Glob patterns, as in SubscribeCandlesRequest
+       * </pre>
+       *
+       * <code>repeated string patterns = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The patterns to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPatterns(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePatternsIsMutable();
+        patterns_.set(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Glob patterns, as in SubscribeCandlesRequest
+       * </pre>
+       *
+       * <code>repeated string patterns = 3;</code>
+       * @param value The patterns to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPatterns(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePatternsIsMutable();
+        patterns_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Glob patterns, as in SubscribeCandlesRequest
+       * </pre>
+       *
+       * <code>repeated string patterns = 3;</code>
+       * @param values The patterns to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPatterns(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePatternsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, patterns_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Glob patterns, as in SubscribeCandlesRequest
+       * </pre>
+       *
+       * <code>repeated string patterns = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPatterns() {
+        patterns_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Glob patterns, as in SubscribeCandlesRequest
+       * </pre>
+       *
+       * <code>repeated string patterns = 3;</code>
+       * @param value The bytes of the patterns to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPatternsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensurePatternsIsMutable();
+        patterns_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.SubscriptionControlRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.SubscriptionControlRequest)
+    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest();
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SubscriptionControlRequest>
+        PARSER = new com.google.protobuf.AbstractParser<SubscriptionControlRequest>() {
+      @java.lang.Override
+      public SubscriptionControlRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SubscriptionControlRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SubscriptionControlRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.SubscriptionControlRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetCandleHistoryRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.GetCandleHistoryRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Trading symbol (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>string symbol = 1;</code>
+     * @return The symbol.
+     */
+    java.lang.String getSymbol();
+    /**
+     * <pre>
+     * Trading symbol (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>string symbol = 1;</code>
+     * @return The bytes for symbol.
+     */
+    com.google.protobuf.ByteString
+        getSymbolBytes();
+
+    /**
+     * <pre>
+     * Range start, inclusive, in nanoseconds since epoch
+     * </pre>
+     *
+     * <code>int64 start_time = 2;</code>
+     * @return The startTime.
+     */
+    long getStartTime();
+
+    /**
+     * <pre>
+     * Range end, exclusive, in nanoseconds since epoch (0 = now)
+     * </pre>
+     *
+     * <code>int64 end_time = 3;</code>
+     * @return The endTime.
+     */
+    long getEndTime();
+
+    /**
+     * <pre>
+     * Aggregation window in seconds (0 = stored candles as they are)
+     * </pre>
+     *
+     * <code>int64 interval_seconds = 4;</code>
+     * @return The intervalSeconds.
+     */
+    long getIntervalSeconds();
+
+    /**
+     * <pre>
+     * Candles per page (0 = server default; capped by the server)
+     * </pre>
+     *
+     * <code>uint32 page_size = 5;</code>
+     * @return The pageSize.
+     */
+    int getPageSize();
+  }
+  /**
+   * <pre>
+   **
+   * Request message for a candle history query.
+   * </pre>
+   *
+   * Protobuf type {@code ca.digilogue.xp.grpc.GetCandleHistoryRequest}
+   */
+  public static final class GetCandleHistoryRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.GetCandleHistoryRequest)
+      GetCandleHistoryRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetCandleHistoryRequest.newBuilder() to construct.
+    private GetCandleHistoryRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetCandleHistoryRequest() {
+      symbol_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetCandleHistoryRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetCandleHistoryRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetCandleHistoryRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest.Builder.class);
+    }
+
+    public static final int SYMBOL_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object symbol_ = "";
+    /**
+     * <pre>
+     * Trading symbol (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>string symbol = 1;</code>
+     * @return The symbol.
+     */
+    @java.lang.Override
+    public java.lang.String getSymbol() {
+      java.lang.Object ref = symbol_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        symbol_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Trading symbol (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>string symbol = 1;</code>
+     * @return The bytes for symbol.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSymbolBytes() {
+      java.lang.Object ref = symbol_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        symbol_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int START_TIME_FIELD_NUMBER = 2;
+    private long startTime_ = 0L;
+    /**
+     * <pre>
+     * Range start, inclusive, in nanoseconds since epoch
+     * </pre>
+     *
+     * <code>int64 start_time = 2;</code>
+     * @return The startTime.
+     */
+    @java.lang.Override
+    public long getStartTime() {
+      return startTime_;
+    }
+
+    public static final int END_TIME_FIELD_NUMBER = 3;
+    private long endTime_ = 0L;
+    /**
+     * <pre>
+     * Range end, exclusive, in nanoseconds since epoch (0 = now)
+     * </pre>
+     *
+     * <code>int64 end_time = 3;</code>
+     * @return The endTime.
+     */
+    @java.lang.Override
+    public long getEndTime() {
+      return endTime_;
+    }
+
+    public static final int INTERVAL_SECONDS_FIELD_NUMBER = 4;
+    private long intervalSeconds_ = 0L;
+    /**
+     * <pre>
+     * Aggregation window in seconds (0 = stored candles as they are)
+     * </pre>
+     *
+     * <code>int64 interval_seconds = 4;</code>
+     * @return The intervalSeconds.
+     */
+    @java.lang.Override
+    public long getIntervalSeconds() {
+      return intervalSeconds_;
+    }
+
+    public static final int PAGE_SIZE_FIELD_NUMBER = 5;
+    private int pageSize_ = 0;
+    /**
+     * <pre>
+     * Candles per page (0 = server default; capped by the server)
+     * </pre>
+     *
+     * <code>uint32 page_size = 5;</code>
+     * @return The pageSize.
+     */
+    @java.lang.Override
+    public int getPageSize() {
+      return pageSize_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(symbol_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, symbol_);
+      }
+      if (startTime_ != 0L) {
+        output.writeInt64(2, startTime_);
+      }
+      if (endTime_ != 0L) {
+        output.writeInt64(3, endTime_);
+      }
+      if (intervalSeconds_ != 0L) {
+        output.writeInt64(4, intervalSeconds_);
+      }
+      if (pageSize_ != 0) {
+        output.writeUInt32(5, pageSize_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(symbol_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, symbol_);
+      }
+      if (startTime_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, startTime_);
+      }
+      if (endTime_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, endTime_);
+      }
+      if (intervalSeconds_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, intervalSeconds_);
+      }
+      if (pageSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(5, pageSize_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest)) {
+        return super.equals(obj);
+      }
+      ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest other = (ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest) obj;
+
+      if (!getSymbol()
+          .equals(other.getSymbol())) return false;
+      if (getStartTime()
+          != other.getStartTime()) return false;
+      if (getEndTime()
+          != other.getEndTime()) return false;
+      if (getIntervalSeconds()
+          != other.getIntervalSeconds()) return false;
+      if (getPageSize()
+          != other.getPageSize()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SYMBOL_FIELD_NUMBER;
+      hash = (53 * hash) + getSymbol().hashCode();
+      hash = (37 * hash) + START_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getStartTime());
+      hash = (37 * hash) + END_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getEndTime());
+      hash = (37 * hash) + INTERVAL_SECONDS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getIntervalSeconds());
+      hash = (37 * hash) + PAGE_SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getPageSize();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     * Request message for a candle history query.
+     * </pre>
+     *
+     * Protobuf type {@code ca.digilogue.xp.grpc.GetCandleHistoryRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.GetCandleHistoryRequest)
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetCandleHistoryRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetCandleHistoryRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest.Builder.class);
+      }
+
+      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        symbol_ = "";
+        startTime_ = 0L;
+        endTime_ = 0L;
+        intervalSeconds_ = 0L;
+        pageSize_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetCandleHistoryRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest getDefaultInstanceForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest build() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest buildPartial() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest result = new ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.symbol_ = symbol_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.startTime_ = startTime_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.endTime_ = endTime_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.intervalSeconds_ = intervalSeconds_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.pageSize_ = pageSize_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest) {
+          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest other) {
+        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest.getDefaultInstance()) return this;
+        if (!other.getSymbol().isEmpty()) {
+          symbol_ = other.symbol_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getStartTime() != 0L) {
+          setStartTime(other.getStartTime());
+        }
+        if (other.getEndTime() != 0L) {
+          setEndTime(other.getEndTime());
+        }
+        if (other.getIntervalSeconds() != 0L) {
+          setIntervalSeconds(other.getIntervalSeconds());
+        }
+        if (other.getPageSize() != 0) {
+          setPageSize(other.getPageSize());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                symbol_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                startTime_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                endTime_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                intervalSeconds_ = input.readInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                pageSize_ = input.readUInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object symbol_ = "";
+      /**
+       * <pre>
+       * Trading symbol (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @return The symbol.
+       */
+      public java.lang.String getSymbol() {
+        java.lang.Object ref = symbol_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          symbol_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Trading symbol (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @return The bytes for symbol.
+       */
+      public com.google.protobuf.ByteString
+          getSymbolBytes() {
+        java.lang.Object ref = symbol_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          symbol_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Trading symbol (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @param value The symbol to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSymbol(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        symbol_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Trading symbol (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSymbol() {
+        symbol_ = getDefaultInstance().getSymbol();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Trading symbol (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @param value The bytes for symbol to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSymbolBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        symbol_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private long startTime_ ;
+      /**
+       * <pre>
+       * Range start, inclusive, in nanoseconds since epoch
+       * </pre>
+       *
+       * <code>int64 start_time = 2;</code>
+       * @return The startTime.
+       */
+      @java.lang.Override
+      public long getStartTime() {
+        return startTime_;
+      }
+      /**
+       * <pre>
+       * Range start, inclusive, in nanoseconds since epoch
+       * </pre>
+       *
+       * <code>int64 start_time = 2;</code>
+       * @param value The startTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStartTime(long value) {
+
+        startTime_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Range start, inclusive, in nanoseconds since epoch
+       * </pre>
+       *
+       * <code>int64 start_time = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStartTime() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        startTime_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long endTime_ ;
+      /**
+       * <pre>
+       * Range end, exclusive, in nanoseconds since epoch (0 = now)
+       * </pre>
+       *
+       * <code>int64 end_time = 3;</code>
+       * @return The endTime.
+       */
+      @java.lang.Override
+      public long getEndTime() {
+        return endTime_;
+      }
+      /**
+       * <pre>
+       * Range end, exclusive, in nanoseconds since epoch (0 = now)
+       * </pre>
+       *
+       * <code>int64 end_time = 3;</code>
+       * @param value The endTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEndTime(long value) {
+
+        endTime_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Range end, exclusive, in nanoseconds since epoch (0 = now)
+       * </pre>
+       *
+       * <code>int64 end_time = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEndTime() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        endTime_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long intervalSeconds_ ;
+      /**
+       * <pre>
+       * Aggregation window in seconds (0 = stored candles as they are)
+       * </pre>
+       *
+       * <code>int64 interval_seconds = 4;</code>
+       * @return The intervalSeconds.
+       */
+      @java.lang.Override
+      public long getIntervalSeconds() {
+        return intervalSeconds_;
+      }
+      /**
+       * <pre>
+       * Aggregation window in seconds (0 = stored candles as they are)
+       * </pre>
+       *
+       * <code>int64 interval_seconds = 4;</code>
+       * @param value The intervalSeconds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIntervalSeconds(long value) {
+
+        intervalSeconds_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Aggregation window in seconds (0 = stored candles as they are)
+       * </pre>
+       *
+       * <code>int64 interval_seconds = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIntervalSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        intervalSeconds_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int pageSize_ ;
+      /**
+       * <pre>
+       * Candles per page (0 = server default; capped by the server)
+       * </pre>
+       *
+       * <code>uint32 page_size = 5;</code>
+       * @return The pageSize.
+       */
+      @java.lang.Override
+      public int getPageSize() {
+        return pageSize_;
+      }
+      /**
+       * <pre>
+       * Candles per page (0 = server default; capped by the server)
+       * </pre>
+       *
+       * <code>uint32 page_size = 5;</code>
+       * @param value The pageSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageSize(int value) {
+
+        pageSize_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Candles per page (0 = server default; capped by the server)
+       * </pre>
+       *
+       * <code>uint32 page_size = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPageSize() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        pageSize_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.GetCandleHistoryRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.GetCandleHistoryRequest)
+    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest();
+    }
+
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetCandleHistoryRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetCandleHistoryRequest>() {
+      @java.lang.Override
+      public GetCandleHistoryRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetCandleHistoryRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetCandleHistoryRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.GetCandleHistoryRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CandleHistoryPageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.CandleHistoryPage)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Candles of this page, oldest first
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> 
+        getCandlesList();
+    /**
+     * <pre>
+     * Candles of this page, oldest first
+     * </pre>
+     *
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+     */
+    ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getCandles(int index);
     /**
      * <pre>
-     * Highest price
+     * Candles of this page, oldest first
      * </pre>
      *
-     * <code>double high = 3;</code>
-     * @return The high.
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
      */
-    double getHigh();
-
+    int getCandlesCount();
     /**
      * <pre>
-     * Lowest price
+     * Candles of this page, oldest first
      * </pre>
      *
-     * <code>double low = 4;</code>
-     * @return The low.
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
      */
-    double getLow();
-
+    java.util.List<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+        getCandlesOrBuilderList();
     /**
      * <pre>
-     * Closing price
+     * Candles of this page, oldest first
      * </pre>
      *
-     * <code>double close = 5;</code>
-     * @return The close.
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
      */
-    double getClose();
+    ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder getCandlesOrBuilder(
+        int index);
 
     /**
      * <pre>
-     * Trading volume
+     * Page number, starting at 0
      * </pre>
      *
-     * <code>double volume = 6;</code>
-     * @return The volume.
+     * <code>uint32 page = 2;</code>
+     * @return The page.
      */
-    double getVolume();
+    int getPage();
 
     /**
      * <pre>
-     * Timestamp in nanoseconds since epoch
+     * True for the final page (which may be empty)
      * </pre>
      *
-     * <code>int64 timestamp = 7;</code>
-     * @return The timestamp.
+     * <code>bool last_page = 3;</code>
+     * @return The lastPage.
      */
-    long getTimestamp();
+    boolean getLastPage();
   }
   /**
    * <pre>
    **
-   * Response message containing OHLCV candle data.
+   * One page of a candle history query.
    * </pre>
    *
-   * Protobuf type {@code ca.digilogue.xp.grpc.OhlcvCandleResponse}
+   * Protobuf type {@code ca.digilogue.xp.grpc.CandleHistoryPage}
    */
-  public static final class OhlcvCandleResponse extends
+  public static final class CandleHistoryPage extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.OhlcvCandleResponse)
-      OhlcvCandleResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.CandleHistoryPage)
+      CandleHistoryPageOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use OhlcvCandleResponse.newBuilder() to construct.
-    private OhlcvCandleResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use CandleHistoryPage.newBuilder() to construct.
+    private CandleHistoryPage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private OhlcvCandleResponse() {
-      symbol_ = "";
+    private CandleHistoryPage() {
+      candles_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new OhlcvCandleResponse();
+      return new CandleHistoryPage();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_descriptor;
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_CandleHistoryPage_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_fieldAccessorTable
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_CandleHistoryPage_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.class, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder.class);
+              ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage.class, ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage.Builder.class);
     }
 
-    public static final int SYMBOL_FIELD_NUMBER = 1;
+    public static final int CANDLES_FIELD_NUMBER = 1;
     @SuppressWarnings("serial")
-    private volatile java.lang.Object symbol_ = "";
-    /**
-     * <pre>
-     * Trading symbol
-     * </pre>
-     *
-     * <code>string symbol = 1;</code>
-     * @return The symbol.
-     */
-    @java.lang.Override
-    public java.lang.String getSymbol() {
-      java.lang.Object ref = symbol_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        symbol_ = s;
-        return s;
-      }
-    }
+    private java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> candles_;
     /**
      * <pre>
-     * Trading symbol
+     * Candles of this page, oldest first
      * </pre>
      *
-     * <code>string symbol = 1;</code>
-     * @return The bytes for symbol.
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString
-        getSymbolBytes() {
-      java.lang.Object ref = symbol_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        symbol_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> getCandlesList() {
+      return candles_;
     }
-
-    public static final int OPEN_FIELD_NUMBER = 2;
-    private double open_ = 0D;
     /**
      * <pre>
-     * Opening price
+     * Candles of this page, oldest first
      * </pre>
      *
-     * <code>double open = 2;</code>
-     * @return The open.
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
      */
     @java.lang.Override
-    public double getOpen() {
-      return open_;
+    public java.util.List<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+        getCandlesOrBuilderList() {
+      return candles_;
     }
-
-    public static final int HIGH_FIELD_NUMBER = 3;
-    private double high_ = 0D;
     /**
      * <pre>
-     * Highest price
+     * Candles of this page, oldest first
      * </pre>
      *
-     * <code>double high = 3;</code>
-     * @return The high.
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
      */
     @java.lang.Override
-    public double getHigh() {
-      return high_;
+    public int getCandlesCount() {
+      return candles_.size();
     }
-
-    public static final int LOW_FIELD_NUMBER = 4;
-    private double low_ = 0D;
     /**
      * <pre>
-     * Lowest price
+     * Candles of this page, oldest first
      * </pre>
      *
-     * <code>double low = 4;</code>
-     * @return The low.
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
      */
     @java.lang.Override
-    public double getLow() {
-      return low_;
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getCandles(int index) {
+      return candles_.get(index);
     }
-
-    public static final int CLOSE_FIELD_NUMBER = 5;
-    private double close_ = 0D;
     /**
      * <pre>
-     * Closing price
+     * Candles of this page, oldest first
      * </pre>
      *
-     * <code>double close = 5;</code>
-     * @return The close.
+     * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
      */
     @java.lang.Override
-    public double getClose() {
-      return close_;
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder getCandlesOrBuilder(
+        int index) {
+      return candles_.get(index);
     }
 
-    public static final int VOLUME_FIELD_NUMBER = 6;
-    private double volume_ = 0D;
+    public static final int PAGE_FIELD_NUMBER = 2;
+    private int page_ = 0;
     /**
      * <pre>
-     * Trading volume
+     * Page number, starting at 0
      * </pre>
      *
-     * <code>double volume = 6;</code>
-     * @return The volume.
+     * <code>uint32 page = 2;</code>
+     * @return The page.
      */
     @java.lang.Override
-    public double getVolume() {
-      return volume_;
+    public int getPage() {
+      return page_;
     }
 
-    public static final int TIMESTAMP_FIELD_NUMBER = 7;
-    private long timestamp_ = 0L;
+    public static final int LAST_PAGE_FIELD_NUMBER = 3;
+    private boolean lastPage_ = false;
     /**
      * <pre>
-     * Timestamp in nanoseconds since epoch
+     * True for the final page (which may be empty)
      * </pre>
      *
-     * <code>int64 timestamp = 7;</code>
-     * @return The timestamp.
+     * <code>bool last_page = 3;</code>
+     * @return The lastPage.
      */
     @java.lang.Override
-    public long getTimestamp() {
-      return timestamp_;
+    public boolean getLastPage() {
+      return lastPage_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -889,26 +10582,14 @@ public final class OhlcvServiceProto {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(symbol_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, symbol_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(open_) != 0) {
-        output.writeDouble(2, open_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(high_) != 0) {
-        output.writeDouble(3, high_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(low_) != 0) {
-        output.writeDouble(4, low_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(close_) != 0) {
-        output.writeDouble(5, close_);
+      for (int i = 0; i < candles_.size(); i++) {
+        output.writeMessage(1, candles_.get(i));
       }
-      if (java.lang.Double.doubleToRawLongBits(volume_) != 0) {
-        output.writeDouble(6, volume_);
+      if (page_ != 0) {
+        output.writeUInt32(2, page_);
       }
-      if (timestamp_ != 0L) {
-        output.writeInt64(7, timestamp_);
+      if (lastPage_ != false) {
+        output.writeBool(3, lastPage_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -919,32 +10600,17 @@ public final class OhlcvServiceProto {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(symbol_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, symbol_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(open_) != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(2, open_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(high_) != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(3, high_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(low_) != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(4, low_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(close_) != 0) {
+      for (int i = 0; i < candles_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(5, close_);
+          .computeMessageSize(1, candles_.get(i));
       }
-      if (java.lang.Double.doubleToRawLongBits(volume_) != 0) {
+      if (page_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(6, volume_);
+          .computeUInt32Size(2, page_);
       }
-      if (timestamp_ != 0L) {
+      if (lastPage_ != false) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(7, timestamp_);
+          .computeBoolSize(3, lastPage_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -956,30 +10622,17 @@ public final class OhlcvServiceProto {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse)) {
+      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage)) {
         return super.equals(obj);
       }
-      ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse other = (ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse) obj;
+      ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage other = (ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage) obj;
 
-      if (!getSymbol()
-          .equals(other.getSymbol())) return false;
-      if (java.lang.Double.doubleToLongBits(getOpen())
-          != java.lang.Double.doubleToLongBits(
-              other.getOpen())) return false;
-      if (java.lang.Double.doubleToLongBits(getHigh())
-          != java.lang.Double.doubleToLongBits(
-              other.getHigh())) return false;
-      if (java.lang.Double.doubleToLongBits(getLow())
-          != java.lang.Double.doubleToLongBits(
-              other.getLow())) return false;
-      if (java.lang.Double.doubleToLongBits(getClose())
-          != java.lang.Double.doubleToLongBits(
-              other.getClose())) return false;
-      if (java.lang.Double.doubleToLongBits(getVolume())
-          != java.lang.Double.doubleToLongBits(
-              other.getVolume())) return false;
-      if (getTimestamp()
-          != other.getTimestamp()) return false;
+      if (!getCandlesList()
+          .equals(other.getCandlesList())) return false;
+      if (getPage()
+          != other.getPage()) return false;
+      if (getLastPage()
+          != other.getLastPage()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -991,69 +10644,58 @@ public final class OhlcvServiceProto {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + SYMBOL_FIELD_NUMBER;
-      hash = (53 * hash) + getSymbol().hashCode();
-      hash = (37 * hash) + OPEN_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          java.lang.Double.doubleToLongBits(getOpen()));
-      hash = (37 * hash) + HIGH_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          java.lang.Double.doubleToLongBits(getHigh()));
-      hash = (37 * hash) + LOW_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          java.lang.Double.doubleToLongBits(getLow()));
-      hash = (37 * hash) + CLOSE_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          java.lang.Double.doubleToLongBits(getClose()));
-      hash = (37 * hash) + VOLUME_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          java.lang.Double.doubleToLongBits(getVolume()));
-      hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getTimestamp());
+      if (getCandlesCount() > 0) {
+        hash = (37 * hash) + CANDLES_FIELD_NUMBER;
+        hash = (53 * hash) + getCandlesList().hashCode();
+      }
+      hash = (37 * hash) + PAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getPage();
+      hash = (37 * hash) + LAST_PAGE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getLastPage());
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(byte[] data)
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(java.io.InputStream input)
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1061,26 +10703,26 @@ public final class OhlcvServiceProto {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseDelimitedFrom(java.io.InputStream input)
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseDelimitedFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1093,7 +10735,7 @@ public final class OhlcvServiceProto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse prototype) {
+    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -1111,29 +10753,29 @@ public final class OhlcvServiceProto {
     /**
      * <pre>
      **
-     * Response message containing OHLCV candle data.
+     * One page of a candle history query.
      * </pre>
      *
-     * Protobuf type {@code ca.digilogue.xp.grpc.OhlcvCandleResponse}
+     * Protobuf type {@code ca.digilogue.xp.grpc.CandleHistoryPage}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.OhlcvCandleResponse)
-        ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.CandleHistoryPage)
+        ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_descriptor;
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_CandleHistoryPage_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_fieldAccessorTable
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_CandleHistoryPage_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.class, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder.class);
+                ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage.class, ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage.Builder.class);
       }
 
-      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.newBuilder()
+      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage.newBuilder()
       private Builder() {
 
       }
@@ -1147,30 +10789,32 @@ public final class OhlcvServiceProto {
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        symbol_ = "";
-        open_ = 0D;
-        high_ = 0D;
-        low_ = 0D;
-        close_ = 0D;
-        volume_ = 0D;
-        timestamp_ = 0L;
+        if (candlesBuilder_ == null) {
+          candles_ = java.util.Collections.emptyList();
+        } else {
+          candles_ = null;
+          candlesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        page_ = 0;
+        lastPage_ = false;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_descriptor;
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_CandleHistoryPage_descriptor;
       }
 
       @java.lang.Override
-      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getDefaultInstanceForType() {
-        return ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.getDefaultInstance();
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage getDefaultInstanceForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage.getDefaultInstance();
       }
 
       @java.lang.Override
-      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse build() {
-        ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse result = buildPartial();
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage build() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -1178,35 +10822,33 @@ public final class OhlcvServiceProto {
       }
 
       @java.lang.Override
-      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse buildPartial() {
-        ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse result = new ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse(this);
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage buildPartial() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage result = new ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage(this);
+        buildPartialRepeatedFields(result);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse result) {
-        int from_bitField0_ = bitField0_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.symbol_ = symbol_;
+      private void buildPartialRepeatedFields(ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage result) {
+        if (candlesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            candles_ = java.util.Collections.unmodifiableList(candles_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.candles_ = candles_;
+        } else {
+          result.candles_ = candlesBuilder_.build();
         }
+      }
+
+      private void buildPartial0(ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage result) {
+        int from_bitField0_ = bitField0_;
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.open_ = open_;
+          result.page_ = page_;
         }
         if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.high_ = high_;
-        }
-        if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.low_ = low_;
-        }
-        if (((from_bitField0_ & 0x00000010) != 0)) {
-          result.close_ = close_;
-        }
-        if (((from_bitField0_ & 0x00000020) != 0)) {
-          result.volume_ = volume_;
-        }
-        if (((from_bitField0_ & 0x00000040) != 0)) {
-          result.timestamp_ = timestamp_;
+          result.lastPage_ = lastPage_;
         }
       }
 
@@ -1244,38 +10886,47 @@ public final class OhlcvServiceProto {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse) {
-          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse)other);
+        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage) {
+          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse other) {
-        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.getDefaultInstance()) return this;
-        if (!other.getSymbol().isEmpty()) {
-          symbol_ = other.symbol_;
-          bitField0_ |= 0x00000001;
-          onChanged();
-        }
-        if (other.getOpen() != 0D) {
-          setOpen(other.getOpen());
-        }
-        if (other.getHigh() != 0D) {
-          setHigh(other.getHigh());
-        }
-        if (other.getLow() != 0D) {
-          setLow(other.getLow());
-        }
-        if (other.getClose() != 0D) {
-          setClose(other.getClose());
+      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage other) {
+        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage.getDefaultInstance()) return this;
+        if (candlesBuilder_ == null) {
+          if (!other.candles_.isEmpty()) {
+            if (candles_.isEmpty()) {
+              candles_ = other.candles_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureCandlesIsMutable();
+              candles_.addAll(other.candles_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.candles_.isEmpty()) {
+            if (candlesBuilder_.isEmpty()) {
+              candlesBuilder_.dispose();
+              candlesBuilder_ = null;
+              candles_ = other.candles_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              candlesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getCandlesFieldBuilder() : null;
+            } else {
+              candlesBuilder_.addAllMessages(other.candles_);
+            }
+          }
         }
-        if (other.getVolume() != 0D) {
-          setVolume(other.getVolume());
+        if (other.getPage() != 0) {
+          setPage(other.getPage());
         }
-        if (other.getTimestamp() != 0L) {
-          setTimestamp(other.getTimestamp());
+        if (other.getLastPage() != false) {
+          setLastPage(other.getLastPage());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
@@ -1304,40 +10955,28 @@ public final class OhlcvServiceProto {
                 done = true;
                 break;
               case 10: {
-                symbol_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000001;
+                ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse m =
+                    input.readMessage(
+                        ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.parser(),
+                        extensionRegistry);
+                if (candlesBuilder_ == null) {
+                  ensureCandlesIsMutable();
+                  candles_.add(m);
+                } else {
+                  candlesBuilder_.addMessage(m);
+                }
                 break;
               } // case 10
-              case 17: {
-                open_ = input.readDouble();
+              case 16: {
+                page_ = input.readUInt32();
                 bitField0_ |= 0x00000002;
                 break;
-              } // case 17
-              case 25: {
-                high_ = input.readDouble();
+              } // case 16
+              case 24: {
+                lastPage_ = input.readBool();
                 bitField0_ |= 0x00000004;
                 break;
-              } // case 25
-              case 33: {
-                low_ = input.readDouble();
-                bitField0_ |= 0x00000008;
-                break;
-              } // case 33
-              case 41: {
-                close_ = input.readDouble();
-                bitField0_ |= 0x00000010;
-                break;
-              } // case 41
-              case 49: {
-                volume_ = input.readDouble();
-                bitField0_ |= 0x00000020;
-                break;
-              } // case 49
-              case 56: {
-                timestamp_ = input.readInt64();
-                bitField0_ |= 0x00000040;
-                break;
-              } // case 56
+              } // case 24
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -1355,358 +10994,402 @@ public final class OhlcvServiceProto {
       }
       private int bitField0_;
 
-      private java.lang.Object symbol_ = "";
+      private java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> candles_ =
+        java.util.Collections.emptyList();
+      private void ensureCandlesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          candles_ = new java.util.ArrayList<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse>(candles_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> candlesBuilder_;
+
       /**
        * <pre>
-       * Trading symbol
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>string symbol = 1;</code>
-       * @return The symbol.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      public java.lang.String getSymbol() {
-        java.lang.Object ref = symbol_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          symbol_ = s;
-          return s;
+      public java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> getCandlesList() {
+        if (candlesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(candles_);
         } else {
-          return (java.lang.String) ref;
+          return candlesBuilder_.getMessageList();
         }
       }
       /**
        * <pre>
-       * Trading symbol
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>string symbol = 1;</code>
-       * @return The bytes for symbol.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getSymbolBytes() {
-        java.lang.Object ref = symbol_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          symbol_ = b;
-          return b;
+      public int getCandlesCount() {
+        if (candlesBuilder_ == null) {
+          return candles_.size();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return candlesBuilder_.getCount();
         }
       }
       /**
        * <pre>
-       * Trading symbol
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>string symbol = 1;</code>
-       * @param value The symbol to set.
-       * @return This builder for chaining.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      public Builder setSymbol(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        symbol_ = value;
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getCandles(int index) {
+        if (candlesBuilder_ == null) {
+          return candles_.get(index);
+        } else {
+          return candlesBuilder_.getMessage(index);
+        }
       }
       /**
        * <pre>
-       * Trading symbol
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>string symbol = 1;</code>
-       * @return This builder for chaining.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      public Builder clearSymbol() {
-        symbol_ = getDefaultInstance().getSymbol();
-        bitField0_ = (bitField0_ & ~0x00000001);
-        onChanged();
+      public Builder setCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse value) {
+        if (candlesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCandlesIsMutable();
+          candles_.set(index, value);
+          onChanged();
+        } else {
+          candlesBuilder_.setMessage(index, value);
+        }
         return this;
       }
       /**
        * <pre>
-       * Trading symbol
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>string symbol = 1;</code>
-       * @param value The bytes for symbol to set.
-       * @return This builder for chaining.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      public Builder setSymbolBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        symbol_ = value;
-        bitField0_ |= 0x00000001;
-        onChanged();
+      public Builder setCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder builderForValue) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          candlesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Candles of this page, oldest first
+       * </pre>
+       *
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
+       */
+      public Builder addCandles(ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse value) {
+        if (candlesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCandlesIsMutable();
+          candles_.add(value);
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(value);
+        }
         return this;
       }
-
-      private double open_ ;
       /**
        * <pre>
-       * Opening price
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>double open = 2;</code>
-       * @return The open.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      @java.lang.Override
-      public double getOpen() {
-        return open_;
+      public Builder addCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse value) {
+        if (candlesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCandlesIsMutable();
+          candles_.add(index, value);
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(index, value);
+        }
+        return this;
       }
       /**
        * <pre>
-       * Opening price
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>double open = 2;</code>
-       * @param value The open to set.
-       * @return This builder for chaining.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      public Builder setOpen(double value) {
-
-        open_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
+      public Builder addCandles(
+          ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder builderForValue) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.add(builderForValue.build());
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(builderForValue.build());
+        }
         return this;
       }
       /**
        * <pre>
-       * Opening price
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>double open = 2;</code>
-       * @return This builder for chaining.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      public Builder clearOpen() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        open_ = 0D;
-        onChanged();
+      public Builder addCandles(
+          int index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder builderForValue) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          candlesBuilder_.addMessage(index, builderForValue.build());
+        }
         return this;
       }
-
-      private double high_ ;
       /**
        * <pre>
-       * Highest price
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>double high = 3;</code>
-       * @return The high.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      @java.lang.Override
-      public double getHigh() {
-        return high_;
+      public Builder addAllCandles(
+          java.lang.Iterable<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> values) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, candles_);
+          onChanged();
+        } else {
+          candlesBuilder_.addAllMessages(values);
+        }
+        return this;
       }
       /**
        * <pre>
-       * Highest price
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>double high = 3;</code>
-       * @param value The high to set.
-       * @return This builder for chaining.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      public Builder setHigh(double value) {
-
-        high_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
+      public Builder clearCandles() {
+        if (candlesBuilder_ == null) {
+          candles_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          candlesBuilder_.clear();
+        }
         return this;
       }
       /**
        * <pre>
-       * Highest price
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>double high = 3;</code>
-       * @return This builder for chaining.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      public Builder clearHigh() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        high_ = 0D;
-        onChanged();
+      public Builder removeCandles(int index) {
+        if (candlesBuilder_ == null) {
+          ensureCandlesIsMutable();
+          candles_.remove(index);
+          onChanged();
+        } else {
+          candlesBuilder_.remove(index);
+        }
         return this;
       }
-
-      private double low_ ;
       /**
        * <pre>
-       * Lowest price
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>double low = 4;</code>
-       * @return The low.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      @java.lang.Override
-      public double getLow() {
-        return low_;
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder getCandlesBuilder(
+          int index) {
+        return getCandlesFieldBuilder().getBuilder(index);
       }
       /**
        * <pre>
-       * Lowest price
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>double low = 4;</code>
-       * @param value The low to set.
-       * @return This builder for chaining.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      public Builder setLow(double value) {
-
-        low_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder getCandlesOrBuilder(
+          int index) {
+        if (candlesBuilder_ == null) {
+          return candles_.get(index);  } else {
+          return candlesBuilder_.getMessageOrBuilder(index);
+        }
       }
       /**
        * <pre>
-       * Lowest price
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>double low = 4;</code>
-       * @return This builder for chaining.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      public Builder clearLow() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        low_ = 0D;
-        onChanged();
-        return this;
+      public java.util.List<? extends ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+           getCandlesOrBuilderList() {
+        if (candlesBuilder_ != null) {
+          return candlesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(candles_);
+        }
       }
-
-      private double close_ ;
       /**
        * <pre>
-       * Closing price
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>double close = 5;</code>
-       * @return The close.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      @java.lang.Override
-      public double getClose() {
-        return close_;
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder addCandlesBuilder() {
+        return getCandlesFieldBuilder().addBuilder(
+            ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.getDefaultInstance());
       }
       /**
        * <pre>
-       * Closing price
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>double close = 5;</code>
-       * @param value The close to set.
-       * @return This builder for chaining.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      public Builder setClose(double value) {
-
-        close_ = value;
-        bitField0_ |= 0x00000010;
-        onChanged();
-        return this;
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder addCandlesBuilder(
+          int index) {
+        return getCandlesFieldBuilder().addBuilder(
+            index, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.getDefaultInstance());
       }
       /**
        * <pre>
-       * Closing price
+       * Candles of this page, oldest first
        * </pre>
        *
-       * <code>double close = 5;</code>
-       * @return This builder for chaining.
+       * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
        */
-      public Builder clearClose() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        close_ = 0D;
-        onChanged();
-        return this;
+      public java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder> 
+           getCandlesBuilderList() {
+        return getCandlesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder> 
+          getCandlesFieldBuilder() {
+        if (candlesBuilder_ == null) {
+          candlesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse.Builder, ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponseOrBuilder>(
+                  candles_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          candles_ = null;
+        }
+        return candlesBuilder_;
       }
 
-      private double volume_ ;
+      private int page_ ;
       /**
        * <pre>
-       * Trading volume
+       * Page number, starting at 0
        * </pre>
        *
-       * <code>double volume = 6;</code>
-       * @return The volume.
+       * <code>uint32 page = 2;</code>
+       * @return The page.
        */
       @java.lang.Override
-      public double getVolume() {
-        return volume_;
+      public int getPage() {
+        return page_;
       }
       /**
        * <pre>
-       * Trading volume
+       * Page number, starting at 0
        * </pre>
        *
-       * <code>double volume = 6;</code>
-       * @param value The volume to set.
+       * <code>uint32 page = 2;</code>
+       * @param value The page to set.
        * @return This builder for chaining.
        */
-      public Builder setVolume(double value) {
+      public Builder setPage(int value) {
 
-        volume_ = value;
-        bitField0_ |= 0x00000020;
+        page_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * Trading volume
+       * Page number, starting at 0
        * </pre>
        *
-       * <code>double volume = 6;</code>
+       * <code>uint32 page = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearVolume() {
-        bitField0_ = (bitField0_ & ~0x00000020);
-        volume_ = 0D;
+      public Builder clearPage() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        page_ = 0;
         onChanged();
         return this;
       }
 
-      private long timestamp_ ;
+      private boolean lastPage_ ;
       /**
        * <pre>
-       * Timestamp in nanoseconds since epoch
+       * True for the final page (which may be empty)
        * </pre>
        *
-       * <code>int64 timestamp = 7;</code>
-       * @return The timestamp.
+       * <code>bool last_page = 3;</code>
+       * @return The lastPage.
        */
       @java.lang.Override
-      public long getTimestamp() {
-        return timestamp_;
+      public boolean getLastPage() {
+        return lastPage_;
       }
       /**
        * <pre>
-       * Timestamp in nanoseconds since epoch
+       * True for the final page (which may be empty)
        * </pre>
        *
-       * <code>int64 timestamp = 7;</code>
-       * @param value The timestamp to set.
+       * <code>bool last_page = 3;</code>
+       * @param value The lastPage to set.
        * @return This builder for chaining.
        */
-      public Builder setTimestamp(long value) {
+      public Builder setLastPage(boolean value) {
 
-        timestamp_ = value;
-        bitField0_ |= 0x00000040;
+        lastPage_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * Timestamp in nanoseconds since epoch
+       * True for the final page (which may be empty)
        * </pre>
        *
-       * <code>int64 timestamp = 7;</code>
+       * <code>bool last_page = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearTimestamp() {
-        bitField0_ = (bitField0_ & ~0x00000040);
-        timestamp_ = 0L;
+      public Builder clearLastPage() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        lastPage_ = false;
         onChanged();
         return this;
       }
@@ -1723,23 +11406,23 @@ public final class OhlcvServiceProto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.OhlcvCandleResponse)
+      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.CandleHistoryPage)
     }
 
-    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.OhlcvCandleResponse)
-    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.CandleHistoryPage)
+    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse();
+      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage();
     }
 
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getDefaultInstance() {
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<OhlcvCandleResponse>
-        PARSER = new com.google.protobuf.AbstractParser<OhlcvCandleResponse>() {
+    private static final com.google.protobuf.Parser<CandleHistoryPage>
+        PARSER = new com.google.protobuf.AbstractParser<CandleHistoryPage>() {
       @java.lang.Override
-      public OhlcvCandleResponse parsePartialFrom(
+      public CandleHistoryPage parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1758,64 +11441,157 @@ public final class OhlcvServiceProto {
       }
     };
 
-    public static com.google.protobuf.Parser<OhlcvCandleResponse> parser() {
+    public static com.google.protobuf.Parser<CandleHistoryPage> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<OhlcvCandleResponse> getParserForType() {
+    public com.google.protobuf.Parser<CandleHistoryPage> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getDefaultInstanceForType() {
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.CandleHistoryPage getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface StreamAllLiveCandlesRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.StreamAllLiveCandlesRequest)
+  public interface GetRecentCandlesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.GetRecentCandlesRequest)
       com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Trading symbol (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>string symbol = 1;</code>
+     * @return The symbol.
+     */
+    java.lang.String getSymbol();
+    /**
+     * <pre>
+     * Trading symbol (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>string symbol = 1;</code>
+     * @return The bytes for symbol.
+     */
+    com.google.protobuf.ByteString
+        getSymbolBytes();
+
+    /**
+     * <pre>
+     * Number of newest candles wanted (capped by the server's history size)
+     * </pre>
+     *
+     * <code>uint32 count = 2;</code>
+     * @return The count.
+     */
+    int getCount();
   }
   /**
    * <pre>
    **
-   * Request message for streaming all live candles.
+   * Request message for the most recent candles of a symbol.
    * </pre>
    *
-   * Protobuf type {@code ca.digilogue.xp.grpc.StreamAllLiveCandlesRequest}
+   * Protobuf type {@code ca.digilogue.xp.grpc.GetRecentCandlesRequest}
    */
-  public static final class StreamAllLiveCandlesRequest extends
+  public static final class GetRecentCandlesRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.StreamAllLiveCandlesRequest)
-      StreamAllLiveCandlesRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.GetRecentCandlesRequest)
+      GetRecentCandlesRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use StreamAllLiveCandlesRequest.newBuilder() to construct.
-    private StreamAllLiveCandlesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetRecentCandlesRequest.newBuilder() to construct.
+    private GetRecentCandlesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private StreamAllLiveCandlesRequest() {
+    private GetRecentCandlesRequest() {
+      symbol_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new StreamAllLiveCandlesRequest();
+      return new GetRecentCandlesRequest();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamAllLiveCandlesRequest_descriptor;
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetRecentCandlesRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamAllLiveCandlesRequest_fieldAccessorTable
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetRecentCandlesRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest.Builder.class);
+              ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest.Builder.class);
+    }
+
+    public static final int SYMBOL_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object symbol_ = "";
+    /**
+     * <pre>
+     * Trading symbol (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>string symbol = 1;</code>
+     * @return The symbol.
+     */
+    @java.lang.Override
+    public java.lang.String getSymbol() {
+      java.lang.Object ref = symbol_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        symbol_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Trading symbol (e.g., "MEGA-USD")
+     * </pre>
+     *
+     * <code>string symbol = 1;</code>
+     * @return The bytes for symbol.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSymbolBytes() {
+      java.lang.Object ref = symbol_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        symbol_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COUNT_FIELD_NUMBER = 2;
+    private int count_ = 0;
+    /**
+     * <pre>
+     * Number of newest candles wanted (capped by the server's history size)
+     * </pre>
+     *
+     * <code>uint32 count = 2;</code>
+     * @return The count.
+     */
+    @java.lang.Override
+    public int getCount() {
+      return count_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -1832,6 +11608,12 @@ public final class OhlcvServiceProto {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(symbol_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, symbol_);
+      }
+      if (count_ != 0) {
+        output.writeUInt32(2, count_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1841,6 +11623,13 @@ public final class OhlcvServiceProto {
       if (size != -1) return size;
 
       size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(symbol_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, symbol_);
+      }
+      if (count_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, count_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -1851,11 +11640,15 @@ public final class OhlcvServiceProto {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest)) {
+      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest)) {
         return super.equals(obj);
       }
-      ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest other = (ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest) obj;
+      ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest other = (ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest) obj;
 
+      if (!getSymbol()
+          .equals(other.getSymbol())) return false;
+      if (getCount()
+          != other.getCount()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -1867,49 +11660,53 @@ public final class OhlcvServiceProto {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SYMBOL_FIELD_NUMBER;
+      hash = (53 * hash) + getSymbol().hashCode();
+      hash = (37 * hash) + COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getCount();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(byte[] data)
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(java.io.InputStream input)
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1917,26 +11714,26 @@ public final class OhlcvServiceProto {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseDelimitedFrom(java.io.InputStream input)
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseDelimitedFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1949,7 +11746,7 @@ public final class OhlcvServiceProto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest prototype) {
+    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -1967,29 +11764,29 @@ public final class OhlcvServiceProto {
     /**
      * <pre>
      **
-     * Request message for streaming all live candles.
+     * Request message for the most recent candles of a symbol.
      * </pre>
      *
-     * Protobuf type {@code ca.digilogue.xp.grpc.StreamAllLiveCandlesRequest}
+     * Protobuf type {@code ca.digilogue.xp.grpc.GetRecentCandlesRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.StreamAllLiveCandlesRequest)
-        ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.GetRecentCandlesRequest)
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamAllLiveCandlesRequest_descriptor;
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetRecentCandlesRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamAllLiveCandlesRequest_fieldAccessorTable
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetRecentCandlesRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest.Builder.class);
+                ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest.class, ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest.Builder.class);
       }
 
-      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest.newBuilder()
+      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest.newBuilder()
       private Builder() {
 
       }
@@ -2002,23 +11799,26 @@ public final class OhlcvServiceProto {
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
+        symbol_ = "";
+        count_ = 0;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_StreamAllLiveCandlesRequest_descriptor;
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetRecentCandlesRequest_descriptor;
       }
 
       @java.lang.Override
-      public ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest getDefaultInstanceForType() {
-        return ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest.getDefaultInstance();
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest getDefaultInstanceForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest build() {
-        ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest result = buildPartial();
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest build() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2026,12 +11826,23 @@ public final class OhlcvServiceProto {
       }
 
       @java.lang.Override
-      public ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest buildPartial() {
-        ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest result = new ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest(this);
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest buildPartial() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest result = new ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
+      private void buildPartial0(ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.symbol_ = symbol_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.count_ = count_;
+        }
+      }
+
       @java.lang.Override
       public Builder clone() {
         return super.clone();
@@ -2066,55 +11877,210 @@ public final class OhlcvServiceProto {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest) {
-          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest)other);
+        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest) {
+          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest other) {
+        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest.getDefaultInstance()) return this;
+        if (!other.getSymbol().isEmpty()) {
+          symbol_ = other.symbol_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getCount() != 0) {
+          setCount(other.getCount());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                symbol_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                count_ = input.readUInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object symbol_ = "";
+      /**
+       * <pre>
+       * Trading symbol (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @return The symbol.
+       */
+      public java.lang.String getSymbol() {
+        java.lang.Object ref = symbol_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          symbol_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Trading symbol (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @return The bytes for symbol.
+       */
+      public com.google.protobuf.ByteString
+          getSymbolBytes() {
+        java.lang.Object ref = symbol_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          symbol_ = b;
+          return b;
         } else {
-          super.mergeFrom(other);
-          return this;
+          return (com.google.protobuf.ByteString) ref;
         }
       }
-
-      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest other) {
-        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest.getDefaultInstance()) return this;
-        this.mergeUnknownFields(other.getUnknownFields());
+      /**
+       * <pre>
+       * Trading symbol (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @param value The symbol to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSymbol(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        symbol_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Trading symbol (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSymbol() {
+        symbol_ = getDefaultInstance().getSymbol();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Trading symbol (e.g., "MEGA-USD")
+       * </pre>
+       *
+       * <code>string symbol = 1;</code>
+       * @param value The bytes for symbol to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSymbolBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        symbol_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
 
+      private int count_ ;
+      /**
+       * <pre>
+       * Number of newest candles wanted (capped by the server's history size)
+       * </pre>
+       *
+       * <code>uint32 count = 2;</code>
+       * @return The count.
+       */
       @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
+      public int getCount() {
+        return count_;
       }
+      /**
+       * <pre>
+       * Number of newest candles wanted (capped by the server's history size)
+       * </pre>
+       *
+       * <code>uint32 count = 2;</code>
+       * @param value The count to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCount(int value) {
 
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
+        count_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Number of newest candles wanted (capped by the server's history size)
+       * </pre>
+       *
+       * <code>uint32 count = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCount() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        count_ = 0;
+        onChanged();
         return this;
       }
       @java.lang.Override
@@ -2130,23 +12096,23 @@ public final class OhlcvServiceProto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.StreamAllLiveCandlesRequest)
+      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.GetRecentCandlesRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.StreamAllLiveCandlesRequest)
-    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.GetRecentCandlesRequest)
+    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest();
+      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest();
     }
 
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest getDefaultInstance() {
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<StreamAllLiveCandlesRequest>
-        PARSER = new com.google.protobuf.AbstractParser<StreamAllLiveCandlesRequest>() {
+    private static final com.google.protobuf.Parser<GetRecentCandlesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetRecentCandlesRequest>() {
       @java.lang.Override
-      public StreamAllLiveCandlesRequest parsePartialFrom(
+      public GetRecentCandlesRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2165,29 +12131,29 @@ public final class OhlcvServiceProto {
       }
     };
 
-    public static com.google.protobuf.Parser<StreamAllLiveCandlesRequest> parser() {
+    public static com.google.protobuf.Parser<GetRecentCandlesRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<StreamAllLiveCandlesRequest> getParserForType() {
+    public com.google.protobuf.Parser<GetRecentCandlesRequest> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public ca.digilogue.xp.grpc.OhlcvServiceProto.StreamAllLiveCandlesRequest getDefaultInstanceForType() {
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface AllCandlesResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.AllCandlesResponse)
+  public interface GetRecentCandlesResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ca.digilogue.xp.grpc.GetRecentCandlesResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <pre>
-     * Collection of all current candles from all generators
+     * Up to count candles, oldest first
      * </pre>
      *
      * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2196,7 +12162,7 @@ public final class OhlcvServiceProto {
         getCandlesList();
     /**
      * <pre>
-     * Collection of all current candles from all generators
+     * Up to count candles, oldest first
      * </pre>
      *
      * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2204,7 +12170,7 @@ public final class OhlcvServiceProto {
     ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse getCandles(int index);
     /**
      * <pre>
-     * Collection of all current candles from all generators
+     * Up to count candles, oldest first
      * </pre>
      *
      * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2212,7 +12178,7 @@ public final class OhlcvServiceProto {
     int getCandlesCount();
     /**
      * <pre>
-     * Collection of all current candles from all generators
+     * Up to count candles, oldest first
      * </pre>
      *
      * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2221,7 +12187,7 @@ public final class OhlcvServiceProto {
         getCandlesOrBuilderList();
     /**
      * <pre>
-     * Collection of all current candles from all generators
+     * Up to count candles, oldest first
      * </pre>
      *
      * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2232,21 +12198,21 @@ public final class OhlcvServiceProto {
   /**
    * <pre>
    **
-   * Response message containing a collection of all current OHLCV candles.
+   * Response message with the most recent candles of a symbol.
    * </pre>
    *
-   * Protobuf type {@code ca.digilogue.xp.grpc.AllCandlesResponse}
+   * Protobuf type {@code ca.digilogue.xp.grpc.GetRecentCandlesResponse}
    */
-  public static final class AllCandlesResponse extends
+  public static final class GetRecentCandlesResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.AllCandlesResponse)
-      AllCandlesResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:ca.digilogue.xp.grpc.GetRecentCandlesResponse)
+      GetRecentCandlesResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use AllCandlesResponse.newBuilder() to construct.
-    private AllCandlesResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetRecentCandlesResponse.newBuilder() to construct.
+    private GetRecentCandlesResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private AllCandlesResponse() {
+    private GetRecentCandlesResponse() {
       candles_ = java.util.Collections.emptyList();
     }
 
@@ -2254,20 +12220,20 @@ public final class OhlcvServiceProto {
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new AllCandlesResponse();
+      return new GetRecentCandlesResponse();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_AllCandlesResponse_descriptor;
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetRecentCandlesResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_AllCandlesResponse_fieldAccessorTable
+      return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetRecentCandlesResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.class, ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.Builder.class);
+              ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse.class, ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse.Builder.class);
     }
 
     public static final int CANDLES_FIELD_NUMBER = 1;
@@ -2275,7 +12241,7 @@ public final class OhlcvServiceProto {
     private java.util.List<ca.digilogue.xp.grpc.OhlcvServiceProto.OhlcvCandleResponse> candles_;
     /**
      * <pre>
-     * Collection of all current candles from all generators
+     * Up to count candles, oldest first
      * </pre>
      *
      * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2286,7 +12252,7 @@ public final class OhlcvServiceProto {
     }
     /**
      * <pre>
-     * Collection of all current candles from all generators
+     * Up to count candles, oldest first
      * </pre>
      *
      * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2298,7 +12264,7 @@ public final class OhlcvServiceProto {
     }
     /**
      * <pre>
-     * Collection of all current candles from all generators
+     * Up to count candles, oldest first
      * </pre>
      *
      * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2309,7 +12275,7 @@ public final class OhlcvServiceProto {
     }
     /**
      * <pre>
-     * Collection of all current candles from all generators
+     * Up to count candles, oldest first
      * </pre>
      *
      * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2320,7 +12286,7 @@ public final class OhlcvServiceProto {
     }
     /**
      * <pre>
-     * Collection of all current candles from all generators
+     * Up to count candles, oldest first
      * </pre>
      *
      * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2371,10 +12337,10 @@ public final class OhlcvServiceProto {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse)) {
+      if (!(obj instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse)) {
         return super.equals(obj);
       }
-      ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse other = (ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse) obj;
+      ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse other = (ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse) obj;
 
       if (!getCandlesList()
           .equals(other.getCandlesList())) return false;
@@ -2398,44 +12364,44 @@ public final class OhlcvServiceProto {
       return hash;
     }
 
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(byte[] data)
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(java.io.InputStream input)
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2443,26 +12409,26 @@ public final class OhlcvServiceProto {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseDelimitedFrom(java.io.InputStream input)
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseDelimitedFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse parseFrom(
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2475,7 +12441,7 @@ public final class OhlcvServiceProto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse prototype) {
+    public static Builder newBuilder(ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -2493,29 +12459,29 @@ public final class OhlcvServiceProto {
     /**
      * <pre>
      **
-     * Response message containing a collection of all current OHLCV candles.
+     * Response message with the most recent candles of a symbol.
      * </pre>
      *
-     * Protobuf type {@code ca.digilogue.xp.grpc.AllCandlesResponse}
+     * Protobuf type {@code ca.digilogue.xp.grpc.GetRecentCandlesResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.AllCandlesResponse)
-        ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:ca.digilogue.xp.grpc.GetRecentCandlesResponse)
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_AllCandlesResponse_descriptor;
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetRecentCandlesResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_AllCandlesResponse_fieldAccessorTable
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetRecentCandlesResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.class, ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.Builder.class);
+                ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse.class, ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse.Builder.class);
       }
 
-      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.newBuilder()
+      // Construct using ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse.newBuilder()
       private Builder() {
 
       }
@@ -2542,17 +12508,17 @@ public final class OhlcvServiceProto {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_AllCandlesResponse_descriptor;
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.internal_static_ca_digilogue_xp_grpc_GetRecentCandlesResponse_descriptor;
       }
 
       @java.lang.Override
-      public ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse getDefaultInstanceForType() {
-        return ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.getDefaultInstance();
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse getDefaultInstanceForType() {
+        return ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse build() {
-        ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse result = buildPartial();
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse build() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2560,15 +12526,15 @@ public final class OhlcvServiceProto {
       }
 
       @java.lang.Override
-      public ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse buildPartial() {
-        ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse result = new ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse(this);
+      public ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse buildPartial() {
+        ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse result = new ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse(this);
         buildPartialRepeatedFields(result);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartialRepeatedFields(ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse result) {
+      private void buildPartialRepeatedFields(ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse result) {
         if (candlesBuilder_ == null) {
           if (((bitField0_ & 0x00000001) != 0)) {
             candles_ = java.util.Collections.unmodifiableList(candles_);
@@ -2580,7 +12546,7 @@ public final class OhlcvServiceProto {
         }
       }
 
-      private void buildPartial0(ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse result) {
+      private void buildPartial0(ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse result) {
         int from_bitField0_ = bitField0_;
       }
 
@@ -2618,16 +12584,16 @@ public final class OhlcvServiceProto {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse) {
-          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse)other);
+        if (other instanceof ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse) {
+          return mergeFrom((ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse other) {
-        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse.getDefaultInstance()) return this;
+      public Builder mergeFrom(ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse other) {
+        if (other == ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse.getDefaultInstance()) return this;
         if (candlesBuilder_ == null) {
           if (!other.candles_.isEmpty()) {
             if (candles_.isEmpty()) {
@@ -2724,7 +12690,7 @@ public final class OhlcvServiceProto {
 
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2738,7 +12704,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2752,7 +12718,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2766,7 +12732,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2787,7 +12753,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2805,7 +12771,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2825,7 +12791,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2846,7 +12812,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2864,7 +12830,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2882,7 +12848,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2901,7 +12867,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2918,7 +12884,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2935,7 +12901,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2946,7 +12912,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2960,7 +12926,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2975,7 +12941,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2986,7 +12952,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -2998,7 +12964,7 @@ public final class OhlcvServiceProto {
       }
       /**
        * <pre>
-       * Collection of all current candles from all generators
+       * Up to count candles, oldest first
        * </pre>
        *
        * <code>repeated .ca.digilogue.xp.grpc.OhlcvCandleResponse candles = 1;</code>
@@ -3034,23 +13000,23 @@ public final class OhlcvServiceProto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.AllCandlesResponse)
+      // @@protoc_insertion_point(builder_scope:ca.digilogue.xp.grpc.GetRecentCandlesResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.AllCandlesResponse)
-    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:ca.digilogue.xp.grpc.GetRecentCandlesResponse)
+    private static final ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse();
+      DEFAULT_INSTANCE = new ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse();
     }
 
-    public static ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse getDefaultInstance() {
+    public static ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<AllCandlesResponse>
-        PARSER = new com.google.protobuf.AbstractParser<AllCandlesResponse>() {
+    private static final com.google.protobuf.Parser<GetRecentCandlesResponse>
+        PARSER = new com.google.protobuf.AbstractParser<GetRecentCandlesResponse>() {
       @java.lang.Override
-      public AllCandlesResponse parsePartialFrom(
+      public GetRecentCandlesResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3069,17 +13035,17 @@ public final class OhlcvServiceProto {
       }
     };
 
-    public static com.google.protobuf.Parser<AllCandlesResponse> parser() {
+    public static com.google.protobuf.Parser<GetRecentCandlesResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<AllCandlesResponse> getParserForType() {
+    public com.google.protobuf.Parser<GetRecentCandlesResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public ca.digilogue.xp.grpc.OhlcvServiceProto.AllCandlesResponse getDefaultInstanceForType() {
+    public ca.digilogue.xp.grpc.OhlcvServiceProto.GetRecentCandlesResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -3090,6 +13056,16 @@ public final class OhlcvServiceProto {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_ca_digilogue_xp_grpc_GetLatestCandleRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ca_digilogue_xp_grpc_GetLatestCandlesRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ca_digilogue_xp_grpc_GetLatestCandlesRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ca_digilogue_xp_grpc_GetLatestCandlesResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ca_digilogue_xp_grpc_GetLatestCandlesResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_descriptor;
   private static final 
@@ -3105,6 +13081,46 @@ public final class OhlcvServiceProto {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_ca_digilogue_xp_grpc_AllCandlesResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ca_digilogue_xp_grpc_StreamCandleDeltasRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ca_digilogue_xp_grpc_StreamCandleDeltasRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ca_digilogue_xp_grpc_CandleDeltaResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ca_digilogue_xp_grpc_CandleDeltaResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ca_digilogue_xp_grpc_SubscribeCandlesRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ca_digilogue_xp_grpc_SubscribeCandlesRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ca_digilogue_xp_grpc_SubscriptionControlRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ca_digilogue_xp_grpc_SubscriptionControlRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ca_digilogue_xp_grpc_GetCandleHistoryRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ca_digilogue_xp_grpc_GetCandleHistoryRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ca_digilogue_xp_grpc_CandleHistoryPage_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ca_digilogue_xp_grpc_CandleHistoryPage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ca_digilogue_xp_grpc_GetRecentCandlesRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ca_digilogue_xp_grpc_GetRecentCandlesRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ca_digilogue_xp_grpc_GetRecentCandlesResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ca_digilogue_xp_grpc_GetRecentCandlesResponse_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -3116,20 +13132,63 @@ public final class OhlcvServiceProto {
     java.lang.String[] descriptorData = {
       "\n\023ohlcv_service.proto\022\024ca.digilogue.xp.g" +
       "rpc\"(\n\026GetLatestCandleRequest\022\016\n\006symbol\030" +
-      "\001 \001(\t\"\200\001\n\023OhlcvCandleResponse\022\016\n\006symbol\030" +
-      "\001 \001(\t\022\014\n\004open\030\002 \001(\001\022\014\n\004high\030\003 \001(\001\022\013\n\003low" +
-      "\030\004 \001(\001\022\r\n\005close\030\005 \001(\001\022\016\n\006volume\030\006 \001(\001\022\021\n" +
-      "\ttimestamp\030\007 \001(\003\"\035\n\033StreamAllLiveCandles" +
-      "Request\"P\n\022AllCandlesResponse\022:\n\007candles" +
-      "\030\001 \003(\0132).ca.digilogue.xp.grpc.OhlcvCandl" +
-      "eResponse2\361\001\n\014OhlcvService\022j\n\017GetLatestC" +
-      "andle\022,.ca.digilogue.xp.grpc.GetLatestCa" +
-      "ndleRequest\032).ca.digilogue.xp.grpc.Ohlcv" +
-      "CandleResponse\022u\n\024StreamAllLiveCandles\0221" +
-      ".ca.digilogue.xp.grpc.StreamAllLiveCandl" +
-      "esRequest\032(.ca.digilogue.xp.grpc.AllCand" +
-      "lesResponse0\001B)\n\024ca.digilogue.xp.grpcB\021O" +
-      "hlcvServiceProtob\006proto3"
+      "\001 \001(\t\"*\n\027GetLatestCandlesRequest\022\017\n\007symb" +
+      "ols\030\001 \003(\t\"\201\001\n\030GetLatestCandlesResponse\022:" +
+      "\n\007candles\030\001 \003(\0132).ca.digilogue.xp.grpc.O" +
+      "hlcvCandleResponse\022\027\n\017missing_symbols\030\002 " +
+      "\003(\t\022\020\n\010sequence\030\003 \001(\004\"\200\001\n\023OhlcvCandleRes" +
+      "ponse\022\016\n\006symbol\030\001 \001(\t\022\014\n\004open\030\002 \001(\001\022\014\n\004h" +
+      "igh\030\003 \001(\001\022\013\n\003low\030\004 \001(\001\022\r\n\005close\030\005 \001(\001\022\016\n" +
+      "\006volume\030\006 \001(\001\022\021\n\ttimestamp\030\007 \001(\003\"\035\n\033Stre" +
+      "amAllLiveCandlesRequest\"i\n\022AllCandlesRes" +
+      "ponse\022:\n\007candles\030\001 \003(\0132).ca.digilogue.xp" +
+      ".grpc.OhlcvCandleResponse\022\027\n\017removed_sym" +
+      "bols\030\002 \003(\t\"\033\n\031StreamCandleDeltasRequest\"" +
+      "\256\001\n\023CandleDeltaResponse\022\020\n\010sequence\030\001 \001(" +
+      "\004\022\031\n\021previous_sequence\030\002 \001(\004\022\025\n\rfull_sna" +
+      "pshot\030\003 \001(\010\022:\n\007candles\030\004 \003(\0132).ca.digilo" +
+      "gue.xp.grpc.OhlcvCandleResponse\022\027\n\017remov" +
+      "ed_symbols\030\005 \003(\t\"<\n\027SubscribeCandlesRequ" +
+      "est\022\017\n\007symbols\030\001 \003(\t\022\020\n\010patterns\030\002 \003(\t\"\262" +
+      "\001\n\032SubscriptionControlRequest\022G\n\006action\030" +
+      "\001 \001(\01627.ca.digilogue.xp.grpc.Subscriptio" +
+      "nControlRequest.Action\022\017\n\007symbols\030\002 \003(\t\022" +
+      "\020\n\010patterns\030\003 \003(\t\"(\n\006Action\022\r\n\tSUBSCRIBE" +
+      "\020\000\022\017\n\013UNSUBSCRIBE\020\001\"|\n\027GetCandleHistoryR" +
+      "equest\022\016\n\006symbol\030\001 \001(\t\022\022\n\nstart_time\030\002 \001" +
+      "(\003\022\020\n\010end_time\030\003 \001(\003\022\030\n\020interval_seconds" +
+      "\030\004 \001(\003\022\021\n\tpage_size\030\005 \001(\r\"p\n\021CandleHisto" +
+      "ryPage\022:\n\007candles\030\001 \003(\0132).ca.digilogue.x" +
+      "p.grpc.OhlcvCandleResponse\022\014\n\004page\030\002 \001(\r" +
+      "\022\021\n\tlast_page\030\003 \001(\010\"8\n\027GetRecentCandlesR" +
+      "equest\022\016\n\006symbol\030\001 \001(\t\022\r\n\005count\030\002 \001(\r\"V\n" +
+      "\030GetRecentCandlesResponse\022:\n\007candles\030\001 \003" +
+      "(\0132).ca.digilogue.xp.grpc.OhlcvCandleRes" +
+      "ponse2\244\007\n\014OhlcvService\022j\n\017GetLatestCandl" +
+      "e\022,.ca.digilogue.xp.grpc.GetLatestCandle" +
+      "Request\032).ca.digilogue.xp.grpc.OhlcvCand" +
+      "leResponse\022q\n\020GetLatestCandles\022-.ca.digi" +
+      "logue.xp.grpc.GetLatestCandlesRequest\032.." +
+      "ca.digilogue.xp.grpc.GetLatestCandlesRes" +
+      "ponse\022u\n\024StreamAllLiveCandles\0221.ca.digil" +
+      "ogue.xp.grpc.StreamAllLiveCandlesRequest" +
+      "\032(.ca.digilogue.xp.grpc.AllCandlesRespon" +
+      "se0\001\022r\n\022StreamCandleDeltas\022/.ca.digilogu" +
+      "e.xp.grpc.StreamCandleDeltasRequest\032).ca" +
+      ".digilogue.xp.grpc.CandleDeltaResponse0\001" +
+      "\022m\n\020SubscribeCandles\022-.ca.digilogue.xp.g" +
+      "rpc.SubscribeCandlesRequest\032(.ca.digilog" +
+      "ue.xp.grpc.AllCandlesResponse0\001\022z\n\030Manag" +
+      "eCandleSubscription\0220.ca.digilogue.xp.gr" +
+      "pc.SubscriptionControlRequest\032(.ca.digil" +
+      "ogue.xp.grpc.AllCandlesResponse(\0010\001\022l\n\020G" +
+      "etCandleHistory\022-.ca.digilogue.xp.grpc.G" +
+      "etCandleHistoryRequest\032\'.ca.digilogue.xp" +
+      ".grpc.CandleHistoryPage0\001\022q\n\020GetRecentCa" +
+      "ndles\022-.ca.digilogue.xp.grpc.GetRecentCa" +
+      "ndlesRequest\032..ca.digilogue.xp.grpc.GetR" +
+      "ecentCandlesResponseB)\n\024ca.digilogue.xp." +
+      "grpcB\021OhlcvServiceProtob\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -3141,23 +13200,83 @@ public final class OhlcvServiceProto {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ca_digilogue_xp_grpc_GetLatestCandleRequest_descriptor,
         new java.lang.String[] { "Symbol", });
-    internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_descriptor =
+    internal_static_ca_digilogue_xp_grpc_GetLatestCandlesRequest_descriptor =
       getDescriptor().getMessageTypes().get(1);
+    internal_static_ca_digilogue_xp_grpc_GetLatestCandlesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ca_digilogue_xp_grpc_GetLatestCandlesRequest_descriptor,
+        new java.lang.String[] { "Symbols", });
+    internal_static_ca_digilogue_xp_grpc_GetLatestCandlesResponse_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_ca_digilogue_xp_grpc_GetLatestCandlesResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ca_digilogue_xp_grpc_GetLatestCandlesResponse_descriptor,
+        new java.lang.String[] { "Candles", "MissingSymbols", "Sequence", });
+    internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
     internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ca_digilogue_xp_grpc_OhlcvCandleResponse_descriptor,
         new java.lang.String[] { "Symbol", "Open", "High", "Low", "Close", "Volume", "Timestamp", });
     internal_static_ca_digilogue_xp_grpc_StreamAllLiveCandlesRequest_descriptor =
-      getDescriptor().getMessageTypes().get(2);
+      getDescriptor().getMessageTypes().get(4);
     internal_static_ca_digilogue_xp_grpc_StreamAllLiveCandlesRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ca_digilogue_xp_grpc_StreamAllLiveCandlesRequest_descriptor,
         new java.lang.String[] { });
     internal_static_ca_digilogue_xp_grpc_AllCandlesResponse_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_ca_digilogue_xp_grpc_AllCandlesResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ca_digilogue_xp_grpc_AllCandlesResponse_descriptor,
+        new java.lang.String[] { "Candles", "RemovedSymbols", });
+    internal_static_ca_digilogue_xp_grpc_StreamCandleDeltasRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_ca_digilogue_xp_grpc_StreamCandleDeltasRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ca_digilogue_xp_grpc_StreamCandleDeltasRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_ca_digilogue_xp_grpc_CandleDeltaResponse_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_ca_digilogue_xp_grpc_CandleDeltaResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ca_digilogue_xp_grpc_CandleDeltaResponse_descriptor,
+        new java.lang.String[] { "Sequence", "PreviousSequence", "FullSnapshot", "Candles", "RemovedSymbols", });
+    internal_static_ca_digilogue_xp_grpc_SubscribeCandlesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_ca_digilogue_xp_grpc_SubscribeCandlesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ca_digilogue_xp_grpc_SubscribeCandlesRequest_descriptor,
+        new java.lang.String[] { "Symbols", "Patterns", });
+    internal_static_ca_digilogue_xp_grpc_SubscriptionControlRequest_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_ca_digilogue_xp_grpc_SubscriptionControlRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ca_digilogue_xp_grpc_SubscriptionControlRequest_descriptor,
+        new java.lang.String[] { "Action", "Symbols", "Patterns", });
+    internal_static_ca_digilogue_xp_grpc_GetCandleHistoryRequest_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_ca_digilogue_xp_grpc_GetCandleHistoryRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ca_digilogue_xp_grpc_GetCandleHistoryRequest_descriptor,
+        new java.lang.String[] { "Symbol", "StartTime", "EndTime", "IntervalSeconds", "PageSize", });
+    internal_static_ca_digilogue_xp_grpc_CandleHistoryPage_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_ca_digilogue_xp_grpc_CandleHistoryPage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ca_digilogue_xp_grpc_CandleHistoryPage_descriptor,
+        new java.lang.String[] { "Candles", "Page", "LastPage", });
+    internal_static_ca_digilogue_xp_grpc_GetRecentCandlesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_ca_digilogue_xp_grpc_GetRecentCandlesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ca_digilogue_xp_grpc_GetRecentCandlesRequest_descriptor,
+        new java.lang.String[] { "Symbol", "Count", });
+    internal_static_ca_digilogue_xp_grpc_GetRecentCandlesResponse_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_ca_digilogue_xp_grpc_GetRecentCandlesResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ca_digilogue_xp_grpc_GetRecentCandlesResponse_descriptor,
         new java.lang.String[] { "Candles", });
   }
 
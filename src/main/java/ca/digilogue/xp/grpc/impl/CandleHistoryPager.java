@@ -0,0 +1,162 @@
+package ca.digilogue.xp.grpc.impl;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import ca.digilogue.xp.grpc.OhlcvServiceProto;
+import ca.digilogue.xp.grpc.stream.CandleProtoMapper;
+import com.influxdb.Cancellable;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns the candles of a streaming InfluxDB history query into
+ * CandleHistoryPage messages of at most pageSize candles.
+ *
+ * The query thread hands finished pages to a queue of QUEUED_PAGES pages, and
+ * pages are sent to the client only while the call is ready (from the onReady
+ * handler, or right after a hand-off). When the queue is full the query thread
+ * waits for room, so a slow client slows down reading the InfluxDB response
+ * instead of buffering the whole range on the server. A client that takes no
+ * page for readyTimeoutMs gets the call failed with DEADLINE_EXCEEDED and the
+ * InfluxDB query is cancelled. When the client cancels, the query is cancelled too.
+ */
+final class CandleHistoryPager {
+
+    private static final Logger log = LoggerFactory.getLogger(CandleHistoryPager.class);
+
+    private static final int QUEUED_PAGES = 2;
+
+    private final ServerCallStreamObserver<OhlcvServiceProto.CandleHistoryPage> observer;
+    private final int pageSize;
+    private final long readyTimeoutMs;
+    private final BlockingQueue<OhlcvServiceProto.CandleHistoryPage> pages = new ArrayBlockingQueue<>(QUEUED_PAGES);
+
+    private volatile boolean cancelled;
+    private volatile Cancellable query;
+
+    // Guarded by this: set once the call has been completed or failed
+    private boolean closed;
+
+    // Query thread only
+    private OhlcvServiceProto.CandleHistoryPage.Builder page = OhlcvServiceProto.CandleHistoryPage.newBuilder();
+    private int pageNumber;
+    private long candles;
+
+    /**
+     * Must be created on the call's thread, before the service method returns.
+     */
+    CandleHistoryPager(ServerCallStreamObserver<OhlcvServiceProto.CandleHistoryPage> observer,
+                       int pageSize, long readyTimeoutMs) {
+        this.observer = observer;
+        this.pageSize = pageSize;
+        this.readyTimeoutMs = readyTimeoutMs;
+        observer.setOnReadyHandler(this::drain);
+        observer.setOnCancelHandler(() -> {
+            cancelled = true;
+            cancelQuery();
+            // Unblocks a query thread waiting for room
+            pages.clear();
+        });
+    }
+
+    void onCandle(Cancellable cancellable, OhlcvCandle candle) {
+        query = cancellable;
+        if (cancelled) {
+            cancellable.cancel();
+            return;
+        }
+        page.addCandles(CandleProtoMapper.toResponse(candle));
+        candles++;
+        if (page.getCandlesCount() >= pageSize) {
+            handOff(false);
+        }
+    }
+
+    void onError(Throwable error) {
+        if (cancelled) {
+            return;
+        }
+        log.error("Candle history query failed after {} candle(s)", candles, error);
+        fail(Status.UNAVAILABLE
+                .withDescription("Candle history query failed: " + error.getMessage())
+                .withCause(error));
+    }
+
+    void onComplete() {
+        if (cancelled) {
+            log.debug("Candle history stream cancelled after {} candle(s)", candles);
+            return;
+        }
+        handOff(true);
+        log.debug("Candle history query completed: {} candle(s) in {} page(s)", candles, pageNumber);
+    }
+
+    /**
+     * Queues the current page, waiting up to readyTimeoutMs for room, then sends
+     * whatever the client is ready for.
+     */
+    private void handOff(boolean lastPage) {
+        OhlcvServiceProto.CandleHistoryPage next = page.setPage(pageNumber++).setLastPage(lastPage).build();
+        page = OhlcvServiceProto.CandleHistoryPage.newBuilder();
+        boolean queued;
+        try {
+            queued = pages.offer(next, readyTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelled = true;
+            cancelQuery();
+            fail(Status.CANCELLED.withDescription("Candle history stream interrupted"));
+            return;
+        }
+        if (cancelled) {
+            return;
+        }
+        if (!queued) {
+            log.debug("Client took no candle history page within {} ms - cancelling the query", readyTimeoutMs);
+            cancelled = true;
+            cancelQuery();
+            fail(Status.DEADLINE_EXCEEDED
+                    .withDescription("Client did not read candle history within " + readyTimeoutMs + " ms"));
+            return;
+        }
+        drain();
+    }
+
+    /**
+     * Sends queued pages while the call is ready; completes the call after the last page.
+     */
+    private synchronized void drain() {
+        while (!closed && !cancelled && observer.isReady()) {
+            OhlcvServiceProto.CandleHistoryPage next = pages.poll();
+            if (next == null) {
+                return;
+            }
+            observer.onNext(next);
+            if (next.getLastPage()) {
+                closed = true;
+                observer.onCompleted();
+            }
+        }
+    }
+
+    private synchronized void fail(Status status) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pages.clear();
+        observer.onError(status.asRuntimeException());
+    }
+
+    private void cancelQuery() {
+        Cancellable current = query;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+}
@@ -2,23 +2,83 @@ package ca.digilogue.xp.grpc.impl;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 
-import ca.digilogue.xp.App;
 import ca.digilogue.xp.generator.OhlcvCandle;
 import ca.digilogue.xp.grpc.OhlcvServiceGrpc;
 import ca.digilogue.xp.grpc.OhlcvServiceProto;
+import ca.digilogue.xp.grpc.stream.CandleProtoMapper;
+import ca.digilogue.xp.grpc.stream.CandleStreamBroadcaster;
+import ca.digilogue.xp.grpc.stream.EncodedFrame;
+import ca.digilogue.xp.grpc.stream.EncodedFrameBindings;
+import ca.digilogue.xp.grpc.stream.FilteredStreamSubscriber;
+import ca.digilogue.xp.service.InfluxDbService;
+import ca.digilogue.xp.store.CandleSnapshot;
+import ca.digilogue.xp.store.CandleStore;
+import ca.digilogue.xp.store.CandleView;
+import ca.digilogue.xp.store.ColumnarCandleStore;
+import ca.digilogue.xp.store.RecentCandleHistory;
+import ca.digilogue.xp.store.RecentCandles;
+import io.grpc.BindableService;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import net.devh.boot.grpc.server.service.GrpcService;
 
+import java.time.Instant;
+
 /**
  * gRPC service implementation for OHLCV candle data.
  * Provides access to real-time OHLCV candle data via gRPC.
+ *
+ * Streaming methods send pre-encoded frames shared between all clients, so the
+ * service binds itself (see bindService()) instead of extending the generated
+ * OhlcvServiceImplBase, whose bindService() is final.
  */
 @GrpcService
-public class OhlcvServiceImpl extends OhlcvServiceGrpc.OhlcvServiceImplBase {
+public class OhlcvServiceImpl implements OhlcvServiceGrpc.AsyncService, BindableService {
 
     private static final Logger log = LoggerFactory.getLogger(OhlcvServiceImpl.class);
 
+    @Value("${app.grpc.history.default-page-size:500}")
+    private int defaultHistoryPageSize;
+
+    @Value("${app.grpc.history.max-page-size:10000}")
+    private int maxHistoryPageSize;
+
+    @Value("${app.grpc.history.ready-timeout-ms:30000}")
+    private long historyReadyTimeoutMs;
+
+    private final CandleStore candleStore;
+    private final CandleStreamBroadcaster broadcaster;
+    private final ColumnarCandleStore columnarStore;
+    private final InfluxDbService influxDbService;
+    private final RecentCandleHistory recentHistory;
+
+    public OhlcvServiceImpl(CandleStore candleStore, CandleStreamBroadcaster broadcaster,
+                            ColumnarCandleStore columnarStore, InfluxDbService influxDbService,
+                            RecentCandleHistory recentHistory) {
+        this.candleStore = candleStore;
+        this.broadcaster = broadcaster;
+        this.columnarStore = columnarStore;
+        this.influxDbService = influxDbService;
+        this.recentHistory = recentHistory;
+    }
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        return EncodedFrameBindings.rebind(
+                OhlcvServiceGrpc.bindService(this),
+                EncodedFrameBindings.serverStreaming(
+                        OhlcvServiceGrpc.getStreamAllLiveCandlesMethod(), this::streamAllLiveCandlesFrames),
+                EncodedFrameBindings.serverStreaming(
+                        OhlcvServiceGrpc.getStreamCandleDeltasMethod(), this::streamCandleDeltasFrames),
+                EncodedFrameBindings.serverStreaming(
+                        OhlcvServiceGrpc.getSubscribeCandlesMethod(), this::subscribeCandlesFrames),
+                EncodedFrameBindings.bidiStreaming(
+                        OhlcvServiceGrpc.getManageCandleSubscriptionMethod(), this::manageCandleSubscriptionFrames));
+    }
+
     @Override
     public void getLatestCandle(
             OhlcvServiceProto.GetLatestCandleRequest request,
@@ -28,8 +88,13 @@ public class OhlcvServiceImpl extends OhlcvServiceGrpc.OhlcvServiceImplBase {
         log.debug("Received request for latest candle: symbol={}", symbol);
 
         try {
-            // Get the latest candle from the latestCandles map (consumed from Kafka)
-            OhlcvCandle candle = App.latestCandles.get(symbol);
+            if (columnarStore.isEnabled()) {
+                getLatestCandleFromColumns(symbol, responseObserver);
+                return;
+            }
+
+            // Get the latest candle from the candle store (consumed from Kafka)
+            OhlcvCandle candle = candleStore.getLatestCandle(symbol);
 
             if (candle == null) {
                 log.warn("No candle data available for symbol: {}", symbol);
@@ -42,15 +107,7 @@ public class OhlcvServiceImpl extends OhlcvServiceGrpc.OhlcvServiceImplBase {
             }
 
             // Convert OhlcvCandle to protobuf response
-            OhlcvServiceProto.OhlcvCandleResponse response = OhlcvServiceProto.OhlcvCandleResponse.newBuilder()
-                .setSymbol(candle.getSymbol())
-                .setOpen(candle.getOpen())
-                .setHigh(candle.getHigh())
-                .setLow(candle.getLow())
-                .setClose(candle.getClose())
-                .setVolume(candle.getVolume())
-                .setTimestamp(convertInstantToNanos(candle.getTimestamp()))
-                .build();
+            OhlcvServiceProto.OhlcvCandleResponse response = CandleProtoMapper.toResponse(candle);
 
             log.debug("Sending response for symbol: {}, close={}", symbol, candle.getClose());
             responseObserver.onNext(response);
@@ -67,95 +124,251 @@ public class OhlcvServiceImpl extends OhlcvServiceGrpc.OhlcvServiceImplBase {
         }
     }
 
+    /**
+     * getLatestCandle served from the primitive columns (no OhlcvCandle involved).
+     */
+    private void getLatestCandleFromColumns(
+            String symbol, StreamObserver<OhlcvServiceProto.OhlcvCandleResponse> responseObserver) {
+        CandleView view = new CandleView();
+        if (!columnarStore.read(symbol, view)) {
+            log.warn("No candle data available for symbol: {}", symbol);
+            responseObserver.onError(
+                io.grpc.Status.NOT_FOUND
+                    .withDescription("No candle data available for symbol: " + symbol)
+                    .asRuntimeException()
+            );
+            return;
+        }
+        responseObserver.onNext(CandleProtoMapper.toResponse(view));
+        responseObserver.onCompleted();
+    }
+
     @Override
-    public void streamAllLiveCandles(
-            OhlcvServiceProto.StreamAllLiveCandlesRequest request,
-            StreamObserver<OhlcvServiceProto.AllCandlesResponse> responseObserver) {
-
-        log.info("Client connected to StreamAllLiveCandles");
-
-        // Run streaming loop in a separate thread to avoid blocking
-        Thread streamingThread = new Thread(() -> {
-            try {
-                while (!Thread.currentThread().isInterrupted()) {
-                    // Check if client is still connected
-                    if (responseObserver instanceof io.grpc.stub.ServerCallStreamObserver) {
-                        io.grpc.stub.ServerCallStreamObserver<?> serverCallStreamObserver =
-                                (io.grpc.stub.ServerCallStreamObserver<?>) responseObserver;
-                        if (serverCallStreamObserver.isCancelled()) {
-                            log.info("Client disconnected from StreamAllLiveCandles");
-                            break;
-                        }
-                    }
-
-                    // Collect all latest candles from latestCandles map (consumed from Kafka)
-                    OhlcvServiceProto.AllCandlesResponse.Builder responseBuilder =
-                            OhlcvServiceProto.AllCandlesResponse.newBuilder();
-
-                    synchronized (App.latestCandles) {
-                        for (OhlcvCandle candle : App.latestCandles.values()) {
-                            if (candle != null) {
-                                OhlcvServiceProto.OhlcvCandleResponse candleResponse =
-                                        OhlcvServiceProto.OhlcvCandleResponse.newBuilder()
-                                                .setSymbol(candle.getSymbol())
-                                                .setOpen(candle.getOpen())
-                                                .setHigh(candle.getHigh())
-                                                .setLow(candle.getLow())
-                                                .setClose(candle.getClose())
-                                                .setVolume(candle.getVolume())
-                                                .setTimestamp(convertInstantToNanos(candle.getTimestamp()))
-                                                .build();
-                                responseBuilder.addCandles(candleResponse);
-                            }
-                        }
-                    }
-
-                    // Send the collection of candles
-                    try {
-                        OhlcvServiceProto.AllCandlesResponse response = responseBuilder.build();
-                        responseObserver.onNext(response);
-                        log.debug("Streamed {} candles to client", response.getCandlesCount());
-                    } catch (Exception e) {
-                        // Client may have disconnected
-                        log.warn("Error sending stream data, client may have disconnected", e);
-                        break;
-                    }
-
-                    // Sleep for 1 second before next update
-                    Thread.sleep(1000);
+    public void getLatestCandles(
+            OhlcvServiceProto.GetLatestCandlesRequest request,
+            StreamObserver<OhlcvServiceProto.GetLatestCandlesResponse> responseObserver) {
+
+        log.debug("Received request for latest candles: {} symbol(s)", request.getSymbolsCount());
+
+        try {
+            // Read everything from one snapshot so all candles come from the same Kafka message
+            CandleSnapshot snapshot = candleStore.snapshot();
 
+            OhlcvServiceProto.GetLatestCandlesResponse.Builder response =
+                    OhlcvServiceProto.GetLatestCandlesResponse.newBuilder()
+                            .setSequence(snapshot.getVersion());
+            for (String symbol : request.getSymbolsList()) {
+                OhlcvCandle candle = snapshot.get(symbol);
+                if (candle != null) {
+                    response.addCandles(CandleProtoMapper.toResponse(candle));
+                } else {
+                    response.addMissingSymbols(symbol);
                 }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.info("StreamAllLiveCandles interrupted");
-            } catch (Exception e) {
-                log.error("Error in StreamAllLiveCandles", e);
+            }
+
+            log.debug("Sending {} candle(s), {} missing, sequence={}",
+                    response.getCandlesCount(), response.getMissingSymbolsCount(), snapshot.getVersion());
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+
+        } catch (Exception e) {
+            log.error("Error processing getLatestCandles request", e);
+            responseObserver.onError(
+                io.grpc.Status.INTERNAL
+                    .withDescription("Internal error: " + e.getMessage())
+                    .withCause(e)
+                    .asRuntimeException()
+            );
+        }
+    }
+
+    @Override
+    public void getCandleHistory(
+            OhlcvServiceProto.GetCandleHistoryRequest request,
+            StreamObserver<OhlcvServiceProto.CandleHistoryPage> responseObserver) {
+
+        String symbol = request.getSymbol();
+        long endTime = request.getEndTime() > 0 ? request.getEndTime() : Long.MAX_VALUE;
+        if (symbol.isEmpty() || request.getStartTime() < 0 || request.getStartTime() >= endTime
+                || request.getIntervalSeconds() < 0) {
+            responseObserver.onError(
+                io.grpc.Status.INVALID_ARGUMENT
+                    .withDescription("A symbol, a start_time before end_time and a non-negative interval are required")
+                    .asRuntimeException()
+            );
+            return;
+        }
+
+        // page_size is a uint32: values of 2^31 and above arrive as negative ints
+        int pageSize = request.getPageSize() != 0
+                ? (int) Math.min(Integer.toUnsignedLong(request.getPageSize()), maxHistoryPageSize)
+                : defaultHistoryPageSize;
+        log.debug("Received candle history request: symbol={}, start={}, end={}, interval={}s, pageSize={}",
+                symbol, request.getStartTime(), request.getEndTime(), request.getIntervalSeconds(), pageSize);
+
+        // Pages are built on the InfluxDB query thread and sent whenever the call is ready
+        CandleHistoryPager pager = new CandleHistoryPager(
+                (ServerCallStreamObserver<OhlcvServiceProto.CandleHistoryPage>) responseObserver,
+                pageSize, historyReadyTimeoutMs);
+        influxDbService.streamCandleHistory(symbol,
+                toInstant(request.getStartTime()),
+                request.getEndTime() > 0 ? toInstant(request.getEndTime()) : null,
+                request.getIntervalSeconds(),
+                pager::onCandle, pager::onError, pager::onComplete);
+    }
+
+    @Override
+    public void getRecentCandles(
+            OhlcvServiceProto.GetRecentCandlesRequest request,
+            StreamObserver<OhlcvServiceProto.GetRecentCandlesResponse> responseObserver) {
+
+        String symbol = request.getSymbol();
+        log.debug("Received request for recent candles: symbol={}, count={}", symbol, request.getCount());
+
+        if (!recentHistory.isEnabled()) {
+            responseObserver.onError(
+                io.grpc.Status.FAILED_PRECONDITION
+                    .withDescription("Recent candle history is not enabled on this server")
+                    .asRuntimeException()
+            );
+            return;
+        }
+        if (symbol.isEmpty() || request.getCount() == 0) {
+            responseObserver.onError(
+                io.grpc.Status.INVALID_ARGUMENT
+                    .withDescription("A symbol and a count of at least 1 are required")
+                    .asRuntimeException()
+            );
+            return;
+        }
+
+        try {
+            RecentCandles recent = new RecentCandles();
+            // count is a uint32: values of 2^31 and above arrive as negative ints
+            int count = (int) Math.min(Integer.toUnsignedLong(request.getCount()), recentHistory.getCapacity());
+            if (recentHistory.copyRecent(symbol, count, recent) == 0) {
+                log.warn("No recent candle history for symbol: {}", symbol);
                 responseObserver.onError(
-                        io.grpc.Status.INTERNAL
-                                .withDescription("Internal error: " + e.getMessage())
-                                .withCause(e)
-                                .asRuntimeException()
+                    io.grpc.Status.NOT_FOUND
+                        .withDescription("No recent candle history for symbol: " + symbol)
+                        .asRuntimeException()
                 );
-            } finally {
-                // Complete the stream
-                responseObserver.onCompleted();
-                log.info("StreamAllLiveCandles completed");
+                return;
             }
-        });
 
-        streamingThread.setDaemon(true);
-        streamingThread.setName("StreamAllLiveCandles-" + streamingThread.getId());
-        streamingThread.start();
+            OhlcvServiceProto.GetRecentCandlesResponse.Builder response =
+                    OhlcvServiceProto.GetRecentCandlesResponse.newBuilder();
+            for (int i = 0; i < recent.size(); i++) {
+                response.addCandles(CandleProtoMapper.toResponse(recent, i));
+            }
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+
+        } catch (Exception e) {
+            log.error("Error processing getRecentCandles request for symbol: {}", symbol, e);
+            responseObserver.onError(
+                io.grpc.Status.INTERNAL
+                    .withDescription("Internal error: " + e.getMessage())
+                    .withCause(e)
+                    .asRuntimeException()
+            );
+        }
+    }
+
+    private static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L), Math.floorMod(epochNanos, 1_000_000_000L));
     }
 
     /**
-     * Converts an Instant to nanoseconds since epoch.
-     * 
-     * @param instant The Instant to convert
-     * @return Nanoseconds since epoch
+     * StreamAllLiveCandles, bound with the encoded frame marshaller.
+     * Each frame is a serialized AllCandlesResponse.
      */
-    private long convertInstantToNanos(java.time.Instant instant) {
-        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    public void streamAllLiveCandlesFrames(
+            OhlcvServiceProto.StreamAllLiveCandlesRequest request,
+            StreamObserver<EncodedFrame> responseObserver) {
+
+        log.info("Client connected to StreamAllLiveCandles ({} active)", broadcaster.getSubscriberCount() + 1);
+
+        // No thread per client: the broadcaster pushes each new snapshot as it is ingested from Kafka
+        broadcaster.subscribeAll((ServerCallStreamObserver<EncodedFrame>) responseObserver);
     }
-}
 
+    /**
+     * StreamCandleDeltas, bound with the encoded frame marshaller.
+     * Each frame is a serialized CandleDeltaResponse.
+     */
+    public void streamCandleDeltasFrames(
+            OhlcvServiceProto.StreamCandleDeltasRequest request,
+            StreamObserver<EncodedFrame> responseObserver) {
+
+        log.info("Client connected to StreamCandleDeltas ({} active)", broadcaster.getSubscriberCount() + 1);
+        broadcaster.subscribeDeltas((ServerCallStreamObserver<EncodedFrame>) responseObserver);
+    }
+
+    /**
+     * SubscribeCandles, bound with the encoded frame marshaller.
+     * Each frame is a serialized AllCandlesResponse holding matching candles only.
+     */
+    public void subscribeCandlesFrames(
+            OhlcvServiceProto.SubscribeCandlesRequest request,
+            StreamObserver<EncodedFrame> responseObserver) {
+
+        if (request.getSymbolsCount() == 0 && request.getPatternsCount() == 0
+                || request.getSymbolsList().contains("") || request.getPatternsList().contains("")) {
+            responseObserver.onError(
+                io.grpc.Status.INVALID_ARGUMENT
+                    .withDescription("At least one non-empty symbol or pattern is required")
+                    .asRuntimeException()
+            );
+            return;
+        }
+
+        log.info("Client connected to SubscribeCandles: symbols={}, patterns={}",
+                request.getSymbolsList(), request.getPatternsList());
+        broadcaster.subscribeFiltered((ServerCallStreamObserver<EncodedFrame>) responseObserver,
+                request.getSymbolsList(), request.getPatternsList());
+    }
+
+    /**
+     * ManageCandleSubscription, bound with the encoded frame marshaller.
+     * Control messages change the interest set of one long-lived filtered stream.
+     */
+    public StreamObserver<OhlcvServiceProto.SubscriptionControlRequest> manageCandleSubscriptionFrames(
+            StreamObserver<EncodedFrame> responseObserver) {
+
+        log.info("Client connected to ManageCandleSubscription");
+        FilteredStreamSubscriber subscriber =
+                broadcaster.openFiltered((ServerCallStreamObserver<EncodedFrame>) responseObserver);
+
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(OhlcvServiceProto.SubscriptionControlRequest control) {
+                if (control.getSymbolsList().contains("") || control.getPatternsList().contains("")) {
+                    log.warn("Ignoring subscription control message with empty symbol or pattern");
+                    return;
+                }
+                log.debug("Subscription control: action={}, symbols={}, patterns={}",
+                        control.getAction(), control.getSymbolsList(), control.getPatternsList());
+                switch (control.getAction()) {
+                    case SUBSCRIBE -> broadcaster.addInterest(
+                            subscriber, control.getSymbolsList(), control.getPatternsList());
+                    case UNSUBSCRIBE -> broadcaster.removeInterest(
+                            subscriber, control.getSymbolsList(), control.getPatternsList());
+                    default -> log.warn("Ignoring unknown subscription control action: {}", control.getActionValue());
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.info("ManageCandleSubscription closed by client: {}", t.getMessage());
+                broadcaster.closeFiltered(subscriber);
+            }
+
+            @Override
+            public void onCompleted() {
+                log.info("ManageCandleSubscription completed by client");
+                broadcaster.closeFiltered(subscriber);
+            }
+        };
+    }
+}
@@ -0,0 +1,123 @@
+package ca.digilogue.xp.grpc.stream;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import ca.digilogue.xp.grpc.OhlcvServiceProto;
+import ca.digilogue.xp.store.CandleSnapshot;
+import ca.digilogue.xp.store.CandleView;
+import ca.digilogue.xp.store.RecentCandles;
+
+import java.time.Instant;
+
+/**
+ * Converts OHLCV candles and snapshots to their protobuf representation.
+ */
+public final class CandleProtoMapper {
+
+    private CandleProtoMapper() {
+    }
+
+    /**
+     * Converts an OhlcvCandle to its protobuf response.
+     *
+     * @param candle The candle to convert
+     * @return The protobuf candle
+     */
+    public static OhlcvServiceProto.OhlcvCandleResponse toResponse(OhlcvCandle candle) {
+        return OhlcvServiceProto.OhlcvCandleResponse.newBuilder()
+            .setSymbol(candle.getSymbol())
+            .setOpen(candle.getOpen())
+            .setHigh(candle.getHigh())
+            .setLow(candle.getLow())
+            .setClose(candle.getClose())
+            .setVolume(candle.getVolume())
+            .setTimestamp(toEpochNanos(candle.getTimestamp()))
+            .build();
+    }
+
+    /**
+     * Converts a columnar store row to its protobuf response.
+     *
+     * @param view The row to convert
+     * @return The protobuf candle
+     */
+    public static OhlcvServiceProto.OhlcvCandleResponse toResponse(CandleView view) {
+        return OhlcvServiceProto.OhlcvCandleResponse.newBuilder()
+            .setSymbol(view.getSymbol())
+            .setOpen(view.getOpen())
+            .setHigh(view.getHigh())
+            .setLow(view.getLow())
+            .setClose(view.getClose())
+            .setVolume(view.getVolume())
+            .setTimestamp(view.getTimestampNanos())
+            .build();
+    }
+
+    /**
+     * Converts one candle of a recent history copy to its protobuf response.
+     *
+     * @param recent The copied candles
+     * @param index  Index of the candle (0 = oldest)
+     * @return The protobuf candle
+     */
+    public static OhlcvServiceProto.OhlcvCandleResponse toResponse(RecentCandles recent, int index) {
+        return OhlcvServiceProto.OhlcvCandleResponse.newBuilder()
+            .setSymbol(recent.getSymbol())
+            .setOpen(recent.getOpen(index))
+            .setHigh(recent.getHigh(index))
+            .setLow(recent.getLow(index))
+            .setClose(recent.getClose(index))
+            .setVolume(recent.getVolume(index))
+            .setTimestamp(recent.getTimestampNanos(index))
+            .build();
+    }
+
+    /**
+     * Converts a whole snapshot to an AllCandlesResponse.
+     *
+     * @param snapshot The snapshot to convert
+     * @return The protobuf collection of all candles in the snapshot
+     */
+    public static OhlcvServiceProto.AllCandlesResponse toAllCandlesResponse(CandleSnapshot snapshot) {
+        OhlcvServiceProto.AllCandlesResponse.Builder builder = OhlcvServiceProto.AllCandlesResponse.newBuilder();
+        for (OhlcvCandle candle : snapshot.getCandles().values()) {
+            builder.addCandles(toResponse(candle));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Converts a snapshot to a CandleDeltaResponse.
+     *
+     * @param snapshot     The snapshot to convert
+     * @param fullSnapshot True to include every candle, false to include only
+     *                     the changes since the previous version
+     * @return The protobuf delta frame
+     */
+    public static OhlcvServiceProto.CandleDeltaResponse toDeltaResponse(CandleSnapshot snapshot, boolean fullSnapshot) {
+        OhlcvServiceProto.CandleDeltaResponse.Builder builder = OhlcvServiceProto.CandleDeltaResponse.newBuilder()
+            .setSequence(snapshot.getVersion())
+            .setFullSnapshot(fullSnapshot);
+        if (fullSnapshot) {
+            for (OhlcvCandle candle : snapshot.getCandles().values()) {
+                builder.addCandles(toResponse(candle));
+            }
+        } else {
+            builder.setPreviousSequence(snapshot.getVersion() - 1);
+            for (String symbol : snapshot.getChangedSymbols()) {
+                builder.addCandles(toResponse(snapshot.get(symbol)));
+            }
+            builder.addAllRemovedSymbols(snapshot.getRemovedSymbols());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Converts an Instant to nanoseconds since epoch.
+     *
+     * @param instant The Instant to convert
+     * @return Nanoseconds since epoch
+     */
+    public static long toEpochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
@@ -0,0 +1,198 @@
+package ca.digilogue.xp.grpc.stream;
+
+import ca.digilogue.xp.store.CandleSnapshot;
+import ca.digilogue.xp.store.CandleSnapshotListener;
+import ca.digilogue.xp.store.CandleStore;
+import io.grpc.stub.ServerCallStreamObserver;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes every new candle snapshot to all streaming clients
+ * (StreamAllLiveCandles, StreamCandleDeltas and the symbol-filtered
+ * SubscribeCandles/ManageCandleSubscription streams).
+ *
+ * Driven by the CandleStore publish (i.e. the Kafka ingest event) instead of
+ * one polling thread per client. Each snapshot version is serialized once by
+ * the SnapshotFrameCache and the same bytes are handed to every client.
+ * Flow control is respected through isReady()/onReadyHandler: a client that
+ * is not ready simply gets the newest snapshot once it drains.
+ */
+@Component
+public class CandleStreamBroadcaster implements CandleSnapshotListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CandleStreamBroadcaster.class);
+
+    private final CandleStore candleStore;
+    private final SnapshotFrameCache frameCache;
+    private final SymbolInterestRegistry interestRegistry;
+    private final Set<StreamSubscriber<?>> subscribers = ConcurrentHashMap.newKeySet();
+
+    public CandleStreamBroadcaster(CandleStore candleStore, SnapshotFrameCache frameCache,
+                                   SymbolInterestRegistry interestRegistry) {
+        this.candleStore = candleStore;
+        this.frameCache = frameCache;
+        this.interestRegistry = interestRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        candleStore.addListener(this);
+    }
+
+    /**
+     * Registers a StreamAllLiveCandles client and sends it the current snapshot.
+     *
+     * @param observer The server-side observer of the streaming call
+     */
+    public void subscribeAll(ServerCallStreamObserver<EncodedFrame> observer) {
+        register(new StreamSubscriber<>(observer) {
+            @Override
+            protected EncodedFrame frameFor(CandleSnapshot snapshot) {
+                return frameCache.allCandles(snapshot);
+            }
+        });
+    }
+
+    /**
+     * Registers a StreamCandleDeltas client. The first frame is a full snapshot;
+     * afterwards the client receives only changes. If the client skipped versions
+     * (e.g. it was not ready), the next frame is a full snapshot again.
+     *
+     * @param observer The server-side observer of the streaming call
+     */
+    public void subscribeDeltas(ServerCallStreamObserver<EncodedFrame> observer) {
+        register(new StreamSubscriber<>(observer) {
+            private long lastSentVersion;
+
+            @Override
+            protected EncodedFrame frameFor(CandleSnapshot snapshot) {
+                boolean contiguous = lastSentVersion != 0 && snapshot.getVersion() == lastSentVersion + 1;
+                lastSentVersion = snapshot.getVersion();
+                return contiguous ? frameCache.delta(snapshot) : frameCache.fullDelta(snapshot);
+            }
+        });
+    }
+
+    /**
+     * Registers a symbol-filtered client. The first frame holds the current candle of
+     * every matching symbol; afterwards only matching symbols that changed are sent.
+     *
+     * @param observer The server-side observer of the streaming call
+     * @param symbols  Exact symbols to subscribe to
+     * @param patterns Glob patterns to subscribe to
+     * @return The subscriber, so its interest set can be changed later
+     */
+    public FilteredStreamSubscriber subscribeFiltered(ServerCallStreamObserver<EncodedFrame> observer,
+                                                      Collection<String> symbols, Collection<String> patterns) {
+        FilteredStreamSubscriber subscriber = openFiltered(observer);
+        addInterest(subscriber, symbols, patterns);
+        return subscriber;
+    }
+
+    /**
+     * Registers a filtered client with an empty interest set (see addInterest/removeInterest).
+     *
+     * @param observer The server-side observer of the streaming call
+     * @return The subscriber
+     */
+    public FilteredStreamSubscriber openFiltered(ServerCallStreamObserver<EncodedFrame> observer) {
+        FilteredStreamSubscriber subscriber = new FilteredStreamSubscriber(observer, candleStore, frameCache);
+        observer.setOnCancelHandler(() -> {
+            interestRegistry.unregister(subscriber);
+            log.info("Client disconnected from filtered stream ({} remaining)", interestRegistry.getSubscriberCount());
+        });
+        observer.setOnReadyHandler(subscriber::drain);
+        interestRegistry.register(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * Adds symbols/patterns to a filtered client; their current candles are sent right away.
+     *
+     * @param subscriber The filtered subscriber
+     * @param symbols    Exact symbols to add
+     * @param patterns   Glob patterns to add
+     */
+    public void addInterest(FilteredStreamSubscriber subscriber, Collection<String> symbols,
+                            Collection<String> patterns) {
+        subscriber.offer(interestRegistry.addInterest(subscriber, symbols, patterns));
+    }
+
+    /**
+     * Removes symbols/patterns from a filtered client.
+     *
+     * @param subscriber The filtered subscriber
+     * @param symbols    Exact symbols to remove
+     * @param patterns   Glob patterns to remove
+     */
+    public void removeInterest(FilteredStreamSubscriber subscriber, Collection<String> symbols,
+                               Collection<String> patterns) {
+        interestRegistry.removeInterest(subscriber, symbols, patterns);
+    }
+
+    /**
+     * Unregisters a filtered client and completes its stream.
+     *
+     * @param subscriber The filtered subscriber
+     */
+    public void closeFiltered(FilteredStreamSubscriber subscriber) {
+        interestRegistry.unregister(subscriber);
+        subscriber.complete();
+    }
+
+    @Override
+    public void onSnapshot(CandleSnapshot snapshot) {
+        interestRegistry.route(snapshot);
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        for (StreamSubscriber<?> subscriber : subscribers) {
+            if (subscriber.isClosed()) {
+                subscribers.remove(subscriber);
+                continue;
+            }
+            subscriber.offer(snapshot);
+        }
+        log.debug("Broadcast snapshot version {} to {} subscriber(s)", snapshot.getVersion(), subscribers.size());
+    }
+
+    /**
+     * @return Number of currently registered stream clients
+     */
+    public int getSubscriberCount() {
+        return subscribers.size() + interestRegistry.getSubscriberCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        candleStore.removeListener(this);
+        for (StreamSubscriber<?> subscriber : subscribers) {
+            subscriber.complete();
+        }
+        subscribers.clear();
+        interestRegistry.completeAll();
+    }
+
+    private void register(StreamSubscriber<?> subscriber) {
+        ServerCallStreamObserver<?> observer = subscriber.getObserver();
+        observer.setOnCancelHandler(() -> {
+            subscribers.remove(subscriber);
+            log.info("Client disconnected from stream ({} remaining)", subscribers.size());
+        });
+        observer.setOnReadyHandler(subscriber::drain);
+        subscribers.add(subscriber);
+
+        CandleSnapshot snapshot = candleStore.snapshot();
+        if (snapshot.getVersion() > 0) {
+            subscriber.offer(snapshot);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ca.digilogue.xp.grpc.stream;
+
+/**
+ * A streamed response message that has already been serialized to protobuf bytes.
+ *
+ * The same instance (and the same byte array) is handed to every subscriber of a
+ * snapshot version; EncodedFrameMarshaller writes the bytes to the wire as-is.
+ * The array must never be modified after construction.
+ */
+public final class EncodedFrame {
+
+    private final long version;
+    private final byte[] bytes;
+
+    public EncodedFrame(long version, byte[] bytes) {
+        this.version = version;
+        this.bytes = bytes;
+    }
+
+    /**
+     * @return The snapshot version this frame was encoded from
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return The serialized message (shared, do not modify)
+     */
+    byte[] getBytes() {
+        return bytes;
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+}
@@ -0,0 +1,89 @@
+package ca.digilogue.xp.grpc.stream;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.stub.ServerCalls;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Helpers for binding streaming methods whose responses are sent as pre-encoded frames.
+ *
+ * The generated OhlcvServiceGrpc binds every method with the default protobuf
+ * marshaller. These helpers rebuild the service definition so selected methods
+ * use EncodedFrameMarshaller instead, while the wire format stays exactly as
+ * declared in ohlcv_service.proto.
+ */
+public final class EncodedFrameBindings {
+
+    private EncodedFrameBindings() {
+    }
+
+    /**
+     * Creates a server-streaming method definition that sends EncodedFrames.
+     *
+     * @param method  The generated method descriptor
+     * @param handler The streaming implementation
+     * @return The method definition using the encoded frame response marshaller
+     */
+    public static <ReqT> ServerMethodDefinition<ReqT, EncodedFrame> serverStreaming(
+            MethodDescriptor<ReqT, ?> method,
+            ServerCalls.ServerStreamingMethod<ReqT, EncodedFrame> handler) {
+        return ServerMethodDefinition.create(encoded(method), ServerCalls.asyncServerStreamingCall(handler));
+    }
+
+    /**
+     * Creates a bidirectional streaming method definition that sends EncodedFrames.
+     *
+     * @param method  The generated method descriptor
+     * @param handler The streaming implementation
+     * @return The method definition using the encoded frame response marshaller
+     */
+    public static <ReqT> ServerMethodDefinition<ReqT, EncodedFrame> bidiStreaming(
+            MethodDescriptor<ReqT, ?> method,
+            ServerCalls.BidiStreamingMethod<ReqT, EncodedFrame> handler) {
+        return ServerMethodDefinition.create(encoded(method), ServerCalls.asyncBidiStreamingCall(handler));
+    }
+
+    /**
+     * Replaces methods of a generated service definition, keeping all other methods as they are.
+     *
+     * @param generated The service definition from the generated bindService()
+     * @param overrides Method definitions to use instead of the generated ones (matched by full method name)
+     * @return The combined service definition
+     */
+    public static ServerServiceDefinition rebind(ServerServiceDefinition generated,
+                                                 ServerMethodDefinition<?, ?>... overrides) {
+        Map<String, ServerMethodDefinition<?, ?>> methods = new LinkedHashMap<>();
+        for (ServerMethodDefinition<?, ?> method : generated.getMethods()) {
+            methods.put(method.getMethodDescriptor().getFullMethodName(), method);
+        }
+        for (ServerMethodDefinition<?, ?> override : overrides) {
+            String name = override.getMethodDescriptor().getFullMethodName();
+            if (!methods.containsKey(name)) {
+                throw new IllegalArgumentException("Method " + name + " is not part of the generated service");
+            }
+            methods.put(name, override);
+        }
+
+        ServiceDescriptor original = generated.getServiceDescriptor();
+        ServiceDescriptor.Builder descriptor = ServiceDescriptor.newBuilder(original.getName())
+                .setSchemaDescriptor(original.getSchemaDescriptor());
+        for (ServerMethodDefinition<?, ?> method : methods.values()) {
+            descriptor.addMethod(method.getMethodDescriptor());
+        }
+
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(descriptor.build());
+        for (ServerMethodDefinition<?, ?> method : methods.values()) {
+            builder.addMethod(method);
+        }
+        return builder.build();
+    }
+
+    private static <ReqT> MethodDescriptor<ReqT, EncodedFrame> encoded(MethodDescriptor<ReqT, ?> method) {
+        return method.toBuilder(method.getRequestMarshaller(), EncodedFrameMarshaller.INSTANCE).build();
+    }
+}
@@ -0,0 +1,58 @@
+package ca.digilogue.xp.grpc.stream;
+
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * gRPC marshaller for pre-serialized frames.
+ * Streams the shared byte array of an EncodedFrame directly, so sending the
+ * same frame to N clients costs one encode instead of N.
+ */
+public final class EncodedFrameMarshaller implements MethodDescriptor.Marshaller<EncodedFrame> {
+
+    public static final EncodedFrameMarshaller INSTANCE = new EncodedFrameMarshaller();
+
+    private EncodedFrameMarshaller() {
+    }
+
+    @Override
+    public InputStream stream(EncodedFrame frame) {
+        return new FrameInputStream(frame.getBytes());
+    }
+
+    @Override
+    public EncodedFrame parse(InputStream stream) {
+        // Only used if the frame is ever received (e.g. in-process clients)
+        try {
+            return new EncodedFrame(0L, stream.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read encoded frame", e);
+        }
+    }
+
+    /**
+     * Read-only view over a shared frame buffer. Implements Drainable so the
+     * transport copies the whole array in one write.
+     */
+    private static final class FrameInputStream extends ByteArrayInputStream implements KnownLength, Drainable {
+
+        private FrameInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public int drainTo(OutputStream target) throws IOException {
+            int length = count - pos;
+            target.write(buf, pos, length);
+            pos = count;
+            return length;
+        }
+    }
+}
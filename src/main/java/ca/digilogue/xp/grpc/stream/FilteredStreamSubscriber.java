@@ -0,0 +1,80 @@
+package ca.digilogue.xp.grpc.stream;
+
+import ca.digilogue.xp.store.CandleSnapshot;
+import ca.digilogue.xp.store.CandleStore;
+import io.grpc.stub.ServerCallStreamObserver;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A stream client interested in a subset of symbols.
+ *
+ * The SymbolInterestRegistry marks the symbols that changed or were removed for
+ * this client; marks accumulate until the client is ready, so a slow client still
+ * receives every changed symbol (with its newest candle) and every removed one
+ * (in removed_symbols) once it catches up.
+ * Frames are AllCandlesResponse messages assembled from per-symbol entries
+ * that are encoded once per snapshot version.
+ */
+public class FilteredStreamSubscriber extends StreamSubscriber<EncodedFrame> {
+
+    private final CandleStore candleStore;
+    private final SnapshotFrameCache frameCache;
+    private final Set<String> pendingSymbols = ConcurrentHashMap.newKeySet();
+
+    // Interest state, maintained by the SymbolInterestRegistry
+    final Set<String> exactSymbols = ConcurrentHashMap.newKeySet();
+    final Set<SymbolPattern> patterns = ConcurrentHashMap.newKeySet();
+    final Set<String> indexedSymbols = ConcurrentHashMap.newKeySet();
+
+    public FilteredStreamSubscriber(ServerCallStreamObserver<EncodedFrame> observer,
+                                    CandleStore candleStore, SnapshotFrameCache frameCache) {
+        super(observer);
+        this.candleStore = candleStore;
+        this.frameCache = frameCache;
+    }
+
+    /**
+     * Marks a symbol as changed (or removed) for this client. Call drain() or offer() afterwards.
+     *
+     * @param symbol The changed or removed symbol
+     */
+    void markChanged(String symbol) {
+        pendingSymbols.add(symbol);
+    }
+
+    /**
+     * Forgets pending changes for a symbol the client is no longer interested in.
+     *
+     * @param symbol The symbol to drop
+     */
+    void unmark(String symbol) {
+        pendingSymbols.remove(symbol);
+    }
+
+    @Override
+    protected boolean requiresNewerVersion() {
+        // New interests are sent with the snapshot version that was already sent
+        return false;
+    }
+
+    @Override
+    protected EncodedFrame frameFor(CandleSnapshot trigger) {
+        if (pendingSymbols.isEmpty()) {
+            return null;
+        }
+        List<String> symbols = new ArrayList<>(pendingSymbols.size());
+        for (Iterator<String> it = pendingSymbols.iterator(); it.hasNext(); ) {
+            symbols.add(it.next());
+            it.remove();
+        }
+        // Read the store after taking the marks: a mark is only set once its snapshot is
+        // published, so the current snapshot is at least as new as every taken mark.
+        CandleSnapshot current = candleStore.snapshot();
+        return frameCache.candles(current, symbols);
+    }
+}
@@ -0,0 +1,302 @@
+package ca.digilogue.xp.grpc.stream;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import ca.digilogue.xp.grpc.OhlcvServiceProto;
+import ca.digilogue.xp.store.CandleSnapshot;
+import ca.digilogue.xp.store.SymbolRegistry;
+import com.google.protobuf.CodedOutputStream;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Serializes each candle snapshot version exactly once per frame kind
+ * (all candles, delta, full delta) and shares the bytes with every stream subscriber.
+ * For symbol-filtered streams each candle is encoded once per version as a
+ * ready-to-concatenate AllCandlesResponse entry, so a frame for any subset of
+ * symbols is just a copy of the cached entries. Those entries are indexed by
+ * SymbolRegistry id, so no symbol is hashed per lookup.
+ *
+ * Only the newest version is cached. Requests for an older version (a slow
+ * subscriber draining a stale snapshot) are encoded on the fly and counted
+ * as misses.
+ *
+ * Metrics:
+ *   candles.stream.frame.cache{result=hit|miss} - frames served from / not from the cache
+ *   candles.stream.frame.cache.hit.ratio        - hit ratio of each completed snapshot version
+ *   candles.stream.frame.cache.last.hit.ratio   - hit ratio of the last completed version
+ */
+@Component
+public class SnapshotFrameCache {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotFrameCache.class);
+    private static final int REMOVED_SYMBOLS_FIELD = OhlcvServiceProto.AllCandlesResponse.REMOVED_SYMBOLS_FIELD_NUMBER;
+
+    private final SymbolRegistry symbols;
+    private final MeterRegistry meterRegistry;
+    private final AtomicReference<VersionEntry> current = new AtomicReference<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final DistributionSummary versionHitRatio;
+    private volatile double lastHitRatio;
+
+    public SnapshotFrameCache(MeterRegistry meterRegistry, SymbolRegistry symbols) {
+        this.symbols = symbols;
+        this.meterRegistry = meterRegistry;
+        this.hits = Counter.builder("candles.stream.frame.cache")
+                .tag("result", "hit")
+                .description("Stream frames and candle entries served from the per-version encode cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("candles.stream.frame.cache")
+                .tag("result", "miss")
+                .description("Stream frames and candle entries that had to be encoded")
+                .register(meterRegistry);
+        this.versionHitRatio = DistributionSummary.builder("candles.stream.frame.cache.hit.ratio")
+                .description("Encode cache hit ratio per completed snapshot version")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void registerGauges() {
+        Gauge.builder("candles.stream.frame.cache.last.hit.ratio", this, cache -> cache.lastHitRatio)
+                .description("Encode cache hit ratio of the last completed snapshot version")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the encoded AllCandlesResponse for a snapshot.
+     *
+     * @param snapshot The snapshot to encode
+     * @return The shared encoded frame
+     */
+    public EncodedFrame allCandles(CandleSnapshot snapshot) {
+        return frame(snapshot, entry -> entry.allCandles,
+                (entry, frame) -> entry.allCandles = frame,
+                s -> new EncodedFrame(s.getVersion(), CandleProtoMapper.toAllCandlesResponse(s).toByteArray()));
+    }
+
+    /**
+     * Returns the encoded CandleDeltaResponse carrying only the changes of a snapshot.
+     *
+     * @param snapshot The snapshot to encode
+     * @return The shared encoded frame
+     */
+    public EncodedFrame delta(CandleSnapshot snapshot) {
+        return frame(snapshot, entry -> entry.delta,
+                (entry, frame) -> entry.delta = frame,
+                s -> new EncodedFrame(s.getVersion(), CandleProtoMapper.toDeltaResponse(s, false).toByteArray()));
+    }
+
+    /**
+     * Returns the encoded CandleDeltaResponse carrying the full snapshot.
+     *
+     * @param snapshot The snapshot to encode
+     * @return The shared encoded frame
+     */
+    public EncodedFrame fullDelta(CandleSnapshot snapshot) {
+        return frame(snapshot, entry -> entry.fullDelta,
+                (entry, frame) -> entry.fullDelta = frame,
+                s -> new EncodedFrame(s.getVersion(), CandleProtoMapper.toDeltaResponse(s, true).toByteArray()));
+    }
+
+    /**
+     * Returns an encoded AllCandlesResponse containing only the given symbols.
+     * Symbols missing from the snapshot are listed in removed_symbols.
+     *
+     * @param snapshot The snapshot to read candles from
+     * @param symbols  The symbols to include
+     * @return The encoded frame, or null if there are no symbols
+     */
+    public EncodedFrame candles(CandleSnapshot snapshot, Collection<String> symbols) {
+        VersionEntry entry = entryFor(snapshot.getVersion());
+        List<byte[]> entries = new ArrayList<>(symbols.size());
+        List<String> removed = null;
+        int size = 0;
+        for (String symbol : symbols) {
+            byte[] encoded = candleEntry(entry, snapshot, symbol);
+            if (encoded != null) {
+                entries.add(encoded);
+                size += encoded.length;
+            } else {
+                if (removed == null) {
+                    removed = new ArrayList<>();
+                }
+                removed.add(symbol);
+                size += CodedOutputStream.computeStringSize(REMOVED_SYMBOLS_FIELD, symbol);
+            }
+        }
+        if (size == 0) {
+            return null;
+        }
+
+        byte[] frame = new byte[size];
+        int offset = 0;
+        for (byte[] encoded : entries) {
+            System.arraycopy(encoded, 0, frame, offset, encoded.length);
+            offset += encoded.length;
+        }
+        if (removed != null) {
+            try {
+                CodedOutputStream output = CodedOutputStream.newInstance(frame, offset, size - offset);
+                for (String symbol : removed) {
+                    output.writeString(REMOVED_SYMBOLS_FIELD, symbol);
+                }
+                output.checkNoSpaceLeft();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to encode removed symbols", e);
+            }
+        }
+        return new EncodedFrame(snapshot.getVersion(), frame);
+    }
+
+    private byte[] candleEntry(VersionEntry entry, CandleSnapshot snapshot, String symbol) {
+        OhlcvCandle candle = snapshot.get(symbol);
+        if (candle == null) {
+            return null;
+        }
+        int id = symbols.find(symbol);
+        if (entry == null || id < 0 || id >= entry.candleEntries.length()) {
+            // Stale version, or a symbol registered after this version's entry was created
+            misses.increment();
+            return encodeCandleEntry(candle);
+        }
+
+        byte[] encoded = entry.candleEntries.get(id);
+        if (encoded != null) {
+            entry.hits.incrementAndGet();
+            hits.increment();
+            return encoded;
+        }
+        encoded = encodeCandleEntry(candle);
+        byte[] raced = entry.candleEntries.compareAndExchange(id, null, encoded);
+        entry.misses.incrementAndGet();
+        misses.increment();
+        return raced != null ? raced : encoded;
+    }
+
+    /**
+     * Encodes a candle as field 'candles' of AllCandlesResponse (tag + length + message).
+     */
+    private static byte[] encodeCandleEntry(OhlcvCandle candle) {
+        OhlcvServiceProto.OhlcvCandleResponse message = CandleProtoMapper.toResponse(candle);
+        int field = OhlcvServiceProto.AllCandlesResponse.CANDLES_FIELD_NUMBER;
+        byte[] encoded = new byte[CodedOutputStream.computeMessageSize(field, message)];
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(encoded);
+            output.writeMessage(field, message);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode candle for symbol " + candle.getSymbol(), e);
+        }
+        return encoded;
+    }
+
+    /**
+     * Looks up a frame of one kind in the entry for the snapshot's version,
+     * encoding and caching it on first use.
+     */
+    private EncodedFrame frame(CandleSnapshot snapshot,
+                               Function<VersionEntry, EncodedFrame> getter,
+                               FrameSetter setter,
+                               Function<CandleSnapshot, EncodedFrame> encoder) {
+        VersionEntry entry = entryFor(snapshot.getVersion());
+        if (entry == null) {
+            misses.increment();
+            return encoder.apply(snapshot);
+        }
+
+        EncodedFrame frame = getter.apply(entry);
+        if (frame != null) {
+            entry.hits.incrementAndGet();
+            hits.increment();
+            return frame;
+        }
+
+        synchronized (entry) {
+            frame = getter.apply(entry);
+            if (frame != null) {
+                entry.hits.incrementAndGet();
+                hits.increment();
+                return frame;
+            }
+            frame = encoder.apply(snapshot);
+            setter.set(entry, frame);
+        }
+        entry.misses.incrementAndGet();
+        misses.increment();
+        return frame;
+    }
+
+    /**
+     * Returns the cache entry for a version, rolling the cache forward if the
+     * version is newer than the cached one. Returns null for stale versions.
+     */
+    private VersionEntry entryFor(long version) {
+        while (true) {
+            VersionEntry entry = current.get();
+            if (entry != null && entry.version == version) {
+                return entry;
+            }
+            if (entry != null && entry.version > version) {
+                return null;
+            }
+            VersionEntry next = new VersionEntry(version, symbols.size());
+            if (current.compareAndSet(entry, next)) {
+                if (entry != null) {
+                    recordCompleted(entry);
+                }
+                return next;
+            }
+        }
+    }
+
+    private void recordCompleted(VersionEntry entry) {
+        long hitCount = entry.hits.get();
+        long total = hitCount + entry.misses.get();
+        if (total == 0) {
+            return;
+        }
+        double ratio = (double) hitCount / total;
+        versionHitRatio.record(ratio);
+        lastHitRatio = ratio;
+        log.debug("Snapshot version {} served {} frame(s), cache hit ratio {}", entry.version, total, ratio);
+    }
+
+    @FunctionalInterface
+    private interface FrameSetter {
+        void set(VersionEntry entry, EncodedFrame frame);
+    }
+
+    /**
+     * Frames encoded for a single snapshot version.
+     */
+    private static final class VersionEntry {
+        private final long version;
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private volatile EncodedFrame allCandles;
+        private volatile EncodedFrame delta;
+        private volatile EncodedFrame fullDelta;
+        private final AtomicReferenceArray<byte[]> candleEntries;
+
+        private VersionEntry(long version, int symbolCount) {
+            this.version = version;
+            this.candleEntries = new AtomicReferenceArray<>(symbolCount);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package ca.digilogue.xp.grpc.stream;
+
+import ca.digilogue.xp.store.CandleSnapshot;
+import io.grpc.stub.ServerCallStreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A single server-streaming client fed by the CandleStreamBroadcaster.
+ *
+ * Only the newest snapshot is kept while the client is not ready (latest wins),
+ * so a slow client skips intermediate versions instead of buffering them.
+ * Snapshots can be offered out of order (a publish racing the initial offer on
+ * registration); a snapshot older than the pending one or than the last one sent
+ * is ignored, so the client never goes back in time.
+ * Frames are written either from the publishing thread or from the gRPC
+ * onReady callback, never both at once.
+ *
+ * @param <T> The streamed response type
+ */
+public abstract class StreamSubscriber<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamSubscriber.class);
+
+    private final ServerCallStreamObserver<T> observer;
+    private final AtomicReference<CandleSnapshot> pending = new AtomicReference<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile boolean closed;
+    private boolean completed; // guarded by the wip drain loop
+    private long lastSentVersion; // guarded by the wip drain loop
+
+    protected StreamSubscriber(ServerCallStreamObserver<T> observer) {
+        this.observer = observer;
+    }
+
+    /**
+     * Builds the frame to send for a snapshot.
+     *
+     * @param snapshot The newest snapshot not yet sent to this client
+     * @return The frame to send, or null if there is nothing to send
+     */
+    protected abstract T frameFor(CandleSnapshot snapshot);
+
+    /**
+     * Whether only snapshots newer than the last one sent produce a frame. Subscribers
+     * whose frames depend on more than the snapshot (e.g. marks added for the same
+     * version) return false.
+     *
+     * @return True to skip snapshots that are not newer than the last one sent
+     */
+    protected boolean requiresNewerVersion() {
+        return true;
+    }
+
+    /**
+     * Queues a snapshot (replacing any older one not yet sent) and tries to send it.
+     *
+     * @param snapshot The newly published snapshot
+     */
+    public void offer(CandleSnapshot snapshot) {
+        pending.accumulateAndGet(snapshot, (current, offered) ->
+                current == null || offered.getVersion() > current.getVersion() ? offered : current);
+        drain();
+    }
+
+    /**
+     * Sends the pending snapshot if the transport is ready for more data.
+     * Safe to call from any thread; concurrent callers collapse into one writer.
+     */
+    public void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            if (closed) {
+                if (!completed) {
+                    completed = true;
+                    completeObserver();
+                }
+            } else if (!observer.isCancelled() && observer.isReady()) {
+                CandleSnapshot snapshot = pending.getAndSet(null);
+                if (snapshot != null && (snapshot.getVersion() > lastSentVersion || !requiresNewerVersion())) {
+                    lastSentVersion = Math.max(lastSentVersion, snapshot.getVersion());
+                    send(snapshot);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Completes the stream. Further offers are ignored. Runs through the
+     * drain loop so it never races with a frame being written.
+     */
+    public void complete() {
+        closed = true;
+        drain();
+    }
+
+    public boolean isClosed() {
+        return closed || observer.isCancelled();
+    }
+
+    protected ServerCallStreamObserver<T> getObserver() {
+        return observer;
+    }
+
+    private void completeObserver() {
+        if (observer.isCancelled()) {
+            return;
+        }
+        try {
+            observer.onCompleted();
+        } catch (Exception e) {
+            log.debug("Could not complete stream, client may have disconnected", e);
+        }
+    }
+
+    private void send(CandleSnapshot snapshot) {
+        try {
+            T frame = frameFor(snapshot);
+            if (frame != null) {
+                observer.onNext(frame);
+            }
+        } catch (Exception e) {
+            // Client may have disconnected
+            log.warn("Error sending stream data, client may have disconnected", e);
+            closed = true;
+            completed = true;
+        }
+    }
+}
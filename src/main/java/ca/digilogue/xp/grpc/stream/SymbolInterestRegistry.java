@@ -0,0 +1,266 @@
+package ca.digilogue.xp.grpc.stream;
+
+import ca.digilogue.xp.store.CandleSnapshot;
+import ca.digilogue.xp.store.CandleStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server-side index from symbol to the filtered stream subscribers interested in it.
+ *
+ * Routing an update costs one lookup per changed symbol plus one mark per
+ * interested subscriber, independent of how many subscribers exist in total.
+ * Glob patterns are resolved to concrete symbols when a subscription is added
+ * and when a symbol is seen for the first time, so they add no per-update cost.
+ *
+ * Changing interests and routing are serialized on one lock, and a new interest
+ * is resolved against the store's snapshot read under that lock. A symbol that
+ * first appears while a subscription is being added is therefore either in that
+ * snapshot or routed after the subscription is in place, never missed by both.
+ */
+@Component
+public class SymbolInterestRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(SymbolInterestRegistry.class);
+
+    private final Map<String, Set<FilteredStreamSubscriber>> bySymbol = new ConcurrentHashMap<>();
+    private final Set<FilteredStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Set<FilteredStreamSubscriber> patternSubscribers = ConcurrentHashMap.newKeySet();
+    private final Set<String> knownSymbols = ConcurrentHashMap.newKeySet();
+    private final CandleStore candleStore;
+    private final Object lock = new Object();
+
+    public SymbolInterestRegistry(CandleStore candleStore) {
+        this.candleStore = candleStore;
+    }
+
+    /**
+     * Registers a subscriber that has no interests yet.
+     *
+     * @param subscriber The subscriber
+     */
+    public void register(FilteredStreamSubscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Adds symbols and patterns to a subscriber's interest set. Matching symbols
+     * already in the snapshot are marked so the subscriber's next frame includes them.
+     *
+     * @param subscriber The subscriber
+     * @param symbols    Exact symbols to add
+     * @param patterns   Glob patterns to add (patterns without wildcards are treated as exact symbols)
+     * @return The snapshot the interests were resolved against
+     */
+    public CandleSnapshot addInterest(FilteredStreamSubscriber subscriber, Collection<String> symbols,
+                                      Collection<String> patterns) {
+        synchronized (lock) {
+            CandleSnapshot current = candleStore.snapshot();
+            addInterest(subscriber, symbols, patterns, current);
+            return current;
+        }
+    }
+
+    private void addInterest(FilteredStreamSubscriber subscriber, Collection<String> symbols,
+                             Collection<String> patterns, CandleSnapshot current) {
+        subscribers.add(subscriber);
+        for (String symbol : symbols) {
+            addExact(subscriber, symbol, current);
+        }
+        for (String glob : patterns) {
+            if (!SymbolPattern.isWildcard(glob)) {
+                addExact(subscriber, glob, current);
+                continue;
+            }
+            SymbolPattern pattern = SymbolPattern.compile(glob);
+            if (!subscriber.patterns.add(pattern)) {
+                continue;
+            }
+            patternSubscribers.add(subscriber);
+            for (String symbol : current.getCandles().keySet()) {
+                if (pattern.matches(symbol) && index(subscriber, symbol)) {
+                    subscriber.markChanged(symbol);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes symbols and patterns from a subscriber's interest set. Symbols that
+     * are still covered by another exact symbol or pattern stay subscribed.
+     *
+     * @param subscriber The subscriber
+     * @param symbols    Exact symbols to remove
+     * @param patterns   Glob patterns to remove
+     */
+    public void removeInterest(FilteredStreamSubscriber subscriber, Collection<String> symbols,
+                               Collection<String> patterns) {
+        synchronized (lock) {
+            subscriber.exactSymbols.removeAll(symbols);
+            for (String glob : patterns) {
+                if (SymbolPattern.isWildcard(glob)) {
+                    subscriber.patterns.remove(SymbolPattern.compile(glob));
+                } else {
+                    subscriber.exactSymbols.remove(glob);
+                }
+            }
+            if (subscriber.patterns.isEmpty()) {
+                patternSubscribers.remove(subscriber);
+            }
+
+            for (String symbol : subscriber.indexedSymbols) {
+                if (!isInterested(subscriber, symbol)) {
+                    unindex(subscriber, symbol);
+                    subscriber.unmark(symbol);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes a subscriber and all of its interests.
+     *
+     * @param subscriber The subscriber to remove
+     */
+    public void unregister(FilteredStreamSubscriber subscriber) {
+        synchronized (lock) {
+            subscribers.remove(subscriber);
+            patternSubscribers.remove(subscriber);
+            for (String symbol : subscriber.indexedSymbols) {
+                unindex(subscriber, symbol);
+            }
+        }
+    }
+
+    /**
+     * Completes every filtered stream and clears the index (used on shutdown).
+     */
+    public void completeAll() {
+        for (FilteredStreamSubscriber subscriber : subscribers) {
+            subscriber.complete();
+            unregister(subscriber);
+        }
+    }
+
+    /**
+     * Routes a published snapshot to the subscribers interested in its changed or
+     * removed symbols. A removed symbol is marked like a changed one; the frame then
+     * lists it as removed because it is no longer in the snapshot.
+     *
+     * @param snapshot The newly published snapshot
+     */
+    public void route(CandleSnapshot snapshot) {
+        Set<FilteredStreamSubscriber> touched = new HashSet<>();
+        synchronized (lock) {
+            if (subscribers.isEmpty()) {
+                // Nothing to resolve against; start over once someone subscribes
+                knownSymbols.clear();
+                return;
+            }
+            // A symbol that disappears must be resolved against patterns again when it returns
+            knownSymbols.removeAll(snapshot.getRemovedSymbols());
+            for (String symbol : snapshot.getRemovedSymbols()) {
+                mark(symbol, touched);
+            }
+
+            for (String symbol : snapshot.getChangedSymbols()) {
+                if (knownSymbols.add(symbol)) {
+                    // First time we see this symbol: resolve it against existing patterns
+                    for (FilteredStreamSubscriber subscriber : patternSubscribers) {
+                        if (matchesPattern(subscriber, symbol)) {
+                            index(subscriber, symbol);
+                        }
+                    }
+                }
+                mark(symbol, touched);
+            }
+        }
+
+        // Send outside the lock; marks are already set
+        for (FilteredStreamSubscriber subscriber : touched) {
+            if (subscriber.isClosed()) {
+                unregister(subscriber);
+            } else {
+                subscriber.offer(snapshot);
+            }
+        }
+        if (!touched.isEmpty()) {
+            log.debug("Routed snapshot version {} to {} filtered subscriber(s)", snapshot.getVersion(), touched.size());
+        }
+    }
+
+    /**
+     * @return Number of registered filtered subscribers
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * @return Number of symbols with at least one interested subscriber
+     */
+    public int getIndexedSymbolCount() {
+        return bySymbol.size();
+    }
+
+    /**
+     * Marks a symbol on every subscriber interested in it. Must hold lock.
+     */
+    private void mark(String symbol, Set<FilteredStreamSubscriber> touched) {
+        Set<FilteredStreamSubscriber> interested = bySymbol.get(symbol);
+        if (interested == null) {
+            return;
+        }
+        for (FilteredStreamSubscriber subscriber : interested) {
+            subscriber.markChanged(symbol);
+            touched.add(subscriber);
+        }
+    }
+
+    private void addExact(FilteredStreamSubscriber subscriber, String symbol, CandleSnapshot current) {
+        subscriber.exactSymbols.add(symbol);
+        if (index(subscriber, symbol) && current.get(symbol) != null) {
+            subscriber.markChanged(symbol);
+        }
+    }
+
+    private boolean index(FilteredStreamSubscriber subscriber, String symbol) {
+        if (!subscriber.indexedSymbols.add(symbol)) {
+            return false;
+        }
+        bySymbol.compute(symbol, (key, set) -> {
+            Set<FilteredStreamSubscriber> interested = set != null ? set : ConcurrentHashMap.newKeySet();
+            interested.add(subscriber);
+            return interested;
+        });
+        return true;
+    }
+
+    private void unindex(FilteredStreamSubscriber subscriber, String symbol) {
+        subscriber.indexedSymbols.remove(symbol);
+        bySymbol.computeIfPresent(symbol, (key, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static boolean isInterested(FilteredStreamSubscriber subscriber, String symbol) {
+        return subscriber.exactSymbols.contains(symbol) || matchesPattern(subscriber, symbol);
+    }
+
+    private static boolean matchesPattern(FilteredStreamSubscriber subscriber, String symbol) {
+        for (SymbolPattern pattern : subscriber.patterns) {
+            if (pattern.matches(symbol)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
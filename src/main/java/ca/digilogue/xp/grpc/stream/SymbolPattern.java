@@ -0,0 +1,84 @@
+package ca.digilogue.xp.grpc.stream;
+
+import java.util.regex.Pattern;
+
+/**
+ * A glob pattern over trading symbols.
+ * '*' matches any run of characters and '?' matches a single character.
+ * Patterns with a single trailing '*' (e.g. "MEGA-*") are matched as plain prefixes.
+ */
+final class SymbolPattern {
+
+    private final String glob;
+    private final String prefix;
+    private final Pattern regex;
+
+    private SymbolPattern(String glob) {
+        this.glob = glob;
+        String head = glob.substring(0, glob.length() - 1);
+        if (glob.endsWith("*") && head.indexOf('*') < 0 && head.indexOf('?') < 0) {
+            this.prefix = head;
+            this.regex = null;
+        } else {
+            this.prefix = null;
+            this.regex = Pattern.compile(toRegex(glob));
+        }
+    }
+
+    static SymbolPattern compile(String glob) {
+        if (glob == null || glob.isEmpty()) {
+            throw new IllegalArgumentException("Symbol pattern must not be empty");
+        }
+        return new SymbolPattern(glob);
+    }
+
+    /**
+     * @return True if the glob contains wildcards (otherwise it is an exact symbol)
+     */
+    static boolean isWildcard(String glob) {
+        return glob.indexOf('*') >= 0 || glob.indexOf('?') >= 0;
+    }
+
+    boolean matches(String symbol) {
+        return prefix != null ? symbol.startsWith(prefix) : regex.matcher(symbol).matches();
+    }
+
+    String getGlob() {
+        return glob;
+    }
+
+    private static String toRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            if (c == '*' || c == '?') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return regex.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SymbolPattern && ((SymbolPattern) o).glob.equals(glob);
+    }
+
+    @Override
+    public int hashCode() {
+        return glob.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return glob;
+    }
+}
@@ -1,16 +1,28 @@
 package ca.digilogue.xp.repository;
 
 import ca.digilogue.xp.generator.OhlcvCandle;
+import com.influxdb.Cancellable;
 import com.influxdb.client.InfluxDBClient;
 import com.influxdb.client.WriteApi;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
 /**
  * Repository for InfluxDB operations.
  * Handles low-level InfluxDB client interactions.
@@ -19,6 +31,7 @@ import org.springframework.stereotype.Repository;
 public class InfluxDbRepository {
 
     private static final Logger log = LoggerFactory.getLogger(InfluxDbRepository.class);
+    private static final String MEASUREMENT = "ohlcv_candles";
 
     private final InfluxDBClient influxDBClient;
     private final String bucket;
@@ -42,16 +55,7 @@ public class InfluxDbRepository {
      */
     public void writeCandle(OhlcvCandle candle) {
         try {
-            Point point = Point.measurement("ohlcv_candles")
-                .addTag("symbol", candle.getSymbol())
-                .addField("open", candle.getOpen())
-                .addField("high", candle.getHigh())
-                .addField("low", candle.getLow())
-                .addField("close", candle.getClose())
-                .addField("volume", candle.getVolume())
-                .time(candle.getTimestamp(), WritePrecision.NS);
-
-            writeApi.writePoint(bucket, org, point);
+            writeApi.writePoint(bucket, org, toPoint(candle));
             
             log.debug("Written OHLCV candle to InfluxDB: {}", candle);
         } catch (Exception e) {
@@ -60,6 +64,155 @@ public class InfluxDbRepository {
         }
     }
 
+    /**
+     * Writes a batch of OHLCV candles to InfluxDB in one call.
+     *
+     * @param candles The OHLCV candles to write
+     */
+    public void writeCandles(List<OhlcvCandle> candles) {
+        try {
+            List<Point> points = new ArrayList<>(candles.size());
+            for (OhlcvCandle candle : candles) {
+                points.add(toPoint(candle));
+            }
+            writeApi.writePoints(bucket, org, points);
+
+            log.debug("Written {} OHLCV candle(s) to InfluxDB", candles.size());
+        } catch (Exception e) {
+            log.error("Error writing {} OHLCV candle(s) to InfluxDB", candles.size(), e);
+            throw new RuntimeException("Failed to write candles to InfluxDB", e);
+        }
+    }
+
+    private static Point toPoint(OhlcvCandle candle) {
+        return Point.measurement(MEASUREMENT)
+            .addTag("symbol", candle.getSymbol())
+            .addField("open", candle.getOpen())
+            .addField("high", candle.getHigh())
+            .addField("low", candle.getLow())
+            .addField("close", candle.getClose())
+            .addField("volume", candle.getVolume())
+            .time(candle.getTimestamp(), WritePrecision.NS);
+    }
+
+    /**
+     * Queries the newest stored candle of every symbol written within the lookback window.
+     *
+     * @param lookback How far back to look for the newest point per symbol
+     * @return Map of symbol to its newest candle (empty if nothing was found)
+     */
+    public Map<String, OhlcvCandle> queryLatestCandles(Duration lookback) {
+        // last() runs per (symbol, field) series; pivot folds the fields of a point back into one row
+        String flux = String.format(
+            "from(bucket: \"%s\") |> range(start: -%ds) "
+                + "|> filter(fn: (r) => r._measurement == \"%s\") "
+                + "|> last() "
+                + "|> pivot(rowKey: [\"_time\"], columnKey: [\"_field\"], valueColumn: \"_value\")",
+            bucket, Math.max(1, lookback.toSeconds()), MEASUREMENT);
+
+        Map<String, OhlcvCandle> candles = new HashMap<>();
+        List<FluxTable> tables = influxDBClient.getQueryApi().query(flux, org);
+        for (FluxTable table : tables) {
+            for (FluxRecord record : table.getRecords()) {
+                OhlcvCandle candle = toCandle(record);
+                if (candle == null) {
+                    continue;
+                }
+                candles.merge(candle.getSymbol(), candle,
+                        (a, b) -> b.getTimestamp().isAfter(a.getTimestamp()) ? b : a);
+            }
+        }
+        log.debug("Queried latest candles from InfluxDB: {} symbol(s)", candles.size());
+        return candles;
+    }
+
+    /**
+     * Streams the stored candles of one symbol in a time range, oldest first,
+     * optionally aggregated into fixed windows by InfluxDB (aggregateWindow with
+     * first/max/min/last/sum per field, stamped with the window start). Records
+     * are delivered as they are read from the response, without building the
+     * whole result in memory; callbacks run on the client's I/O thread.
+     *
+     * @param symbol          The trading symbol
+     * @param start           Range start (inclusive)
+     * @param stop            Range end (exclusive), or null for now
+     * @param intervalSeconds Aggregation window in seconds, or 0 for the stored candles
+     * @param onCandle        Called per candle; the Cancellable stops the query
+     * @param onError         Called if the query fails
+     * @param onComplete      Called after the last candle
+     */
+    public void streamCandleHistory(String symbol, Instant start, Instant stop, long intervalSeconds,
+                                    BiConsumer<Cancellable, OhlcvCandle> onCandle,
+                                    Consumer<? super Throwable> onError, Runnable onComplete) {
+        String source = String.format(
+            "data = from(bucket: \"%s\") |> range(start: %s, stop: %s) "
+                + "|> filter(fn: (r) => r._measurement == \"%s\" and r.symbol == \"%s\")\n",
+            bucket, start, stop != null ? stop.toString() : "now()", MEASUREMENT, fluxString(symbol));
+        String candles;
+        if (intervalSeconds > 0) {
+            // One aggregate per field, computed by InfluxDB; only the windows come back
+            candles = "union(tables: ["
+                + aggregateField("open", "first", intervalSeconds) + ", "
+                + aggregateField("high", "max", intervalSeconds) + ", "
+                + aggregateField("low", "min", intervalSeconds) + ", "
+                + aggregateField("close", "last", intervalSeconds) + ", "
+                + aggregateField("volume", "sum", intervalSeconds) + "])";
+        } else {
+            candles = "data";
+        }
+        String flux = source + candles
+            + " |> pivot(rowKey: [\"_time\"], columnKey: [\"_field\"], valueColumn: \"_value\")"
+            + " |> group() |> sort(columns: [\"_time\"])";
+
+        log.debug("Streaming candle history: symbol={}, start={}, stop={}, interval={}s",
+                symbol, start, stop, intervalSeconds);
+        influxDBClient.getQueryApi().query(flux, org,
+            (cancellable, record) -> {
+                OhlcvCandle candle = toCandle(record);
+                if (candle != null) {
+                    onCandle.accept(cancellable, candle);
+                }
+            },
+            onError, onComplete);
+    }
+
+    private static String aggregateField(String field, String function, long intervalSeconds) {
+        return String.format("data |> filter(fn: (r) => r._field == \"%s\") "
+                + "|> aggregateWindow(every: %ds, fn: %s, timeSrc: \"_start\", createEmpty: false)",
+            field, intervalSeconds, function);
+    }
+
+    /**
+     * Escapes a value for use inside a Flux string literal.
+     */
+    private static String fluxString(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("${", "\\${");
+    }
+
+    /**
+     * Maps a pivoted record (one column per field) to a candle.
+     *
+     * @return The candle, or null if the record has no symbol or time
+     */
+    private static OhlcvCandle toCandle(FluxRecord record) {
+        Object symbol = record.getValueByKey("symbol");
+        Instant time = record.getTime();
+        if (symbol == null || time == null) {
+            return null;
+        }
+        return new OhlcvCandle(symbol.toString(),
+                toDouble(record.getValueByKey("open")),
+                toDouble(record.getValueByKey("high")),
+                toDouble(record.getValueByKey("low")),
+                toDouble(record.getValueByKey("close")),
+                toDouble(record.getValueByKey("volume")),
+                time);
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : 0.0;
+    }
+
     /**
      * Flushes any pending writes to InfluxDB.
      */
@@ -0,0 +1,511 @@
+package ca.digilogue.xp.repository;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dedicated InfluxDB write pipeline (app.influxdb.writer.enabled), used by
+ * InfluxDbService instead of the client's WriteApi when enabled.
+ *
+ * Producers put candles into a bounded queue (many producers, one consumer).
+ * A single writer thread drains it, encodes the candles straight to line
+ * protocol in a reused buffer (LineProtocolEncoder) and POSTs the buffer to
+ * /api/v2/write once batch-size points are pending or flush-interval-ms has
+ * passed, whichever comes first.
+ *
+ * When the queue is full, app.influxdb.writer.overflow-policy decides:
+ * <ul>
+ *   <li>block - the producer waits up to block-timeout-ms for space, then the candle is dropped</li>
+ *   <li>drop-oldest - the oldest queued candle is dropped to make room</li>
+ *   <li>spill - the candle is appended to the spill log (see below)</li>
+ * </ul>
+ *
+ * Outages (app.influxdb.writer.spill.enabled, implied by the spill policy): batches
+ * that fail with an I/O error, HTTP 5xx or 429 go to an InfluxSpillLog of segment
+ * files in spill-dir instead of being lost. Batches rejected with any other 4xx
+ * (bad line protocol, bad token, too large) would fail again, so they are dropped,
+ * both when written live and when replayed. After a failure, batches are spilled without trying
+ * InfluxDB for retry-backoff-ms. Once a write succeeds again, the writer thread
+ * replays the log oldest first in batches of up to replay-batch-bytes, limited to
+ * replay-max-points-per-sec so catching up does not swamp InfluxDB or delay the
+ * live batches in between.
+ *
+ * Metrics:
+ *   influxdb.writer.queue.depth  - candles waiting in the queue
+ *   influxdb.writer.flush        - time per HTTP write of one batch
+ *   influxdb.writer.points       - points written (rate = points/sec)
+ *   influxdb.writer.dropped      - candles dropped on overflow, rejected by InfluxDB or not encodable
+ *   influxdb.writer.spilled      - candles written to the spill log
+ *   influxdb.writer.failed       - points in batches InfluxDB did not accept
+ *   influxdb.spill.written.bytes - bytes appended to the spill log
+ *   influxdb.spill.backlog.bytes - spilled bytes not yet replayed
+ *   influxdb.spill.backlog.age   - age of the oldest unreplayed spilled batch, in ms
+ *   influxdb.spill.segments      - spill segment files on disk
+ *   influxdb.spill.replayed      - spilled points written to InfluxDB
+ *   influxdb.spill.dropped.bytes - spilled bytes dropped because the log was full
+ */
+@Component
+public class InfluxLineProtocolWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(InfluxLineProtocolWriter.class);
+
+    public enum OverflowPolicy {
+        BLOCK, DROP_OLDEST, SPILL;
+
+        static OverflowPolicy from(String value) {
+            return OverflowPolicy.valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    /**
+     * Outcome of one HTTP write: only RETRYABLE batches are spilled and retried.
+     */
+    private enum PostResult {
+        ACCEPTED, RETRYABLE, REJECTED
+    }
+
+    @Value("${app.influxdb.writer.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.influxdb.writer.queue-capacity:100000}")
+    private int queueCapacity;
+
+    @Value("${app.influxdb.writer.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${app.influxdb.writer.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${app.influxdb.writer.overflow-policy:block}")
+    private String overflowPolicyName;
+
+    @Value("${app.influxdb.writer.block-timeout-ms:5000}")
+    private long blockTimeoutMs;
+
+    @Value("${app.influxdb.writer.request-timeout-ms:10000}")
+    private long requestTimeoutMs;
+
+    @Value("${app.influxdb.writer.spill-dir:./data/influx-spill}")
+    private String spillDirectory;
+
+    @Value("${app.influxdb.writer.spill.enabled:false}")
+    private boolean spillEnabled;
+
+    @Value("${app.influxdb.writer.spill.segment-bytes:67108864}")
+    private long spillSegmentBytes;
+
+    @Value("${app.influxdb.writer.spill.max-bytes:1073741824}")
+    private long spillMaxBytes;
+
+    @Value("${app.influxdb.writer.spill.fsync:false}")
+    private boolean spillFsync;
+
+    @Value("${app.influxdb.writer.spill.replay-batch-bytes:4194304}")
+    private int replayBatchBytes;
+
+    @Value("${app.influxdb.writer.spill.replay-max-points-per-sec:50000}")
+    private long replayMaxPointsPerSec;
+
+    @Value("${app.influxdb.writer.spill.retry-backoff-ms:5000}")
+    private long retryBackoffMs;
+
+    @Value("${influxdb.url}")
+    private String influxDbUrl;
+
+    @Value("${influxdb.token}")
+    private String influxDbToken;
+
+    @Value("${influxdb.org}")
+    private String org;
+
+    @Value("${influxdb.bucket}")
+    private String bucket;
+
+    private final Counter points;
+    private final Counter dropped;
+    private final Counter spilled;
+    private final Counter failed;
+    private final Counter spilledBytes;
+    private final Counter replayed;
+    private final Timer flushTimer;
+    private final MeterRegistry meterRegistry;
+
+    private final Object spillLock = new Object();
+    private LineProtocolEncoder spillEncoder;
+    private InfluxSpillLog spillLog;
+    // Writer thread only
+    private long sinkDownUntil;
+    private long nextReplayAt;
+
+    private ArrayBlockingQueue<OhlcvCandle> queue;
+    private OverflowPolicy overflowPolicy;
+    private HttpClient httpClient;
+    private URI writeUri;
+    private Thread writerThread;
+    private volatile boolean running;
+    private volatile boolean flushRequested;
+
+    public InfluxLineProtocolWriter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.points = Counter.builder("influxdb.writer.points")
+                .description("Points written to InfluxDB by the line-protocol writer")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("influxdb.writer.dropped")
+                .description("Candles dropped because the write queue was full or InfluxDB rejected them")
+                .register(meterRegistry);
+        this.spilled = Counter.builder("influxdb.writer.spilled")
+                .description("Candles written to the local spill log instead of InfluxDB")
+                .register(meterRegistry);
+        this.failed = Counter.builder("influxdb.writer.failed")
+                .description("Points in batches that InfluxDB did not accept")
+                .register(meterRegistry);
+        this.spilledBytes = Counter.builder("influxdb.spill.written.bytes")
+                .description("Bytes appended to the InfluxDB spill log")
+                .register(meterRegistry);
+        this.replayed = Counter.builder("influxdb.spill.replayed")
+                .description("Spilled points replayed to InfluxDB")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("influxdb.writer.flush")
+                .description("Time to write one batch to InfluxDB")
+                .register(meterRegistry);
+    }
+
+    private void registerGauges() {
+        Gauge.builder("influxdb.writer.queue.depth", this,
+                        writer -> writer.queue != null ? writer.queue.size() : 0)
+                .description("Candles waiting in the InfluxDB write queue")
+                .register(meterRegistry);
+        Gauge.builder("influxdb.spill.backlog.bytes", this,
+                        writer -> writer.spillLog != null ? writer.spillLog.backlogBytes() : 0)
+                .description("Spilled bytes not yet replayed to InfluxDB")
+                .register(meterRegistry);
+        Gauge.builder("influxdb.spill.backlog.age", this,
+                        writer -> writer.spillLog != null ? writer.spillLog.backlogAgeMs() : 0)
+                .description("Age of the oldest spilled batch not yet replayed, in ms")
+                .register(meterRegistry);
+        Gauge.builder("influxdb.spill.segments", this,
+                        writer -> writer.spillLog != null ? writer.spillLog.segmentCount() : 0)
+                .description("InfluxDB spill segment files on disk")
+                .register(meterRegistry);
+        Gauge.builder("influxdb.spill.dropped.bytes", this,
+                        writer -> writer.spillLog != null ? writer.spillLog.droppedBytes() : 0)
+                .description("Spilled bytes dropped because the spill log was full")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        registerGauges();
+        if (!enabled) {
+            return;
+        }
+        overflowPolicy = OverflowPolicy.from(overflowPolicyName);
+        queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(requestTimeoutMs)).build();
+        writeUri = URI.create(influxDbUrl.replaceAll("/+$", "") + "/api/v2/write"
+                + "?org=" + URLEncoder.encode(org, StandardCharsets.UTF_8)
+                + "&bucket=" + URLEncoder.encode(bucket, StandardCharsets.UTF_8)
+                + "&precision=ns");
+        if (spillEnabled || overflowPolicy == OverflowPolicy.SPILL) {
+            spillLog = new InfluxSpillLog(Paths.get(spillDirectory), spillSegmentBytes, spillMaxBytes, spillFsync);
+            try {
+                spillLog.open();
+            } catch (IOException e) {
+                log.error("Failed to open InfluxDB spill log in {} - spilling disabled", spillDirectory, e);
+                spillLog = null;
+            }
+        }
+
+        running = true;
+        writerThread = new Thread(this::runWriter, "influxdb-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("InfluxDB line-protocol writer started: queue capacity {}, batch size {}, flush interval {} ms, "
+                + "overflow policy {}, spill log: {}", queueCapacity, batchSize, flushIntervalMs, overflowPolicy,
+                spillLog != null ? spillDirectory : "off");
+    }
+
+    /**
+     * Drains the queue, writes the last batch and stops the writer thread.
+     */
+    @PreDestroy
+    public void stop() {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(requestTimeoutMs + flushIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (spillLog != null) {
+            spillLog.close();
+        }
+        log.info("InfluxDB line-protocol writer stopped ({} candle(s) left in queue)", queue.size());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a candle for writing, applying the overflow policy if the queue is full.
+     *
+     * @param candle The candle to write
+     */
+    public void write(OhlcvCandle candle) {
+        if (queue.offer(candle)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(candle, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        dropped.increment();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(candle)) {
+                    if (queue.poll() != null) {
+                        dropped.increment();
+                    }
+                }
+            }
+            case SPILL -> spill(candle);
+        }
+    }
+
+    /**
+     * Queues a batch of candles for writing.
+     *
+     * @param candles The candles to write
+     */
+    public void writeAll(List<OhlcvCandle> candles) {
+        for (OhlcvCandle candle : candles) {
+            write(candle);
+        }
+    }
+
+    /**
+     * Asks the writer thread to write what is pending without waiting for the flush interval.
+     */
+    public void flush() {
+        flushRequested = true;
+    }
+
+    private void runWriter() {
+        LineProtocolEncoder encoder = new LineProtocolEncoder(Math.max(1, batchSize) * 128);
+        List<OhlcvCandle> drained = new ArrayList<>(Math.max(1, batchSize));
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMs));
+        long nextFlush = System.nanoTime() + flushIntervalNanos;
+
+        while (running || !queue.isEmpty()) {
+            try {
+                long waitNanos = Math.min(nextFlush - System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(100));
+                OhlcvCandle candle = queue.poll(Math.max(0, waitNanos), TimeUnit.NANOSECONDS);
+                if (candle != null) {
+                    encode(encoder, candle);
+                    queue.drainTo(drained, batchSize - encoder.lines());
+                    for (int i = 0; i < drained.size(); i++) {
+                        encode(encoder, drained.get(i));
+                    }
+                    drained.clear();
+                }
+
+                long now = System.nanoTime();
+                boolean due = now - nextFlush >= 0 || flushRequested || !running;
+                if (encoder.lines() >= batchSize || (due && encoder.lines() > 0)) {
+                    send(encoder);
+                    encoder.reset();
+                }
+                if (due) {
+                    flushRequested = false;
+                    nextFlush = now + flushIntervalNanos;
+                }
+                if (running) {
+                    replaySpilled();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                // Keep the writer alive; the failed batch was already counted
+                log.error("InfluxDB writer loop failed", e);
+                encoder.reset();
+            }
+        }
+        if (encoder.lines() > 0) {
+            send(encoder);
+        }
+    }
+
+    private void encode(LineProtocolEncoder encoder, OhlcvCandle candle) {
+        if (!encoder.append(candle)) {
+            // No symbol or no finite field: not a valid point
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Writes a batch, spilling it if InfluxDB is (or was just found) unavailable.
+     */
+    private void send(LineProtocolEncoder encoder) {
+        int lines = encoder.lines();
+        if (spillLog != null && System.nanoTime() - sinkDownUntil < 0) {
+            appendToSpillLog(encoder.buffer(), encoder.length(), lines);
+            return;
+        }
+        switch (post(encoder.buffer(), encoder.length(), lines)) {
+            case ACCEPTED -> points.increment(lines);
+            case REJECTED -> {
+                // Retrying the same bytes would be rejected again
+                failed.increment(lines);
+                dropped.increment(lines);
+            }
+            case RETRYABLE -> {
+                failed.increment(lines);
+                if (spillLog != null) {
+                    sinkDownUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryBackoffMs);
+                    appendToSpillLog(encoder.buffer(), encoder.length(), lines);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replays one batch from the spill log if InfluxDB is up and the replay rate allows it.
+     */
+    private void replaySpilled() {
+        long now = System.nanoTime();
+        if (spillLog == null || now - sinkDownUntil < 0 || now - nextReplayAt < 0) {
+            return;
+        }
+        try {
+            InfluxSpillLog.ReplayBatch batch = spillLog.readBatch(replayBatchBytes);
+            if (batch == null) {
+                return;
+            }
+            PostResult result = batch.length() == 0
+                    ? PostResult.ACCEPTED
+                    : post(batch.buffer(), batch.length(), batch.points());
+            switch (result) {
+                case ACCEPTED -> {
+                    spillLog.commit();
+                    replayed.increment(batch.points());
+                    log.debug("Replayed {} spilled point(s) ({} bytes) to InfluxDB, {} bytes left",
+                            batch.points(), batch.length(), spillLog.backlogBytes());
+                }
+                case REJECTED -> {
+                    // Skip the rejected records so they do not block the rest of the log
+                    spillLog.commit();
+                    failed.increment(batch.points());
+                    dropped.increment(batch.points());
+                    log.warn("Dropped {} spilled point(s) ({} bytes) rejected by InfluxDB, {} bytes left",
+                            batch.points(), batch.length(), spillLog.backlogBytes());
+                }
+                case RETRYABLE -> {
+                    sinkDownUntil = now + TimeUnit.MILLISECONDS.toNanos(retryBackoffMs);
+                    return;
+                }
+            }
+            nextReplayAt = now + batch.points() * 1_000_000_000L / Math.max(1, replayMaxPointsPerSec);
+        } catch (IOException e) {
+            log.error("Failed to read the InfluxDB spill log", e);
+            nextReplayAt = now + TimeUnit.MILLISECONDS.toNanos(retryBackoffMs);
+        }
+    }
+
+    /**
+     * POSTs line protocol to InfluxDB.
+     *
+     * @return ACCEPTED on 2xx, RETRYABLE on I/O errors, 5xx and 429, REJECTED on other 4xx
+     */
+    private PostResult post(byte[] body, int length, int lines) {
+        long start = System.nanoTime();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(writeUri)
+                    .timeout(Duration.ofMillis(requestTimeoutMs))
+                    .header("Authorization", "Token " + influxDbToken)
+                    .header("Content-Type", "text/plain; charset=utf-8")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body, 0, length))
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            int status = response.statusCode();
+            if (status / 100 == 2) {
+                log.debug("Written {} point(s) ({} bytes) to InfluxDB", lines, length);
+                return PostResult.ACCEPTED;
+            }
+            log.error("InfluxDB rejected a batch of {} point(s): HTTP {} {}", lines, status, response.body());
+            if (status / 100 == 4 && status != 429) {
+                return PostResult.REJECTED;
+            }
+        } catch (IOException e) {
+            log.error("Failed to write a batch of {} point(s) to InfluxDB", lines, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while writing a batch of {} point(s) to InfluxDB", lines);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return PostResult.RETRYABLE;
+    }
+
+    private void spill(OhlcvCandle candle) {
+        synchronized (spillLock) {
+            if (spillEncoder == null) {
+                spillEncoder = new LineProtocolEncoder(256);
+            }
+            spillEncoder.reset();
+            if (!spillEncoder.append(candle)) {
+                dropped.increment();
+            } else if (spillLog != null) {
+                appendToSpillLog(spillEncoder.buffer(), spillEncoder.length(), 1);
+            } else {
+                dropped.increment();
+            }
+        }
+    }
+
+    private void appendToSpillLog(byte[] bytes, int length, int lines) {
+        try {
+            if (spillLog.append(bytes, length, lines)) {
+                spilled.increment(lines);
+                spilledBytes.increment(length);
+            } else {
+                dropped.increment(lines);
+            }
+        } catch (IOException e) {
+            log.error("Failed to spill {} point(s) to {} - dropping them", lines, spillDirectory, e);
+            dropped.increment(lines);
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package ca.digilogue.xp.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Local append-only log of line-protocol batches that could not be written to
+ * InfluxDB, replayed oldest first once InfluxDB accepts writes again.
+ *
+ * The log is a directory of segment files (spill-{sequence}.seg). Batches are
+ * appended to the newest segment through a FileChannel; a new segment is started
+ * once the current one reaches segmentBytes. Replay reads whole records from the
+ * oldest segment, and a segment is deleted as soon as it has been fully replayed
+ * and acknowledged. If the log would exceed maxBytes, the oldest segments are
+ * dropped (newest data wins).
+ *
+ * Record layout (big-endian):
+ * <pre>
+ *   int    magic ('SPL1')
+ *   int    payload length
+ *   long   spilled at (epoch ms)
+ *   int    points (lines) in the payload
+ *   bytes  payload (line protocol)
+ *   int    CRC32C of spilled at, points and payload
+ * </pre>
+ *
+ * On open, existing segments are scanned and a torn or corrupt tail is cut off.
+ * The replay position is kept in memory only, so after a crash the oldest
+ * segment is replayed from its start; points are keyed by series and timestamp
+ * in InfluxDB, so re-written points overwrite themselves.
+ *
+ * All methods are synchronized; appends come from the writer thread and from
+ * producers spilling on queue overflow.
+ */
+public class InfluxSpillLog {
+
+    private static final Logger log = LoggerFactory.getLogger(InfluxSpillLog.class);
+
+    private static final int MAGIC = 0x53504C31;
+    private static final int HEADER_BYTES = 20;
+    private static final int TRAILER_BYTES = 4;
+    private static final String PREFIX = "spill-";
+    private static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final long maxBytes;
+    private final boolean fsync;
+
+    // Oldest first; the last one is appended to
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private FileChannel activeChannel;
+    private long nextSequence;
+    private long totalBytes;
+
+    // Replay cursor within the oldest segment
+    private long readPosition;
+    private long pendingReadEnd = -1;
+    private long oldestRecordMillis = -1;
+
+    private ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+    private ByteBuffer replayBuffer = ByteBuffer.allocate(1024 * 1024);
+    private long droppedBytes;
+
+    public InfluxSpillLog(Path directory, long segmentBytes, long maxBytes, boolean fsync) {
+        this.directory = directory;
+        this.segmentBytes = Math.max(1024 * 1024, segmentBytes);
+        this.maxBytes = Math.max(this.segmentBytes, maxBytes);
+        this.fsync = fsync;
+    }
+
+    /**
+     * A batch read for replay; valid until the next readBatch call.
+     *
+     * @param buffer Line-protocol bytes, from 0 until length
+     * @param length Number of valid bytes
+     * @param points Number of lines
+     */
+    public record ReplayBatch(byte[] buffer, int length, int points) {
+    }
+
+    /**
+     * Scans the existing segments (cutting off torn tails) and prepares appends.
+     */
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+
+        for (Path file : files) {
+            long sequence = parseSequence(file);
+            if (sequence < 0) {
+                continue;
+            }
+            long validEnd = scanValidEnd(file);
+            if (validEnd == 0) {
+                Files.delete(file);
+                continue;
+            }
+            if (validEnd < Files.size(file)) {
+                log.warn("InfluxDB spill segment {} has {} invalid trailing byte(s) - truncating",
+                        file, Files.size(file) - validEnd);
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(validEnd);
+                }
+            }
+            segments.addLast(new Segment(file, validEnd));
+            totalBytes += validEnd;
+            nextSequence = Math.max(nextSequence, sequence + 1);
+        }
+        refreshOldestRecordMillis();
+        if (!segments.isEmpty()) {
+            log.info("InfluxDB spill log {} holds {} segment(s), {} bytes to replay",
+                    directory, segments.size(), totalBytes);
+        }
+    }
+
+    /**
+     * Appends one batch as a record.
+     *
+     * @return False if the record did not fit into maxBytes and was dropped
+     */
+    public synchronized boolean append(byte[] payload, int length, int points) throws IOException {
+        long recordBytes = HEADER_BYTES + (long) length + TRAILER_BYTES;
+        while (totalBytes + recordBytes > maxBytes && segments.size() > 1) {
+            dropOldestSegment();
+        }
+        if (totalBytes + recordBytes > maxBytes) {
+            droppedBytes += recordBytes;
+            return false;
+        }
+
+        Segment active = segments.peekLast();
+        if (active == null || activeChannel == null || active.size >= segmentBytes) {
+            active = startSegment();
+        }
+
+        long spilledAt = System.currentTimeMillis();
+        header.clear();
+        header.putInt(MAGIC).putInt(length).putLong(spilledAt).putInt(points).flip();
+        CRC32C crc = new CRC32C();
+        crc.update(header.duplicate().position(8));
+        crc.update(payload, 0, length);
+        ByteBuffer trailer = ByteBuffer.allocate(TRAILER_BYTES).putInt(0, (int) crc.getValue());
+
+        ByteBuffer[] record = {header, ByteBuffer.wrap(payload, 0, length), trailer};
+        long written = 0;
+        while (written < recordBytes) {
+            written += activeChannel.write(record);
+        }
+        if (fsync) {
+            activeChannel.force(false);
+        }
+        active.size += recordBytes;
+        totalBytes += recordBytes;
+        if (oldestRecordMillis < 0) {
+            oldestRecordMillis = spilledAt;
+        }
+        return true;
+    }
+
+    /**
+     * Reads whole records from the replay position, up to about maxBytes of payload.
+     * Call commit() once the batch was written, otherwise the same records are
+     * returned again.
+     *
+     * @return The batch, or null if there is nothing to replay
+     */
+    public synchronized ReplayBatch readBatch(int maxBatchBytes) throws IOException {
+        while (true) {
+            Segment oldest = segments.peekFirst();
+            if (oldest == null) {
+                return null;
+            }
+            if (readPosition < oldest.size) {
+                break;
+            }
+            if (oldest == segments.peekLast()) {
+                return null;
+            }
+            deleteOldestSegment();
+        }
+
+        Segment oldest = segments.peekFirst();
+        replayBuffer.clear();
+        int points = 0;
+        long position = readPosition;
+        try (FileChannel channel = FileChannel.open(oldest.path, StandardOpenOption.READ)) {
+            while (position < oldest.size && replayBuffer.position() < maxBatchBytes) {
+                header.clear();
+                readFully(channel, header, position);
+                header.flip();
+                int payloadLength = header.getInt(4);
+                if (header.getInt(0) != MAGIC || payloadLength < 0
+                        || position + HEADER_BYTES + payloadLength + TRAILER_BYTES > oldest.size) {
+                    log.warn("Corrupt record in InfluxDB spill segment {} at {} - skipping the rest of it",
+                            oldest.path, position);
+                    position = oldest.size;
+                    break;
+                }
+                if (replayBuffer.position() > 0 && replayBuffer.position() + payloadLength > maxBatchBytes) {
+                    break;
+                }
+                if (replayBuffer.remaining() < payloadLength + TRAILER_BYTES) {
+                    ByteBuffer grown = ByteBuffer.allocate(
+                            Math.max(replayBuffer.capacity() * 2, replayBuffer.position() + payloadLength + TRAILER_BYTES));
+                    replayBuffer.flip();
+                    replayBuffer = grown.put(replayBuffer);
+                }
+                int payloadStart = replayBuffer.position();
+                replayBuffer.limit(payloadStart + payloadLength + TRAILER_BYTES);
+                readFully(channel, replayBuffer, position + HEADER_BYTES);
+                replayBuffer.limit(replayBuffer.capacity());
+
+                CRC32C crc = new CRC32C();
+                crc.update(header.duplicate().position(8));
+                crc.update(replayBuffer.array(), payloadStart, payloadLength);
+                int storedCrc = replayBuffer.getInt(payloadStart + payloadLength);
+                position += HEADER_BYTES + payloadLength + TRAILER_BYTES;
+                if ((int) crc.getValue() != storedCrc) {
+                    log.warn("CRC mismatch in InfluxDB spill segment {} - skipping one record", oldest.path);
+                    replayBuffer.position(payloadStart);
+                    continue;
+                }
+                replayBuffer.position(payloadStart + payloadLength);
+                points += header.getInt(16);
+            }
+        }
+        pendingReadEnd = position;
+        return new ReplayBatch(replayBuffer.array(), replayBuffer.position(), points);
+    }
+
+    /**
+     * Acknowledges the last batch returned by readBatch.
+     */
+    public synchronized void commit() throws IOException {
+        if (pendingReadEnd < 0 || segments.isEmpty()) {
+            return;
+        }
+        readPosition = pendingReadEnd;
+        pendingReadEnd = -1;
+        Segment oldest = segments.peekFirst();
+        if (readPosition >= oldest.size) {
+            deleteOldestSegment();
+        }
+        refreshOldestRecordMillis();
+    }
+
+    /**
+     * @return Bytes spilled but not yet replayed
+     */
+    public synchronized long backlogBytes() {
+        return totalBytes - readPosition;
+    }
+
+    /**
+     * @return Age of the oldest record not yet replayed, in ms (0 if there is none)
+     */
+    public synchronized long backlogAgeMs() {
+        return oldestRecordMillis < 0 ? 0 : Math.max(0, System.currentTimeMillis() - oldestRecordMillis);
+    }
+
+    public synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * @return Total bytes dropped because the log was full
+     */
+    public synchronized long droppedBytes() {
+        return droppedBytes;
+    }
+
+    public synchronized void close() {
+        closeActiveChannel();
+    }
+
+    private Segment startSegment() throws IOException {
+        closeActiveChannel();
+        Files.createDirectories(directory);
+        long sequence = nextSequence++;
+        Path path = directory.resolve(String.format("%s%020d%s", PREFIX, sequence, SUFFIX));
+        activeChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        Segment segment = new Segment(path, 0);
+        segments.addLast(segment);
+        return segment;
+    }
+
+    private void dropOldestSegment() throws IOException {
+        Segment oldest = segments.peekFirst();
+        long unreplayed = oldest.size - readPosition;
+        droppedBytes += unreplayed;
+        log.warn("InfluxDB spill log is full ({} bytes) - dropping {} unreplayed bytes of segment {}",
+                maxBytes, unreplayed, oldest.path);
+        deleteOldestSegment();
+        refreshOldestRecordMillis();
+    }
+
+    private void deleteOldestSegment() throws IOException {
+        Segment oldest = segments.pollFirst();
+        if (segments.isEmpty()) {
+            // It was also the segment being appended to
+            closeActiveChannel();
+        }
+        totalBytes -= oldest.size;
+        readPosition = 0;
+        pendingReadEnd = -1;
+        Files.deleteIfExists(oldest.path);
+    }
+
+    private void refreshOldestRecordMillis() throws IOException {
+        oldestRecordMillis = -1;
+        Segment oldest = segments.peekFirst();
+        if (oldest == null || readPosition >= oldest.size) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(oldest.path, StandardOpenOption.READ)) {
+            header.clear();
+            readFully(channel, header, readPosition);
+            oldestRecordMillis = header.getLong(8);
+        }
+    }
+
+    private void closeActiveChannel() {
+        if (activeChannel != null) {
+            try {
+                activeChannel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close InfluxDB spill segment", e);
+            }
+            activeChannel = null;
+        }
+    }
+
+    /**
+     * @return End of the last complete record with a valid CRC
+     */
+    private static long scanValidEnd(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            ByteBuffer recordHeader = ByteBuffer.allocate(HEADER_BYTES);
+            ByteBuffer body = ByteBuffer.allocate(64 * 1024);
+            while (size - position >= HEADER_BYTES + TRAILER_BYTES) {
+                recordHeader.clear();
+                readFully(channel, recordHeader, position);
+                int payloadLength = recordHeader.getInt(4);
+                if (recordHeader.getInt(0) != MAGIC || payloadLength < 0
+                        || payloadLength > size - position - HEADER_BYTES - TRAILER_BYTES) {
+                    break;
+                }
+                if (body.capacity() < payloadLength + TRAILER_BYTES) {
+                    body = ByteBuffer.allocate(payloadLength + TRAILER_BYTES);
+                }
+                body.clear().limit(payloadLength + TRAILER_BYTES);
+                readFully(channel, body, position + HEADER_BYTES);
+                CRC32C crc = new CRC32C();
+                crc.update(recordHeader.flip().position(8));
+                crc.update(body.array(), 0, payloadLength);
+                if ((int) crc.getValue() != body.getInt(payloadLength)) {
+                    break;
+                }
+                position += HEADER_BYTES + payloadLength + TRAILER_BYTES;
+            }
+            return position;
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of spill segment");
+            }
+            position += read;
+        }
+    }
+
+    private static long parseSequence(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private long size;
+
+        private Segment(Path path, long size) {
+            this.path = path;
+            this.size = size;
+        }
+    }
+}
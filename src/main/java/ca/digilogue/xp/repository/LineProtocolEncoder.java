@@ -0,0 +1,178 @@
+package ca.digilogue.xp.repository;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Encodes candles as InfluxDB line protocol into one reusable byte buffer:
+ * <pre>
+ *   ohlcv_candles,symbol=AAPL open=1.0,high=2.0,low=0.5,close=1.5,volume=1000.0 1700000000000000000
+ * </pre>
+ * Same measurement, tag and fields as InfluxDbRepository's Points (timestamps in ns).
+ * Lines are formatted in a reused StringBuilder and copied into the byte buffer.
+ * Field values with at most 9 decimals (typical exchange prices and sizes) are
+ * formatted without allocating; other values fall back to Double.toString's
+ * formatting. Both produce text that parses back to exactly the same double.
+ * Not thread-safe; each writer thread owns its encoder.
+ */
+public final class LineProtocolEncoder {
+
+    private static final String MEASUREMENT = "ohlcv_candles";
+    private static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9};
+    private static final long[] LONG_POW10 = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+            10_000_000L, 100_000_000L, 1_000_000_000L};
+    // Scaled mantissas must stay exactly representable as doubles (< 2^53)
+    private static final double MAX_EXACT_MANTISSA = 9.0e15;
+
+    private final StringBuilder line = new StringBuilder(160);
+    private byte[] buffer;
+    private int length;
+    private int lines;
+
+    public LineProtocolEncoder(int initialCapacity) {
+        this.buffer = new byte[Math.max(256, initialCapacity)];
+    }
+
+    /**
+     * Appends one candle as a line (including the trailing newline). Like Point,
+     * non-finite field values (NaN, infinity) are left out; a candle without a
+     * symbol or without any finite field is not a valid point and is skipped.
+     *
+     * @param candle The candle to encode
+     * @return True if a line was appended, false if the candle was skipped
+     */
+    public boolean append(OhlcvCandle candle) {
+        String symbol = candle.getSymbol();
+        if (symbol == null || symbol.isEmpty()) {
+            return false;
+        }
+        StringBuilder l = line;
+        l.setLength(0);
+        l.append(MEASUREMENT).append(",symbol=");
+        appendTagValue(l, symbol);
+        int fieldsStart = l.length();
+        appendField(l, fieldsStart, "open", candle.getOpen());
+        appendField(l, fieldsStart, "high", candle.getHigh());
+        appendField(l, fieldsStart, "low", candle.getLow());
+        appendField(l, fieldsStart, "close", candle.getClose());
+        appendField(l, fieldsStart, "volume", candle.getVolume());
+        if (l.length() == fieldsStart) {
+            return false;
+        }
+        Instant timestamp = candle.getTimestamp();
+        if (timestamp != null) {
+            l.append(' ').append(timestamp.getEpochSecond() * 1_000_000_000L + timestamp.getNano());
+        }
+        l.append('\n');
+        copyLine(l);
+        lines++;
+        return true;
+    }
+
+    /**
+     * @return The encoded lines; valid from 0 until length()
+     */
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return Number of lines (points) currently encoded
+     */
+    public int lines() {
+        return lines;
+    }
+
+    public void reset() {
+        length = 0;
+        lines = 0;
+    }
+
+    private void copyLine(StringBuilder l) {
+        int n = l.length();
+        ensureCapacity(length + n);
+        for (int i = 0; i < n; i++) {
+            char c = l.charAt(i);
+            if (c >= 0x80) {
+                // Non-ASCII symbol: fall back to a full UTF-8 encode of this line
+                byte[] utf8 = l.toString().getBytes(StandardCharsets.UTF_8);
+                ensureCapacity(length + utf8.length);
+                System.arraycopy(utf8, 0, buffer, length, utf8.length);
+                length += utf8.length;
+                return;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            buffer[length + i] = (byte) l.charAt(i);
+        }
+        length += n;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+
+    private static void appendField(StringBuilder l, int fieldsStart, String name, double value) {
+        if (!Double.isFinite(value)) {
+            return;
+        }
+        l.append(l.length() == fieldsStart ? ' ' : ',').append(name).append('=');
+        appendDouble(l, value);
+    }
+
+    /**
+     * Appends the shortest fixed-point form with up to 9 decimals whose parse is
+     * exactly the value (m / 10^d is correctly rounded, like parsing "m.ddd").
+     */
+    private static void appendDouble(StringBuilder l, double value) {
+        for (int decimals = 0; decimals < POW10.length; decimals++) {
+            double scaled = value * POW10[decimals];
+            if (!(Math.abs(scaled) < MAX_EXACT_MANTISSA)) {
+                break;
+            }
+            long mantissa = Math.round(scaled);
+            if ((double) mantissa / POW10[decimals] == value) {
+                appendFixed(l, mantissa, decimals);
+                return;
+            }
+        }
+        l.append(value);
+    }
+
+    private static void appendFixed(StringBuilder l, long mantissa, int decimals) {
+        if (mantissa < 0) {
+            l.append('-');
+            mantissa = -mantissa;
+        }
+        long unit = LONG_POW10[decimals];
+        l.append(mantissa / unit).append('.');
+        if (decimals == 0) {
+            l.append('0');
+            return;
+        }
+        long fraction = mantissa % unit;
+        for (long digit = unit / 10; digit > fraction && digit > 1; digit /= 10) {
+            l.append('0');
+        }
+        l.append(fraction);
+    }
+
+    private static void appendTagValue(StringBuilder l, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '=' || c == ' ') {
+                l.append('\\');
+            }
+            l.append(c);
+        }
+    }
+}
@@ -2,14 +2,25 @@ package ca.digilogue.xp.service;
 
 import ca.digilogue.xp.generator.OhlcvCandle;
 import ca.digilogue.xp.repository.InfluxDbRepository;
+import ca.digilogue.xp.repository.InfluxLineProtocolWriter;
+import com.influxdb.Cancellable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
 /**
  * Service layer for InfluxDB operations.
  * Provides business logic for writing OHLCV candles.
+ * Writes go through the InfluxLineProtocolWriter pipeline when it is enabled,
+ * otherwise through the client's WriteApi in InfluxDbRepository.
  */
 @Service
 public class InfluxDbService {
@@ -17,10 +28,12 @@ public class InfluxDbService {
     private static final Logger log = LoggerFactory.getLogger(InfluxDbService.class);
 
     private final InfluxDbRepository influxDbRepository;
+    private final InfluxLineProtocolWriter lineProtocolWriter;
 
     @Autowired
-    public InfluxDbService(InfluxDbRepository influxDbRepository) {
+    public InfluxDbService(InfluxDbRepository influxDbRepository, InfluxLineProtocolWriter lineProtocolWriter) {
         this.influxDbRepository = influxDbRepository;
+        this.lineProtocolWriter = lineProtocolWriter;
     }
 
     /**
@@ -29,6 +42,10 @@ public class InfluxDbService {
      * @param candle The OHLCV candle to write
      */
     public void writeCandle(OhlcvCandle candle) {
+        if (lineProtocolWriter.isEnabled()) {
+            lineProtocolWriter.write(candle);
+            return;
+        }
         try {
             influxDbRepository.writeCandle(candle);
             log.debug("Successfully wrote candle for symbol: {}", candle.getSymbol());
@@ -38,10 +55,71 @@ public class InfluxDbService {
         }
     }
 
+    /**
+     * Writes a batch of OHLCV candles to InfluxDB.
+     *
+     * @param candles The OHLCV candles to write
+     */
+    public void writeCandles(List<OhlcvCandle> candles) {
+        if (lineProtocolWriter.isEnabled()) {
+            lineProtocolWriter.writeAll(candles);
+            return;
+        }
+        try {
+            influxDbRepository.writeCandles(candles);
+            log.debug("Successfully wrote {} candle(s)", candles.size());
+        } catch (Exception e) {
+            log.error("Failed to write batch of {} candle(s)", candles.size(), e);
+            // Don't throw - allow generator to continue even if one batch fails
+        }
+    }
+
+    /**
+     * Reads the newest stored candle of every symbol.
+     *
+     * @param lookback How far back to look for the newest point per symbol
+     * @return Map of symbol to its newest candle (empty on failure)
+     */
+    public Map<String, OhlcvCandle> getLatestCandles(Duration lookback) {
+        try {
+            return influxDbRepository.queryLatestCandles(lookback);
+        } catch (Exception e) {
+            log.error("Failed to query latest candles from InfluxDB", e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * Streams the stored candles of one symbol in a time range, oldest first.
+     * Failures, including ones while starting the query, are reported to onError.
+     *
+     * @param symbol          The trading symbol
+     * @param start           Range start (inclusive)
+     * @param stop            Range end (exclusive), or null for now
+     * @param intervalSeconds Aggregation window in seconds, or 0 for the stored candles
+     * @param onCandle        Called per candle; the Cancellable stops the query
+     * @param onError         Called if the query fails
+     * @param onComplete      Called after the last candle
+     */
+    public void streamCandleHistory(String symbol, Instant start, Instant stop, long intervalSeconds,
+                                    BiConsumer<Cancellable, OhlcvCandle> onCandle,
+                                    Consumer<? super Throwable> onError, Runnable onComplete) {
+        try {
+            influxDbRepository.streamCandleHistory(symbol, start, stop, intervalSeconds, onCandle, onError, onComplete);
+        } catch (Exception e) {
+            log.error("Failed to query candle history for symbol: {}", symbol, e);
+            onError.accept(e);
+        }
+    }
+
     /**
      * Flushes any pending writes to InfluxDB.
      */
     public void flush() {
+        if (lineProtocolWriter.isEnabled()) {
+            lineProtocolWriter.flush();
+            return;
+        }
         influxDbRepository.flush();
     }
 }
@@ -0,0 +1,81 @@
+package ca.digilogue.xp.service;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import ca.digilogue.xp.store.CandleSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sampled, compact logging for the Kafka ingest hot path.
+ *
+ * Every consumed message produces one single-line key=value summary at DEBUG
+ * (enable logging.level.ca.digilogue.xp.service.IngestLogger=DEBUG to see it).
+ * The summary can be sampled (1 in N messages) or limited to messages whose
+ * symbol count differs from the previous one. The full pretty-printed payload
+ * dump is only produced when explicitly enabled and DEBUG is on, since
+ * re-serializing every message dominates listener CPU and fills the rolling log.
+ */
+@Component
+public class IngestLogger {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestLogger.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Value("${app.kafka.ingest-log.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.kafka.ingest-log.sample-every:1}")
+    private int sampleEvery;
+
+    @Value("${app.kafka.ingest-log.on-size-change-only:false}")
+    private boolean onSizeChangeOnly;
+
+    @Value("${app.kafka.ingest-log.payload-dump:false}")
+    private boolean payloadDump;
+
+    private final AtomicLong messageCount = new AtomicLong();
+    private final AtomicInteger lastSize = new AtomicInteger(-1);
+
+    /**
+     * Logs a consumed candles message according to the configured policy.
+     *
+     * @param topic     Source topic
+     * @param partition Source partition
+     * @param offset    Source offset
+     * @param candles   The consumed payload
+     * @param snapshot  The snapshot the payload was published as
+     */
+    public void logIngest(String topic, int partition, long offset,
+                          Map<String, OhlcvCandle> candles, CandleSnapshot snapshot) {
+        long count = messageCount.incrementAndGet();
+        int previousSize = lastSize.getAndSet(candles.size());
+        if (!enabled || !log.isDebugEnabled()) {
+            return;
+        }
+
+        boolean sizeChanged = previousSize != candles.size();
+        boolean sampled = sampleEvery <= 1 || count % sampleEvery == 0;
+        if (onSizeChangeOnly ? sizeChanged : sampled) {
+            log.debug("ingest topic={} partition={} offset={} version={} symbols={} changed={} removed={} messages={}",
+                    topic, partition, offset, snapshot.getVersion(), snapshot.size(),
+                    snapshot.getChangedSymbols().size(), snapshot.getRemovedSymbols().size(), count);
+        }
+
+        if (payloadDump) {
+            try {
+                log.debug("ingest payload topic={} partition={} offset={}\n{}", topic, partition, offset,
+                        objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(candles));
+            } catch (Exception e) {
+                log.warn("Could not serialize ingest payload for logging", e);
+            }
+        }
+    }
+}
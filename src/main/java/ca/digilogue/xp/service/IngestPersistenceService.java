@@ -0,0 +1,141 @@
+package ca.digilogue.xp.service;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import ca.digilogue.xp.store.CandleSnapshot;
+import ca.digilogue.xp.store.CandleSnapshotListener;
+import ca.digilogue.xp.store.CandleStore;
+import ca.digilogue.xp.store.SymbolRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Optionally persists candles consumed from Kafka to InfluxDB
+ * (app.ingest.persist.enabled), so history is kept for them as well and not
+ * only for generated candles.
+ *
+ * Follows the CandleStore and looks only at the symbols that changed in each
+ * snapshot. A candle is written only if its (symbol, timestamp) is new, i.e. its
+ * timestamp differs from the last one persisted for the symbol; unchanged symbols
+ * and re-sent or corrected candles with the same timestamp are not rewritten, so
+ * the write rate follows real changes instead of message count x universe size.
+ * The last persisted timestamp per symbol is a primitive array indexed by
+ * SymbolRegistry id.
+ *
+ * Starts after warm start and seeds its state from the current snapshot, so
+ * candles restored on boot are not written again. Listeners run on the ingest
+ * thread: enable app.influxdb.writer.enabled so writes are only queued there.
+ *
+ * Metrics:
+ *   ingest.persist.candles  - candles handed to InfluxDB
+ *   ingest.persist.skipped  - changed candles skipped because their timestamp was already persisted
+ */
+@Service
+@DependsOn("warmStartService")
+public class IngestPersistenceService implements CandleSnapshotListener {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestPersistenceService.class);
+
+    private static final long NOT_PERSISTED = Long.MIN_VALUE;
+
+    @Value("${app.ingest.persist.enabled:false}")
+    private boolean enabled;
+
+    private final CandleStore candleStore;
+    private final SymbolRegistry symbols;
+    private final InfluxDbService influxDbService;
+    private final Counter persisted;
+    private final Counter skipped;
+
+    // Last persisted candle timestamp (epoch ns) per symbol id; only touched by the
+    // listener, which the CandleStore calls under its write lock
+    private long[] lastPersistedNanos = new long[0];
+    private final List<OhlcvCandle> batch = new ArrayList<>();
+
+    public IngestPersistenceService(CandleStore candleStore, SymbolRegistry symbols,
+                                    InfluxDbService influxDbService, MeterRegistry meterRegistry) {
+        this.candleStore = candleStore;
+        this.symbols = symbols;
+        this.influxDbService = influxDbService;
+        this.persisted = Counter.builder("ingest.persist.candles")
+                .description("Consumed candles handed to InfluxDB")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("ingest.persist.skipped")
+                .description("Changed candles not written because their timestamp was already persisted")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        CandleSnapshot current = candleStore.snapshot();
+        for (OhlcvCandle candle : current.getCandles().values()) {
+            isNew(candle);
+        }
+        candleStore.addListener(this);
+        log.info("Ingest persistence to InfluxDB enabled ({} symbol(s) already persisted or restored)",
+                current.size());
+    }
+
+    @Override
+    public void onSnapshot(CandleSnapshot snapshot) {
+        for (String symbol : snapshot.getChangedSymbols()) {
+            OhlcvCandle candle = snapshot.get(symbol);
+            if (candle == null) {
+                continue;
+            }
+            if (isNew(candle)) {
+                batch.add(candle);
+            } else {
+                skipped.increment();
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            influxDbService.writeCandles(batch);
+            persisted.increment(batch.size());
+            log.debug("Persisted {} of {} changed candle(s) from snapshot version {}",
+                    batch.size(), snapshot.getChangedSymbols().size(), snapshot.getVersion());
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * Records the candle's timestamp as persisted.
+     *
+     * @return True if the timestamp differs from the last persisted one of the symbol
+     */
+    private boolean isNew(OhlcvCandle candle) {
+        Instant timestamp = candle.getTimestamp();
+        if (timestamp == null || candle.getSymbol() == null) {
+            return false;
+        }
+        long nanos = timestamp.getEpochSecond() * 1_000_000_000L + timestamp.getNano();
+        int id = symbols.idOf(candle.getSymbol());
+        if (id >= lastPersistedNanos.length) {
+            int length = lastPersistedNanos.length;
+            lastPersistedNanos = Arrays.copyOf(lastPersistedNanos, Math.max(id + 1, Math.max(64, length * 2)));
+            Arrays.fill(lastPersistedNanos, length, lastPersistedNanos.length, NOT_PERSISTED);
+        }
+        if (lastPersistedNanos[id] == nanos) {
+            return false;
+        }
+        lastPersistedNanos[id] = nanos;
+        return true;
+    }
+}
@@ -2,9 +2,12 @@ package ca.digilogue.xp.service;
 
 import ca.digilogue.xp.App;
 import ca.digilogue.xp.generator.OhlcvCandle;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import ca.digilogue.xp.store.CandleSnapshot;
+import ca.digilogue.xp.store.CandleStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,21 +21,29 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Kafka consumer service for consuming OHLCV candles collection from Kafka.
- * Updates the static latestCandles map in App.java with the consumed data.
+ * Publishes the consumed data to the CandleStore as a new snapshot.
  * 
  * Implements ConsumerSeekAware to explicitly seek to the end of partitions
  * on startup, ensuring only NEW messages are consumed (live streaming).
+ *
+ * Two listener modes are available (app.kafka.listener.batch.enabled):
+ * record-at-a-time, or batch mode where each poll is coalesced down to the
+ * newest message per partition, since every message is a full snapshot and
+ * intermediate ones would be overwritten immediately anyway.
  */
 @Service
 @DependsOn("leaseAcquisition")
 public class KafkaConsumerService implements ConsumerSeekAware {
 
     private static final Logger log = LoggerFactory.getLogger(KafkaConsumerService.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
 
     @Value("${spring.kafka.topic.ohlcv:ohlcv-topic}")
     private String topicName;
@@ -42,6 +53,31 @@ public class KafkaConsumerService implements ConsumerSeekAware {
     
     private String groupId; // Will be set from acquired lease
 
+    @Value("${app.kafka.listener.batch.enabled:false}")
+    private boolean batchListenerEnabled;
+
+    private final CandleStore candleStore;
+    private final WarmStartService warmStartService;
+    private final IngestLogger ingestLogger;
+    private final PartitionIngestMetrics partitionMetrics;
+    private final Counter batchRecordsCounter;
+    private final Counter coalescedRecordsCounter;
+
+    public KafkaConsumerService(CandleStore candleStore, WarmStartService warmStartService,
+                                IngestLogger ingestLogger,
+                                PartitionIngestMetrics partitionMetrics, MeterRegistry meterRegistry) {
+        this.candleStore = candleStore;
+        this.warmStartService = warmStartService;
+        this.ingestLogger = ingestLogger;
+        this.partitionMetrics = partitionMetrics;
+        this.batchRecordsCounter = Counter.builder("kafka.candles.batch.records")
+                .description("Records received by the batch listener")
+                .register(meterRegistry);
+        this.coalescedRecordsCounter = Counter.builder("kafka.candles.batch.coalesced")
+                .description("Records skipped because a newer record of the same partition was in the same poll")
+                .register(meterRegistry);
+    }
+
     @PostConstruct
     public void init() {
         // Use acquired consumer group name from lease, or fallback to default
@@ -54,7 +90,9 @@ public class KafkaConsumerService implements ConsumerSeekAware {
         log.info("  Topic: '{}'", topicName);
         log.info("  Group ID: '{}' (acquired from lease: {})", 
                 groupId, App.acquiredConsumerGroupName != null ? "YES" : "NO - using default");
-        log.info("  Container Factory: 'kafkaListenerContainerFactory'");
+        log.info("  Container Factory: '{}'", batchListenerEnabled
+                ? "batchKafkaListenerContainerFactory (newest record per partition per poll)"
+                : "kafkaListenerContainerFactory");
         log.info("  Auto-offset-reset: latest (will only consume NEW messages after consumer starts)");
         log.info("  ConsumerSeekAware: Will explicitly seek to END of partitions on startup");
         log.info("========================================");
@@ -64,15 +102,23 @@ public class KafkaConsumerService implements ConsumerSeekAware {
      * Called when partitions are assigned to this consumer.
      * Explicitly seeks to the END of each partition to ensure we only consume NEW messages.
      * This overrides any committed offsets and ensures live streaming behavior.
+     * Partitions replayed by the WarmStartService resume where the replay stopped instead.
      */
     @Override
     public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
         log.info("Partitions assigned: {}", assignments.keySet());
         for (TopicPartition partition : assignments.keySet()) {
+            Long resumeOffset = warmStartService.resumeOffset(partition);
+            if (resumeOffset != null) {
+                // Continue right after the records replayed by the warm start
+                log.info("Seeking partition: {} to warm-start offset: {}", partition, resumeOffset);
+                callback.seek(partition.topic(), partition.partition(), resumeOffset);
+                continue;
+            }
             log.info("Seeking to END of partition: {} (current offset: {})", partition, assignments.get(partition));
             callback.seekToEnd(partition.topic(), partition.partition());
         }
-        log.info("All {} partition(s) seeked to END - consumer will only process NEW messages", assignments.size());
+        log.info("All {} partition(s) positioned - consumer will only process NEW messages", assignments.size());
     }
 
     @Override
@@ -87,24 +133,27 @@ public class KafkaConsumerService implements ConsumerSeekAware {
 
     /**
      * Consumes OHLCV candles collection from Kafka topic.
-     * Updates the static latestCandles map in App.java.
+     * Publishes the collection to the CandleStore as a new snapshot.
      * 
      * @param candles        Map of symbol to OHLCV candle (the entire collection)
      * @param acknowledgment Kafka acknowledgment for manual commit (if needed)
      */
     @KafkaListener(
         topics = "${spring.kafka.topic.ohlcv:ohlcv-topic}", 
-        containerFactory = "kafkaListenerContainerFactory"
+        containerFactory = "kafkaListenerContainerFactory",
+        autoStartup = "#{!${app.kafka.listener.batch.enabled:false}}"
     )
     public void consumeCandlesCollection(
             @Payload Map<String, OhlcvCandle> candles,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
+            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp,
             Acknowledgment acknowledgment) {
 
-        log.info("=== RECEIVED candles collection from topic: {}, partition: {}, offset: {} ===",
+        log.debug("Received candles collection from topic: {}, partition: {}, offset: {}",
                 topic, partition, offset);
+        partitionMetrics.record(topic, partition, 1, timestamp);
 
         try {
             if (candles == null || candles.isEmpty()) {
@@ -113,17 +162,12 @@ public class KafkaConsumerService implements ConsumerSeekAware {
                 return;
             }
 
-            // Update the static latestCandles map in App.java
-            synchronized (App.latestCandles) {
-                App.latestCandles.clear();
-                App.latestCandles.putAll(candles);
-            }
+            // Publish the collection as a new immutable snapshot (atomic swap; readers never lock)
+            CandleSnapshot snapshot = candleStore.replaceAll(candles,
+                    waitNanos -> partitionMetrics.recordLockWait(topic, partition, waitNanos));
 
-            // Serialize candles to JSON for logging
-            String candlesJson = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(candles);
-            
-            log.info("Consumed and updated {} candles from topic: {}, partition: {}, offset: {}\nPayload JSON:\n{}",
-                    candles.size(), topic, partition, offset, candlesJson);
+            // Compact, sampled summary (full payload dump only if explicitly enabled)
+            ingestLogger.logIngest(topic, partition, offset, candles, snapshot);
 
             // Acknowledge the message (if manual acknowledgment is enabled)
             if (acknowledgment != null) {
@@ -136,4 +180,59 @@ public class KafkaConsumerService implements ConsumerSeekAware {
             // Don't acknowledge on error - let Kafka retry
         }
     }
+
+    /**
+     * Consumes a whole poll of OHLCV candles collections (batch listener mode).
+     * Only the newest record of each partition is applied; older ones in the same
+     * poll are counted as coalesced and skipped, so a backlog drains in one step.
+     *
+     * @param records        The records of one poll
+     * @param acknowledgment Kafka acknowledgment for manual commit (if needed)
+     */
+    @KafkaListener(
+        topics = "${spring.kafka.topic.ohlcv:ohlcv-topic}",
+        containerFactory = "batchKafkaListenerContainerFactory",
+        autoStartup = "${app.kafka.listener.batch.enabled:false}"
+    )
+    public void consumeCandlesBatch(
+            List<ConsumerRecord<String, Map<String, OhlcvCandle>>> records,
+            Acknowledgment acknowledgment) {
+
+        log.debug("Received batch of {} candles collection record(s)", records.size());
+        batchRecordsCounter.increment(records.size());
+
+        try {
+            // Records arrive in offset order per partition, so the last one seen wins
+            Map<Integer, ConsumerRecord<String, Map<String, OhlcvCandle>>> newestByPartition = new HashMap<>();
+            for (ConsumerRecord<String, Map<String, OhlcvCandle>> record : records) {
+                partitionMetrics.record(record.topic(), record.partition(), 1, record.timestamp());
+                if (record.value() == null || record.value().isEmpty()) {
+                    continue;
+                }
+                newestByPartition.put(record.partition(), record);
+            }
+
+            List<ConsumerRecord<String, Map<String, OhlcvCandle>>> toApply = new ArrayList<>(newestByPartition.values());
+            toApply.sort(Comparator.comparingLong(ConsumerRecord::timestamp));
+            coalescedRecordsCounter.increment(records.size() - toApply.size());
+
+            for (ConsumerRecord<String, Map<String, OhlcvCandle>> record : toApply) {
+                CandleSnapshot snapshot = candleStore.replaceAll(record.value(),
+                        waitNanos -> partitionMetrics.recordLockWait(record.topic(), record.partition(), waitNanos));
+                ingestLogger.logIngest(record.topic(), record.partition(), record.offset(), record.value(), snapshot);
+            }
+            if (records.size() > toApply.size()) {
+                log.debug("Coalesced {} record(s) into {} snapshot(s)", records.size(), toApply.size());
+            }
+
+            // Acknowledge the whole poll (if manual acknowledgment is enabled)
+            if (acknowledgment != null) {
+                acknowledgment.acknowledge();
+            }
+
+        } catch (Exception e) {
+            log.error("Error consuming batch of {} candles collection record(s)", records.size(), e);
+            // Don't acknowledge on error - let Kafka retry
+        }
+    }
 }
@@ -0,0 +1,155 @@
+package ca.digilogue.xp.service;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import ca.digilogue.xp.store.CandleStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Kafka consumer for the per-symbol keyed topic layout (key = symbol, value = one candle).
+ *
+ * Unlike the whole-map ohlcv-topic, each record only carries one symbol, so the
+ * topic can be partitioned by symbol and consumed with several listener threads.
+ * Each poll is coalesced to the newest record per symbol and merged into the
+ * CandleStore as a single new snapshot. A null value (tombstone) removes the symbol.
+ * The threads decode in parallel but take turns merging (CandleStore write lock).
+ *
+ * Disabled by default (app.kafka.keyed.enabled).
+ */
+@Service
+@DependsOn("leaseAcquisition")
+public class KeyedCandleConsumerService implements ConsumerSeekAware {
+
+    private static final Logger log = LoggerFactory.getLogger(KeyedCandleConsumerService.class);
+
+    @Value("${spring.kafka.topic.ohlcv-keyed:ohlcv-symbol-topic}")
+    private String topicName;
+
+    @Value("${app.kafka.keyed.enabled:false}")
+    private boolean enabled;
+
+    private final CandleStore candleStore;
+    private final WarmStartService warmStartService;
+    private final PartitionIngestMetrics partitionMetrics;
+    private final Counter recordsCounter;
+    private final Counter coalescedCounter;
+
+    public KeyedCandleConsumerService(CandleStore candleStore, WarmStartService warmStartService,
+                                      PartitionIngestMetrics partitionMetrics,
+                                      MeterRegistry meterRegistry) {
+        this.candleStore = candleStore;
+        this.warmStartService = warmStartService;
+        this.partitionMetrics = partitionMetrics;
+        this.recordsCounter = Counter.builder("kafka.candles.keyed.records")
+                .description("Records received from the per-symbol keyed topic")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("kafka.candles.keyed.coalesced")
+                .description("Keyed records skipped because a newer record for the same symbol was in the same poll")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (enabled) {
+            log.info("KeyedCandleConsumerService enabled - consuming per-symbol candles from topic: '{}'", topicName);
+        }
+    }
+
+    /**
+     * Seeks to the END of each assigned partition so only NEW updates are consumed
+     * (or to where the warm-start replay stopped, if it replayed that partition).
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        log.info("Keyed topic partitions assigned: {}", assignments.keySet());
+        for (TopicPartition partition : assignments.keySet()) {
+            Long resumeOffset = warmStartService.resumeOffset(partition);
+            if (resumeOffset != null) {
+                callback.seek(partition.topic(), partition.partition(), resumeOffset);
+            } else {
+                callback.seekToEnd(partition.topic(), partition.partition());
+            }
+        }
+    }
+
+    /**
+     * Consumes a poll of per-symbol candle records and merges them into the CandleStore.
+     *
+     * @param records        The records of one poll
+     * @param acknowledgment Kafka acknowledgment for manual commit (if needed)
+     */
+    @KafkaListener(
+        topics = "${spring.kafka.topic.ohlcv-keyed:ohlcv-symbol-topic}",
+        containerFactory = "keyedKafkaListenerContainerFactory",
+        autoStartup = "${app.kafka.keyed.enabled:false}"
+    )
+    public void consumeSymbolCandles(List<ConsumerRecord<String, OhlcvCandle>> records,
+                                     Acknowledgment acknowledgment) {
+        recordsCounter.increment(records.size());
+
+        try {
+            // Newest record per symbol wins (records of one partition arrive in offset order,
+            // and a symbol always maps to the same partition)
+            Map<String, OhlcvCandle> updates = new LinkedHashMap<>();
+            Set<String> removals = new HashSet<>();
+            Set<TopicPartition> partitions = new HashSet<>();
+            int applied = 0;
+            for (ConsumerRecord<String, OhlcvCandle> record : records) {
+                partitionMetrics.record(record.topic(), record.partition(), 1, record.timestamp());
+                partitions.add(new TopicPartition(record.topic(), record.partition()));
+                OhlcvCandle candle = record.value();
+                String symbol = record.key() != null ? record.key() : candle != null ? candle.getSymbol() : null;
+                if (symbol == null) {
+                    log.warn("Skipping keyed record without symbol: partition={}, offset={}",
+                            record.partition(), record.offset());
+                    continue;
+                }
+                if (candle == null) {
+                    updates.remove(symbol);
+                    removals.add(symbol);
+                } else {
+                    if (candle.getSymbol() == null) {
+                        candle.setSymbol(symbol);
+                    }
+                    removals.remove(symbol);
+                    updates.put(symbol, candle);
+                }
+                applied++;
+            }
+            coalescedCounter.increment(applied - updates.size() - removals.size());
+
+            if (!updates.isEmpty() || !removals.isEmpty()) {
+                // The merge of the whole poll waits once; charge that wait to every partition in it
+                candleStore.mergeAll(updates, removals, waitNanos -> partitions.forEach(
+                        tp -> partitionMetrics.recordLockWait(tp.topic(), tp.partition(), waitNanos)));
+            }
+            log.debug("Merged {} keyed record(s): {} update(s), {} removal(s)",
+                    records.size(), updates.size(), removals.size());
+
+            if (acknowledgment != null) {
+                acknowledgment.acknowledge();
+            }
+
+        } catch (Exception e) {
+            log.error("Error consuming batch of {} keyed candle record(s)", records.size(), e);
+            // Don't acknowledge on error - let Kafka retry
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package ca.digilogue.xp.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-partition ingest metrics, shared by all candle listeners.
+ *
+ * kafka.candles.partition.records counts records consumed per topic/partition
+ * (throughput), and kafka.candles.partition.record.age reports how old the newest
+ * consumed record of each partition was when it was applied (ms since its Kafka
+ * timestamp). kafka.candles.partition.lock.wait times how long applying the
+ * partition's records waited for the candle store's write lock, i.e. for other
+ * ingest threads to finish merging and notifying listeners. Offset lag per
+ * partition comes from the Kafka client metrics
+ * (kafka.consumer.fetch.manager.records.lag), bound in KafkaConfig.
+ */
+@Component
+public class PartitionIngestMetrics {
+
+    private final MeterRegistry meterRegistry;
+    // topic -> partition -> meters (no key allocation per record on the hot path)
+    private final ConcurrentMap<String, ConcurrentMap<Integer, PartitionMeters>> meters = new ConcurrentHashMap<>();
+
+    public PartitionIngestMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Records consumed records of one partition.
+     *
+     * @param topic           Source topic
+     * @param partition       Source partition
+     * @param records         Number of records consumed
+     * @param newestTimestamp Kafka timestamp of the newest record (ms), or a negative value if unknown
+     */
+    public void record(String topic, int partition, int records, long newestTimestamp) {
+        PartitionMeters partitionMeters = meters(topic, partition);
+        partitionMeters.records.increment(records);
+        if (newestTimestamp >= 0) {
+            partitionMeters.recordAgeMs.set(Math.max(0, System.currentTimeMillis() - newestTimestamp));
+        }
+    }
+
+    /**
+     * Records how long applying records of one partition waited for the candle store's write lock.
+     *
+     * @param topic     Source topic
+     * @param partition Source partition
+     * @param nanos     Lock wait in nanoseconds
+     */
+    public void recordLockWait(String topic, int partition, long nanos) {
+        meters(topic, partition).lockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private PartitionMeters meters(String topic, int partition) {
+        return meters
+                .computeIfAbsent(topic, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(partition, p -> register(new TopicPartition(topic, p)));
+    }
+
+    private PartitionMeters register(TopicPartition topicPartition) {
+        String partition = Integer.toString(topicPartition.partition());
+        Counter records = Counter.builder("kafka.candles.partition.records")
+                .description("Candle records consumed per partition")
+                .tag("topic", topicPartition.topic())
+                .tag("partition", partition)
+                .register(meterRegistry);
+        AtomicLong recordAgeMs = new AtomicLong();
+        Gauge.builder("kafka.candles.partition.record.age", recordAgeMs, AtomicLong::get)
+                .description("Age of the newest applied record of the partition, in ms")
+                .tag("topic", topicPartition.topic())
+                .tag("partition", partition)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Timer lockWait = Timer.builder("kafka.candles.partition.lock.wait")
+                .description("Time applying the partition's records waited for the candle store write lock")
+                .tag("topic", topicPartition.topic())
+                .tag("partition", partition)
+                .register(meterRegistry);
+        return new PartitionMeters(records, recordAgeMs, lockWait);
+    }
+
+    private static final class PartitionMeters {
+        private final Counter records;
+        private final AtomicLong recordAgeMs;
+        private final Timer lockWait;
+
+        private PartitionMeters(Counter records, AtomicLong recordAgeMs, Timer lockWait) {
+            this.records = records;
+            this.recordAgeMs = recordAgeMs;
+            this.lockWait = lockWait;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package ca.digilogue.xp.service;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import ca.digilogue.xp.store.CandleSnapshot;
+import ca.digilogue.xp.store.CandleStore;
+import jakarta.annotation.PostConstruct;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-populates the CandleStore on boot, so getLatestCandle does not return
+ * NOT_FOUND until the next upstream publish after a restart or redeploy.
+ *
+ * Runs during bean initialization, i.e. before the Kafka listener containers and
+ * the gRPC server are started. Modes (app.warm-start.mode):
+ * <ul>
+ *   <li>none - start empty (previous behaviour)</li>
+ *   <li>replay-last - read the last record of every ohlcv-topic partition (each one
+ *       is a full snapshot) and, when the keyed topic is enabled, the whole keyed
+ *       topic (expected to be compacted, so this is the last record per symbol)</li>
+ *   <li>influxdb - query the newest stored point per symbol from InfluxDB</li>
+ * </ul>
+ *
+ * Runs after the local snapshot file (CandleSnapshotFile) was loaded, so the
+ * sources above override the possibly older file contents.
+ *
+ * After a Kafka replay the listeners resume from the offsets reached here
+ * (see resumeOffset) instead of seeking to the end, so nothing published
+ * in between is skipped. Any failure is logged and the service starts cold.
+ */
+@Service
+@DependsOn({"leaseAcquisition", "candleSnapshotFile"})
+public class WarmStartService {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmStartService.class);
+
+    public enum Mode {
+        NONE, REPLAY_LAST, INFLUXDB;
+
+        static Mode from(String value) {
+            return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    @Value("${app.warm-start.mode:none}")
+    private String modeName;
+
+    @Value("${app.warm-start.timeout-ms:10000}")
+    private long timeoutMs;
+
+    @Value("${app.warm-start.influxdb.lookback-minutes:1440}")
+    private long influxLookbackMinutes;
+
+    @Value("${spring.kafka.topic.ohlcv:ohlcv-topic}")
+    private String snapshotTopic;
+
+    @Value("${spring.kafka.topic.ohlcv-keyed:ohlcv-symbol-topic}")
+    private String keyedTopic;
+
+    @Value("${app.kafka.keyed.enabled:false}")
+    private boolean keyedEnabled;
+
+    private final CandleStore candleStore;
+    private final ConsumerFactory<String, Map<String, OhlcvCandle>> consumerFactory;
+    private final ConsumerFactory<String, OhlcvCandle> keyedConsumerFactory;
+    private final InfluxDbService influxDbService;
+
+    // Offsets reached by the replay; handed out once to the listeners on first assignment
+    private final Map<TopicPartition, Long> resumeOffsets = new ConcurrentHashMap<>();
+
+    public WarmStartService(CandleStore candleStore,
+                            ConsumerFactory<String, Map<String, OhlcvCandle>> consumerFactory,
+                            ConsumerFactory<String, OhlcvCandle> keyedConsumerFactory,
+                            InfluxDbService influxDbService) {
+        this.candleStore = candleStore;
+        this.consumerFactory = consumerFactory;
+        this.keyedConsumerFactory = keyedConsumerFactory;
+        this.influxDbService = influxDbService;
+    }
+
+    @PostConstruct
+    public void warmStart() {
+        Mode mode = Mode.from(modeName);
+        if (mode == Mode.NONE) {
+            log.info("Warm start disabled - candle store starts empty");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            switch (mode) {
+                case REPLAY_LAST -> {
+                    replaySnapshotTopic();
+                    if (keyedEnabled) {
+                        replayKeyedTopic();
+                    }
+                }
+                case INFLUXDB -> loadFromInfluxDb();
+                default -> { }
+            }
+        } catch (Exception e) {
+            log.warn("Warm start ({}) failed - starting cold", mode, e);
+        }
+        log.info("Warm start ({}) finished in {} ms: {} symbol(s), snapshot version {}",
+                mode, (System.nanoTime() - start) / 1_000_000,
+                candleStore.snapshot().size(), candleStore.snapshot().getVersion());
+    }
+
+    /**
+     * Returns the offset a listener should resume the partition from, once.
+     *
+     * @param partition The assigned partition
+     * @return The offset right after the replayed records, or null to seek to the end
+     */
+    public Long resumeOffset(TopicPartition partition) {
+        return resumeOffsets.remove(partition);
+    }
+
+    private void replaySnapshotTopic() {
+        try (Consumer<String, Map<String, OhlcvCandle>> consumer =
+                     consumerFactory.createConsumer(null, "-warm-start")) {
+            List<TopicPartition> partitions = assign(consumer, snapshotTopic);
+            if (partitions.isEmpty()) {
+                return;
+            }
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(partitions);
+            for (TopicPartition partition : partitions) {
+                long end = endOffsets.get(partition);
+                consumer.seek(partition, Math.max(beginningOffsets.get(partition), end - 1));
+            }
+
+            // Every record is a full snapshot: keep the newest one across partitions
+            ConsumerRecord<String, Map<String, OhlcvCandle>> newest = null;
+            long deadline = System.currentTimeMillis() + timeoutMs;
+            while (!caughtUp(consumer, endOffsets) && System.currentTimeMillis() < deadline) {
+                for (ConsumerRecord<String, Map<String, OhlcvCandle>> record : consumer.poll(Duration.ofMillis(200))) {
+                    if (record.value() != null && !record.value().isEmpty()
+                            && (newest == null || record.timestamp() >= newest.timestamp())) {
+                        newest = record;
+                    }
+                }
+            }
+            rememberPositions(consumer, partitions);
+
+            if (newest != null) {
+                CandleSnapshot snapshot = candleStore.replaceAll(newest.value());
+                log.info("Warm start replayed '{}' partition {} offset {}: {} symbol(s) as version {}",
+                        snapshotTopic, newest.partition(), newest.offset(), snapshot.size(), snapshot.getVersion());
+            } else {
+                log.info("Warm start found no records on '{}'", snapshotTopic);
+            }
+        }
+    }
+
+    private void replayKeyedTopic() {
+        try (Consumer<String, OhlcvCandle> consumer = keyedConsumerFactory.createConsumer(null, "-warm-start")) {
+            List<TopicPartition> partitions = assign(consumer, keyedTopic);
+            if (partitions.isEmpty()) {
+                return;
+            }
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            consumer.seekToBeginning(partitions);
+
+            // Newest record per symbol wins; a tombstone removes it again
+            Map<String, OhlcvCandle> updates = new HashMap<>();
+            Set<String> removals = new HashSet<>();
+            int records = 0;
+            long deadline = System.currentTimeMillis() + timeoutMs;
+            while (!caughtUp(consumer, endOffsets) && System.currentTimeMillis() < deadline) {
+                ConsumerRecords<String, OhlcvCandle> polled = consumer.poll(Duration.ofMillis(200));
+                for (ConsumerRecord<String, OhlcvCandle> record : polled) {
+                    records++;
+                    if (record.key() == null) {
+                        continue;
+                    }
+                    if (record.value() == null) {
+                        updates.remove(record.key());
+                        removals.add(record.key());
+                    } else {
+                        removals.remove(record.key());
+                        updates.put(record.key(), record.value());
+                    }
+                }
+            }
+            rememberPositions(consumer, partitions);
+
+            if (!updates.isEmpty() || !removals.isEmpty()) {
+                CandleSnapshot snapshot = candleStore.mergeAll(updates, removals);
+                log.info("Warm start replayed {} record(s) from '{}': {} symbol(s) as version {}",
+                        records, keyedTopic, updates.size(), snapshot.getVersion());
+            }
+        }
+    }
+
+    private void loadFromInfluxDb() {
+        Map<String, OhlcvCandle> candles = influxDbService.getLatestCandles(Duration.ofMinutes(influxLookbackMinutes));
+        if (candles.isEmpty()) {
+            log.info("Warm start found no candles in InfluxDB within the last {} minute(s)", influxLookbackMinutes);
+            return;
+        }
+        CandleSnapshot snapshot = candleStore.replaceAll(candles);
+        log.info("Warm start loaded {} symbol(s) from InfluxDB as version {}", snapshot.size(), snapshot.getVersion());
+    }
+
+    private List<TopicPartition> assign(Consumer<?, ?> consumer, String topic) {
+        List<PartitionInfo> infos = consumer.partitionsFor(topic, Duration.ofMillis(timeoutMs));
+        List<TopicPartition> partitions = new ArrayList<>();
+        if (infos != null) {
+            for (PartitionInfo info : infos) {
+                partitions.add(new TopicPartition(info.topic(), info.partition()));
+            }
+        }
+        consumer.assign(partitions);
+        return partitions;
+    }
+
+    private static boolean caughtUp(Consumer<?, ?> consumer, Map<TopicPartition, Long> endOffsets) {
+        for (Map.Entry<TopicPartition, Long> entry : endOffsets.entrySet()) {
+            if (consumer.position(entry.getKey()) < entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rememberPositions(Consumer<?, ?> consumer, List<TopicPartition> partitions) {
+        for (TopicPartition partition : partitions) {
+            resumeOffsets.put(partition, consumer.position(partition));
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package ca.digilogue.xp.store;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Persistent (immutable, structurally shared) map of symbol to latest candle,
+ * used as the candle collection of every CandleSnapshot.
+ *
+ * Candles are stored in a 32-way trie indexed by SymbolRegistry id. A new version
+ * is made with an Editor, which copies only the nodes on the paths of the ids it
+ * changes (each node at most once per edit) and shares everything else with the
+ * previous version. Publishing a k-symbol delta therefore costs O(k) instead of a
+ * copy of the whole universe, and two versions can be diffed by skipping shared
+ * subtrees (see diff).
+ *
+ * Iteration order is symbol id order, i.e. the order in which symbols were first
+ * registered.
+ */
+final class CandleMap extends AbstractMap<String, OhlcvCandle> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private final SymbolRegistry symbols;
+    private final Node root;
+    private final int shift;
+    private final int size;
+    private Set<Map.Entry<String, OhlcvCandle>> entrySet;
+
+    private CandleMap(SymbolRegistry symbols, Node root, int shift, int size) {
+        this.symbols = symbols;
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    /**
+     * @param symbols Registry resolving symbols to the ids used as trie indexes
+     * @return An empty map
+     */
+    static CandleMap empty(SymbolRegistry symbols) {
+        return new CandleMap(symbols, new Node(null, new Object[WIDTH]), 0, 0);
+    }
+
+    /**
+     * @return An editor starting from this map's contents (this map is not modified)
+     */
+    Editor edit() {
+        return new Editor(this);
+    }
+
+    @Override
+    public OhlcvCandle get(Object key) {
+        return size > 0 && key instanceof String symbol ? get(symbols.find(symbol)) : null;
+    }
+
+    /**
+     * @param id A SymbolRegistry id
+     * @return The candle of the symbol, or null if the map does not contain it
+     */
+    OhlcvCandle get(int id) {
+        Object[] leaf = leaf(root, shift, id);
+        return leaf != null ? (OhlcvCandle) leaf[id & MASK] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super OhlcvCandle> action) {
+        for (int id = nextId(0); id >= 0; id = nextId(id + 1L)) {
+            action.accept(symbols.nameOf(id), get(id));
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, OhlcvCandle>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * Reports every symbol whose candle differs between two maps sharing one
+     * registry. Subtrees that both maps share are skipped, so maps derived from
+     * one another cost time proportional to the nodes that were copied in between.
+     * Candles are compared by identity (the store keeps the old instance when an
+     * update carries an identical candle).
+     *
+     * @param from    The older map
+     * @param to      The newer map
+     * @param visitor Receives changed and removed symbols, in id order
+     */
+    static void diff(CandleMap from, CandleMap to, DiffVisitor visitor) {
+        int shift = Math.max(from.shift, to.shift);
+        diff(lift(from.root, from.shift, shift), lift(to.root, to.shift, shift), shift, 0, to.symbols, visitor);
+    }
+
+    /**
+     * A trie grows by putting its root under a new one as the first child, so a
+     * shallower root is equivalent to that chain of first children.
+     */
+    private static Node lift(Node root, int shift, int targetShift) {
+        Node node = root;
+        for (int level = shift; level < targetShift; level += BITS) {
+            Object[] array = new Object[WIDTH];
+            array[0] = node;
+            node = new Node(null, array);
+        }
+        return node;
+    }
+
+    private static void diff(Node a, Node b, int level, int base, SymbolRegistry symbols, DiffVisitor visitor) {
+        if (a == b) {
+            return;
+        }
+        for (int i = 0; i < WIDTH; i++) {
+            Object x = a != null ? a.array[i] : null;
+            Object y = b != null ? b.array[i] : null;
+            if (x == y) {
+                continue;
+            }
+            int id = base + (i << level);
+            if (level > 0) {
+                diff((Node) x, (Node) y, level - BITS, id, symbols, visitor);
+            } else if (y != null) {
+                visitor.changed(symbols.nameOf(id), (OhlcvCandle) y);
+            } else {
+                visitor.removed(symbols.nameOf(id));
+            }
+        }
+    }
+
+    /**
+     * @return The smallest id at or after start that has a candle, or -1
+     */
+    private int nextId(long start) {
+        long capacity = 1L << (shift + BITS);
+        long id = start;
+        while (id < capacity) {
+            Object[] leaf = leaf(root, shift, (int) id);
+            if (leaf != null) {
+                for (int i = (int) (id & MASK); i < WIDTH; i++) {
+                    if (leaf[i] != null) {
+                        return (int) ((id & ~MASK) + i);
+                    }
+                }
+            }
+            id = (id | MASK) + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return The leaf array holding the id, or null if the id is outside the trie
+     */
+    private static Object[] leaf(Node root, int shift, int id) {
+        if (id < 0 || id >= 1L << (shift + BITS)) {
+            return null;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(id >>> level) & MASK];
+            if (node == null) {
+                return null;
+            }
+        }
+        return node.array;
+    }
+
+    /**
+     * Receives the differences found by diff().
+     */
+    interface DiffVisitor {
+        void changed(String symbol, OhlcvCandle candle);
+
+        void removed(String symbol);
+    }
+
+    /**
+     * Builds a new map from an existing one. Nodes created by this editor are
+     * tagged with its token and modified in place; shared nodes are copied first.
+     * Not thread-safe, and must not be used after build().
+     */
+    static final class Editor {
+        private final Object token = new Object();
+        private final SymbolRegistry symbols;
+        private Node root;
+        private int shift;
+        private int size;
+
+        private Editor(CandleMap from) {
+            this.symbols = from.symbols;
+            this.root = from.root;
+            this.shift = from.shift;
+            this.size = from.size;
+        }
+
+        OhlcvCandle get(int id) {
+            Object[] leaf = leaf(root, shift, id);
+            return leaf != null ? (OhlcvCandle) leaf[id & MASK] : null;
+        }
+
+        /**
+         * @return The previous candle of the id, or null
+         */
+        OhlcvCandle put(int id, OhlcvCandle candle) {
+            while (id >= 1L << (shift + BITS)) {
+                Object[] array = new Object[WIDTH];
+                array[0] = root;
+                root = new Node(token, array);
+                shift += BITS;
+            }
+            root = editable(root);
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                int index = (id >>> level) & MASK;
+                Node child = (Node) node.array[index];
+                child = child != null ? editable(child) : new Node(token, new Object[WIDTH]);
+                node.array[index] = child;
+                node = child;
+            }
+            OhlcvCandle old = (OhlcvCandle) node.array[id & MASK];
+            node.array[id & MASK] = candle;
+            if (old == null) {
+                size++;
+            }
+            return old;
+        }
+
+        /**
+         * @return The removed candle, or null if the symbol was not present
+         */
+        OhlcvCandle remove(String symbol) {
+            int id = symbols.find(symbol);
+            if (get(id) == null) {
+                return null;
+            }
+            root = editable(root);
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                int index = (id >>> level) & MASK;
+                Node child = editable((Node) node.array[index]);
+                node.array[index] = child;
+                node = child;
+            }
+            OhlcvCandle old = (OhlcvCandle) node.array[id & MASK];
+            node.array[id & MASK] = null;
+            size--;
+            return old;
+        }
+
+        CandleMap build() {
+            return new CandleMap(symbols, root, shift, size);
+        }
+
+        private Node editable(Node node) {
+            return node.edit == token ? node : new Node(token, node.array.clone());
+        }
+    }
+
+    private static final class Node {
+        private final Object edit;
+        private final Object[] array;
+
+        private Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, OhlcvCandle>> {
+        @Override
+        public Iterator<Map.Entry<String, OhlcvCandle>> iterator() {
+            return new Iterator<>() {
+                private int next = nextId(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public Map.Entry<String, OhlcvCandle> next() {
+                    if (next < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    int id = next;
+                    next = nextId(id + 1L);
+                    return new SimpleImmutableEntry<>(symbols.nameOf(id), get(id));
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
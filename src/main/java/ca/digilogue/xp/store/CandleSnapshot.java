@@ -0,0 +1,83 @@
+package ca.digilogue.xp.store;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable view of the latest OHLCV candles at a point in time.
+ * Every publish to the CandleStore produces a new snapshot with a strictly
+ * increasing version, so readers can tell whether anything changed since
+ * the last snapshot they looked at. It also records which symbols changed or
+ * disappeared compared to the previous version.
+ */
+public final class CandleSnapshot {
+
+    static final CandleSnapshot EMPTY = new CandleSnapshot(
+            0L, Collections.emptyMap(), Collections.emptySet(), Collections.emptySet(), Instant.EPOCH);
+
+    private final long version;
+    private final Map<String, OhlcvCandle> candles;
+    private final Set<String> changedSymbols;
+    private final Set<String> removedSymbols;
+    private final Instant publishedAt;
+
+    CandleSnapshot(long version, Map<String, OhlcvCandle> candles,
+                   Set<String> changedSymbols, Set<String> removedSymbols, Instant publishedAt) {
+        this.version = version;
+        this.candles = candles;
+        this.changedSymbols = changedSymbols;
+        this.removedSymbols = removedSymbols;
+        this.publishedAt = publishedAt;
+    }
+
+    /**
+     * @return Monotonically increasing version (0 means nothing has been published yet)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return Unmodifiable map of symbol to latest candle (in symbol id order)
+     */
+    public Map<String, OhlcvCandle> getCandles() {
+        return candles;
+    }
+
+    /**
+     * @return Unmodifiable set of symbols that are new or whose candle differs from the previous version
+     */
+    public Set<String> getChangedSymbols() {
+        return changedSymbols;
+    }
+
+    /**
+     * @return Unmodifiable set of symbols present in the previous version but not in this one
+     */
+    public Set<String> getRemovedSymbols() {
+        return removedSymbols;
+    }
+
+    /**
+     * @return When this snapshot was published to the store
+     */
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    public OhlcvCandle get(String symbol) {
+        return candles.get(symbol);
+    }
+
+    public int size() {
+        return candles.size();
+    }
+
+    public boolean isEmpty() {
+        return candles.isEmpty();
+    }
+}
@@ -0,0 +1,427 @@
+package ca.digilogue.xp.store;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Local snapshot file of the latest candles, for fast recovery after a restart
+ * without depending on Kafka replay or InfluxDB.
+ *
+ * Every interval-ms the CandleStore is appended to a single file as one
+ * CRC-protected record, if the snapshot version changed since the last write.
+ * Most records are deltas: only the symbols that changed or were removed since
+ * the previous record (found by diffing the two snapshots' CandleMaps, which
+ * skips everything they share). Every checkpoint-every-th record, and whenever
+ * the file is compacted, a full checkpoint of all candles is written instead.
+ *
+ * On startup the file is read with positional reads and scanned; the last full
+ * checkpoint with a valid CRC is loaded, the valid deltas after it are applied,
+ * and the result goes into the store. A torn or corrupt tail (e.g. crash during a
+ * write) is cut off afterwards. The file is not memory-mapped, because a mapped
+ * file cannot be truncated on Windows. Symbols longer than 65535 UTF-8 bytes do
+ * not fit the record layout and are not persisted.
+ * When the file grows beyond app.snapshot-file.max-bytes it is compacted down to
+ * one full checkpoint via a temp file and an atomic rename.
+ *
+ * Record layout (big-endian):
+ * <pre>
+ *   int    magic ('CSNP' = full checkpoint, 'CSND' = delta)
+ *   int    body length
+ *   body:  long   snapshot version
+ *          long   written at (epoch ms)
+ *          int    candle count (all candles, or the changed ones in a delta)
+ *          per candle:
+ *            short  symbol length, bytes symbol (UTF-8)
+ *            double open, high, low, close, volume
+ *            long   timestamp epoch seconds (Long.MIN_VALUE = none), int nanos
+ *          delta only:
+ *          int    removed symbol count
+ *          per removed symbol: short symbol length, bytes symbol (UTF-8)
+ *   int    CRC32C of body
+ * </pre>
+ */
+@Component
+public class CandleSnapshotFile {
+
+    private static final Logger log = LoggerFactory.getLogger(CandleSnapshotFile.class);
+
+    private static final int MAGIC = 0x43534E50;
+    private static final int DELTA_MAGIC = 0x43534E44;
+    private static final int HEADER_BYTES = 8;
+    private static final int TRAILER_BYTES = 4;
+    private static final int FIXED_CANDLE_BYTES = 2 + 5 * 8 + 8 + 4;
+    private static final int MAX_SYMBOL_BYTES = 0xFFFF;
+
+    @Value("${app.snapshot-file.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.snapshot-file.dir:./data}")
+    private String directory;
+
+    @Value("${app.snapshot-file.name:latest-candles.snap}")
+    private String fileName;
+
+    @Value("${app.snapshot-file.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${app.snapshot-file.fsync:true}")
+    private boolean fsync;
+
+    @Value("${app.snapshot-file.checkpoint-every:60}")
+    private int checkpointEvery;
+
+    private final CandleStore candleStore;
+    private final Object fileLock = new Object();
+
+    private Path file;
+    private ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+    private long lastWrittenVersion = -1;
+    private Map<String, OhlcvCandle> lastWrittenCandles;
+    private int deltasSinceCheckpoint;
+
+    public CandleSnapshotFile(CandleStore candleStore) {
+        this.candleStore = candleStore;
+    }
+
+    /**
+     * Loads the newest valid record into the CandleStore (before any consumer starts).
+     */
+    @PostConstruct
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        file = Paths.get(directory).resolve(fileName);
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(file.getParent());
+            if (!Files.exists(file)) {
+                log.info("No candle snapshot file at {} - starting empty", file);
+                return;
+            }
+
+            ByteBuffer contents;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    log.warn("Candle snapshot file {} is too large to read ({} bytes) - ignoring it", file, size);
+                    return;
+                }
+                contents = ByteBuffer.allocate((int) size);
+                while (contents.hasRemaining()) {
+                    if (channel.read(contents, contents.position()) < 0) {
+                        break;
+                    }
+                }
+                contents.flip();
+            }
+
+            int position = 0;
+            long version = -1;
+            Map<String, OhlcvCandle> candles = null;
+            int deltas = 0;
+            while (true) {
+                int bodyLength = validRecordBodyLength(contents, position);
+                if (bodyLength < 0) {
+                    break;
+                }
+                ByteBuffer body = contents.duplicate().position(position + HEADER_BYTES);
+                if (contents.getInt(position) == MAGIC) {
+                    candles = new LinkedHashMap<>();
+                    version = body.getLong();
+                    readCandles(body, candles);
+                    deltas = 0;
+                } else if (candles != null) {
+                    version = body.getLong();
+                    readCandles(body, candles);
+                    for (int i = body.getInt(); i > 0; i--) {
+                        candles.remove(readSymbol(body));
+                    }
+                    deltas++;
+                }
+                position += HEADER_BYTES + bodyLength + TRAILER_BYTES;
+            }
+
+            if (candles != null && !candles.isEmpty()) {
+                CandleSnapshot snapshot = candleStore.replaceAll(candles);
+                lastWrittenVersion = snapshot.getVersion();
+                lastWrittenCandles = snapshot.getCandles();
+                deltasSinceCheckpoint = deltas;
+                log.info("Loaded {} candle(s) (file version {}, {} delta(s)) from {} in {} µs",
+                        snapshot.size(), version, deltas, file, (System.nanoTime() - start) / 1_000);
+            }
+            if (position < contents.limit()) {
+                truncate(position, contents.limit() - position);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load candle snapshot file {} - starting empty", file, e);
+        }
+    }
+
+    /**
+     * Drops a torn tail so that later appends are reachable again. Failing to do so
+     * only costs a warning; the loaded candles are kept.
+     */
+    private void truncate(long validEnd, long invalidBytes) {
+        log.warn("Candle snapshot file {} has {} invalid trailing byte(s) - truncating", file, invalidBytes);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(validEnd);
+        } catch (IOException e) {
+            log.warn("Failed to truncate candle snapshot file {}", file, e);
+        }
+    }
+
+    /**
+     * Appends the changes since the last write (or a full checkpoint) if the
+     * snapshot version changed since then.
+     */
+    @Scheduled(fixedDelayString = "${app.snapshot-file.interval-ms:5000}")
+    public void persist() {
+        if (!enabled || file == null) {
+            return;
+        }
+        synchronized (fileLock) {
+            CandleSnapshot snapshot = candleStore.snapshot();
+            if (snapshot.getVersion() == lastWrittenVersion || (lastWrittenCandles == null && snapshot.isEmpty())) {
+                return;
+            }
+            try {
+                boolean exists = Files.exists(file);
+                Delta delta = exists && deltasSinceCheckpoint < checkpointEvery ? delta(snapshot) : null;
+                if (delta != null && delta.isEmpty()) {
+                    lastWrittenVersion = snapshot.getVersion();
+                    lastWrittenCandles = snapshot.getCandles();
+                    return;
+                }
+                ByteBuffer record = delta != null
+                        ? encode(DELTA_MAGIC, snapshot.getVersion(), delta.changed, delta.removed)
+                        : encode(MAGIC, snapshot.getVersion(), snapshot.getCandles().entrySet(), null);
+                if (exists && Files.size(file) + record.remaining() > maxBytes) {
+                    if (delta != null) {
+                        record = encode(MAGIC, snapshot.getVersion(), snapshot.getCandles().entrySet(), null);
+                        delta = null;
+                    }
+                    compact(record);
+                } else {
+                    append(file, record, StandardOpenOption.APPEND);
+                }
+                lastWrittenVersion = snapshot.getVersion();
+                lastWrittenCandles = snapshot.getCandles();
+                deltasSinceCheckpoint = delta != null ? deltasSinceCheckpoint + 1 : 0;
+                log.debug("Persisted candle snapshot version {} ({}) to {}", snapshot.getVersion(),
+                        delta != null ? delta.changed.size() + " changed, " + delta.removed.size() + " removed"
+                                : snapshot.size() + " symbols", file);
+            } catch (IOException e) {
+                log.error("Failed to persist candle snapshot version {} to {}", snapshot.getVersion(), file, e);
+            }
+        }
+    }
+
+    /**
+     * @return The changes since the last written snapshot, or null if a full checkpoint is needed
+     */
+    private Delta delta(CandleSnapshot snapshot) {
+        if (!(lastWrittenCandles instanceof CandleMap from) || !(snapshot.getCandles() instanceof CandleMap to)) {
+            return null;
+        }
+        Delta delta = new Delta();
+        CandleMap.diff(from, to, delta);
+        return delta;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persist();
+    }
+
+    /**
+     * Replaces the file with one that only holds the given record.
+     */
+    private void compact(ByteBuffer record) throws IOException {
+        Path tmp = file.resolveSibling(fileName + ".tmp");
+        append(tmp, record, StandardOpenOption.TRUNCATE_EXISTING);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Compacted candle snapshot file {}", file);
+    }
+
+    private void append(Path target, ByteBuffer record, StandardOpenOption mode) throws IOException {
+        try (FileChannel channel = FileChannel.open(target,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * @param removed Removed symbols (delta records only, null for a full checkpoint)
+     */
+    private ByteBuffer encode(int magic, long version, Collection<Map.Entry<String, OhlcvCandle>> candles,
+                              Collection<String> removed) {
+        int capacity = HEADER_BYTES + 24 + TRAILER_BYTES;
+        for (Map.Entry<String, OhlcvCandle> entry : candles) {
+            capacity += FIXED_CANDLE_BYTES + entry.getKey().length() * 3;
+        }
+        if (removed != null) {
+            for (String symbol : removed) {
+                capacity += 2 + symbol.length() * 3;
+            }
+        }
+        if (buffer.capacity() < capacity) {
+            buffer = ByteBuffer.allocate(Math.max(capacity, buffer.capacity() * 2));
+        }
+        ByteBuffer out = buffer.clear();
+
+        out.putInt(magic).putInt(0);
+        int bodyStart = out.position();
+        out.putLong(version);
+        out.putLong(System.currentTimeMillis());
+        int countPosition = out.position();
+        out.putInt(0);
+        int count = 0;
+        for (Map.Entry<String, OhlcvCandle> entry : candles) {
+            byte[] symbol = symbolBytes(entry.getKey());
+            if (symbol == null) {
+                continue;
+            }
+            OhlcvCandle candle = entry.getValue();
+            out.putShort((short) symbol.length).put(symbol);
+            out.putDouble(candle.getOpen()).putDouble(candle.getHigh()).putDouble(candle.getLow())
+                    .putDouble(candle.getClose()).putDouble(candle.getVolume());
+            Instant timestamp = candle.getTimestamp();
+            out.putLong(timestamp != null ? timestamp.getEpochSecond() : Long.MIN_VALUE);
+            out.putInt(timestamp != null ? timestamp.getNano() : 0);
+            count++;
+        }
+        out.putInt(countPosition, count);
+        if (removed != null) {
+            countPosition = out.position();
+            out.putInt(0);
+            count = 0;
+            for (String removedSymbol : removed) {
+                byte[] symbol = symbolBytes(removedSymbol);
+                if (symbol != null) {
+                    out.putShort((short) symbol.length).put(symbol);
+                    count++;
+                }
+            }
+            out.putInt(countPosition, count);
+        }
+        int bodyLength = out.position() - bodyStart;
+        out.putInt(bodyStart - 4, bodyLength);
+
+        CRC32C crc = new CRC32C();
+        crc.update(out.duplicate().position(bodyStart).limit(bodyStart + bodyLength));
+        out.putInt((int) crc.getValue());
+        return out.flip();
+    }
+
+    /**
+     * @return The UTF-8 bytes of the symbol, or null if it is too long for the record layout
+     */
+    private byte[] symbolBytes(String symbol) {
+        byte[] bytes = symbol.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_SYMBOL_BYTES) {
+            log.warn("Not persisting a symbol with {} bytes (at most {}) to {}", bytes.length, MAX_SYMBOL_BYTES, file);
+            return null;
+        }
+        return bytes;
+    }
+
+    /**
+     * @return The body length of a complete record with a valid CRC at the position, or -1
+     */
+    private static int validRecordBodyLength(ByteBuffer file, int position) {
+        if (file.limit() - position < HEADER_BYTES + TRAILER_BYTES
+                || (file.getInt(position) != MAGIC && file.getInt(position) != DELTA_MAGIC)) {
+            return -1;
+        }
+        int bodyLength = file.getInt(position + 4);
+        int bodyStart = position + HEADER_BYTES;
+        if (bodyLength < 20 || bodyLength > file.limit() - bodyStart - TRAILER_BYTES) {
+            return -1;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(file.duplicate().position(bodyStart).limit(bodyStart + bodyLength));
+        return (int) crc.getValue() == file.getInt(bodyStart + bodyLength) ? bodyLength : -1;
+    }
+
+    /**
+     * Reads the candles of a record body positioned after the version into the map.
+     */
+    private static void readCandles(ByteBuffer body, Map<String, OhlcvCandle> candles) {
+        body.getLong(); // written at
+        int count = body.getInt();
+        for (int i = 0; i < count; i++) {
+            String symbol = readSymbol(body);
+            double open = body.getDouble();
+            double high = body.getDouble();
+            double low = body.getDouble();
+            double close = body.getDouble();
+            double volume = body.getDouble();
+            long seconds = body.getLong();
+            int nanos = body.getInt();
+            Instant timestamp = seconds == Long.MIN_VALUE ? null : Instant.ofEpochSecond(seconds, nanos);
+            OhlcvCandle candle = new OhlcvCandle(symbol, open, high, low, close, volume, timestamp);
+            if (timestamp == null) {
+                candle.setTimestamp(null);
+            }
+            candles.put(symbol, candle);
+        }
+    }
+
+    private static String readSymbol(ByteBuffer body) {
+        byte[] symbolBytes = new byte[body.getShort() & 0xFFFF];
+        body.get(symbolBytes);
+        return new String(symbolBytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Changed and removed symbols between two written snapshots.
+     */
+    private static final class Delta implements CandleMap.DiffVisitor {
+        private final List<Map.Entry<String, OhlcvCandle>> changed = new ArrayList<>();
+        private final List<String> removed = new ArrayList<>();
+
+        @Override
+        public void changed(String symbol, OhlcvCandle candle) {
+            changed.add(new AbstractMap.SimpleImmutableEntry<>(symbol, candle));
+        }
+
+        @Override
+        public void removed(String symbol) {
+            removed.add(symbol);
+        }
+
+        boolean isEmpty() {
+            return changed.isEmpty() && removed.isEmpty();
+        }
+    }
+}
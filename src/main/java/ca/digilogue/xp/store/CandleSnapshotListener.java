@@ -0,0 +1,15 @@
+package ca.digilogue.xp.store;
+
+/**
+ * Callback invoked by the CandleStore every time a new snapshot is published.
+ * Listeners run on the publishing (ingest) thread, so they must be quick and
+ * must never block.
+ */
+@FunctionalInterface
+public interface CandleSnapshotListener {
+
+    /**
+     * @param snapshot The snapshot that was just published
+     */
+    void onSnapshot(CandleSnapshot snapshot);
+}
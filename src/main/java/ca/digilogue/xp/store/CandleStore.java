@@ -0,0 +1,252 @@
+package ca.digilogue.xp.store;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+/**
+ * Holds the latest OHLCV candle per symbol as consumed from Kafka.
+ *
+ * The state is published as an immutable CandleSnapshot through a single atomic
+ * reference swap. Readers never take a lock and never observe a half-applied
+ * update, and ingest never waits on readers (e.g. slow gRPC stream builders).
+ * A snapshot's candles are a CandleMap that shares every unchanged symbol with
+ * the previous version, so publishing a delta copies only what changed.
+ * Writers are serialized so that versions are contiguous and registered
+ * CandleSnapshotListeners see them strictly in order. Listeners run under the
+ * write lock, so merging and listener fan-out do not get faster with more
+ * ingest threads; callers can observe how long they waited for the lock
+ * through the lockWaitNanos overloads.
+ *
+ * Symbol keys are canonicalized through the SymbolRegistry, so every symbol
+ * known to the store also has an id (already-canonical keys from the Kafka
+ * decoders resolve by identity).
+ */
+@Component
+public class CandleStore {
+
+    private static final Logger log = LoggerFactory.getLogger(CandleStore.class);
+    private static final LongConsumer NO_LOCK_WAIT = nanos -> { };
+
+    private final AtomicReference<CandleSnapshot> current = new AtomicReference<>(CandleSnapshot.EMPTY);
+    private final List<CandleSnapshotListener> listeners = new CopyOnWriteArrayList<>();
+    private final Object writeLock = new Object();
+    private final SymbolRegistry symbols;
+
+    public CandleStore(SymbolRegistry symbols) {
+        this.symbols = symbols;
+    }
+
+    /**
+     * Registers a listener that is notified after every published snapshot.
+     *
+     * @param listener The listener to add
+     */
+    public void addListener(CandleSnapshotListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @param listener The listener to remove
+     */
+    public void removeListener(CandleSnapshotListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the current snapshot. The returned object never changes,
+     * so callers can read from it as long as they like.
+     *
+     * @return The latest published snapshot (never null)
+     */
+    public CandleSnapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Gets the latest candle for a symbol.
+     *
+     * @param symbol The trading symbol (e.g., "MEGA-USD")
+     * @return The latest candle, or null if the symbol is unknown
+     */
+    public OhlcvCandle getLatestCandle(String symbol) {
+        return current.get().get(symbol);
+    }
+
+    /**
+     * Replaces the whole candle collection with the given one and publishes
+     * it as a new snapshot version.
+     *
+     * @param candles Map of symbol to OHLCV candle (the entire collection)
+     * @return The newly published snapshot
+     */
+    public CandleSnapshot replaceAll(Map<String, OhlcvCandle> candles) {
+        return replaceAll(candles, NO_LOCK_WAIT);
+    }
+
+    /**
+     * Same as replaceAll(candles), reporting the time spent waiting for the write lock.
+     *
+     * @param candles       Map of symbol to OHLCV candle (the entire collection)
+     * @param lockWaitNanos Receives the lock wait in nanoseconds, after the lock is released
+     * @return The newly published snapshot
+     */
+    public CandleSnapshot replaceAll(Map<String, OhlcvCandle> candles, LongConsumer lockWaitNanos) {
+        int[] ids = new int[candles.size()];
+        OhlcvCandle[] values = new OhlcvCandle[candles.size()];
+        int count = 0;
+        for (Map.Entry<String, OhlcvCandle> entry : candles.entrySet()) {
+            if (entry.getKey() != null && entry.getValue() != null) {
+                ids[count] = symbols.idOf(entry.getKey());
+                values[count++] = entry.getValue();
+            }
+        }
+
+        CandleSnapshot snapshot;
+        long waitStart = System.nanoTime();
+        long waited;
+        synchronized (writeLock) {
+            waited = System.nanoTime() - waitStart;
+            CandleSnapshot previous = current.get();
+            CandleMap previousCandles = candleMap(previous);
+            CandleMap.Editor editor = previousCandles.edit();
+
+            Set<String> changed = new LinkedHashSet<>();
+            for (int i = 0; i < count; i++) {
+                if (!isSameCandle(editor.get(ids[i]), values[i])) {
+                    editor.put(ids[i], values[i]);
+                    changed.add(symbols.nameOf(ids[i]));
+                }
+            }
+            Set<String> removed = new LinkedHashSet<>();
+            previousCandles.forEach((symbol, candle) -> {
+                if (candles.get(symbol) == null) {
+                    editor.remove(symbol);
+                    removed.add(symbol);
+                }
+            });
+
+            snapshot = publish(previous, editor.build(), changed, removed);
+        }
+        lockWaitNanos.accept(waited);
+        return snapshot;
+    }
+
+    /**
+     * Merges individual symbol updates into the current collection and publishes
+     * the result as a new snapshot version (per-symbol keyed ingest). Symbols not
+     * mentioned keep their current candle.
+     *
+     * The new version shares all untouched symbols with the previous one (see
+     * CandleMap), so the cost depends on the number of updates, not on the
+     * number of symbols in the store.
+     *
+     * @param updates  Map of symbol to its new candle
+     * @param removals Symbols to remove (e.g. Kafka tombstones)
+     * @return The newly published snapshot
+     */
+    public CandleSnapshot mergeAll(Map<String, OhlcvCandle> updates, Collection<String> removals) {
+        return mergeAll(updates, removals, NO_LOCK_WAIT);
+    }
+
+    /**
+     * Same as mergeAll(updates, removals), reporting the time spent waiting for the write lock.
+     *
+     * @param updates       Map of symbol to its new candle
+     * @param removals      Symbols to remove (e.g. Kafka tombstones)
+     * @param lockWaitNanos Receives the lock wait in nanoseconds, after the lock is released
+     * @return The newly published snapshot
+     */
+    public CandleSnapshot mergeAll(Map<String, OhlcvCandle> updates, Collection<String> removals,
+                                   LongConsumer lockWaitNanos) {
+        CandleSnapshot snapshot;
+        long waitStart = System.nanoTime();
+        long waited;
+        synchronized (writeLock) {
+            waited = System.nanoTime() - waitStart;
+            CandleSnapshot previous = current.get();
+            CandleMap.Editor editor = candleMap(previous).edit();
+
+            Set<String> changed = new LinkedHashSet<>();
+            for (Map.Entry<String, OhlcvCandle> entry : updates.entrySet()) {
+                if (entry.getKey() == null || entry.getValue() == null) {
+                    continue;
+                }
+                int id = symbols.idOf(entry.getKey());
+                if (!isSameCandle(editor.get(id), entry.getValue())) {
+                    editor.put(id, entry.getValue());
+                    changed.add(symbols.nameOf(id));
+                }
+            }
+            Set<String> removed = new LinkedHashSet<>();
+            for (String symbol : removals) {
+                if (!updates.containsKey(symbol) && editor.remove(symbol) != null) {
+                    removed.add(symbols.nameOf(symbols.find(symbol)));
+                }
+            }
+
+            snapshot = publish(previous, editor.build(), changed, removed);
+        }
+        lockWaitNanos.accept(waited);
+        return snapshot;
+    }
+
+    private CandleMap candleMap(CandleSnapshot snapshot) {
+        return snapshot.getCandles() instanceof CandleMap candles ? candles : CandleMap.empty(symbols);
+    }
+
+    /**
+     * Swaps in the new snapshot and notifies listeners. Must hold writeLock.
+     */
+    private CandleSnapshot publish(CandleSnapshot previous, Map<String, OhlcvCandle> candles,
+                                   Set<String> changed, Set<String> removed) {
+        CandleSnapshot snapshot = new CandleSnapshot(previous.getVersion() + 1, candles,
+                Collections.unmodifiableSet(changed), Collections.unmodifiableSet(removed), Instant.now());
+        current.set(snapshot);
+
+        log.debug("Published candle snapshot version {} with {} symbols ({} changed, {} removed)",
+                snapshot.getVersion(), snapshot.size(), changed.size(), removed.size());
+        notifyListeners(snapshot);
+        return snapshot;
+    }
+
+    private static boolean isSameCandle(OhlcvCandle a, OhlcvCandle b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return false;
+        }
+        return Double.compare(a.getOpen(), b.getOpen()) == 0
+                && Double.compare(a.getHigh(), b.getHigh()) == 0
+                && Double.compare(a.getLow(), b.getLow()) == 0
+                && Double.compare(a.getClose(), b.getClose()) == 0
+                && Double.compare(a.getVolume(), b.getVolume()) == 0
+                && Objects.equals(a.getTimestamp(), b.getTimestamp())
+                && Objects.equals(a.getSymbol(), b.getSymbol());
+    }
+
+    private void notifyListeners(CandleSnapshot snapshot) {
+        for (CandleSnapshotListener listener : listeners) {
+            try {
+                listener.onSnapshot(snapshot);
+            } catch (Exception e) {
+                // Don't let one listener break ingest or starve the others
+                log.error("Candle snapshot listener failed for version {}", snapshot.getVersion(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package ca.digilogue.xp.store;
+
+/**
+ * Reusable flyweight over one row of the ColumnarCandleStore.
+ *
+ * A view is filled by ColumnarCandleStore.read() with a consistent copy of the
+ * row's primitives, so callers can read many candles without allocating. Views
+ * are not thread-safe; keep one per thread or per request.
+ */
+public final class CandleView {
+
+    int symbolId = -1;
+    String symbol;
+    double open;
+    double high;
+    double low;
+    double close;
+    double volume;
+    long timestampNanos;
+
+    public int getSymbolId() {
+        return symbolId;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public double getOpen() {
+        return open;
+    }
+
+    public double getHigh() {
+        return high;
+    }
+
+    public double getLow() {
+        return low;
+    }
+
+    public double getClose() {
+        return close;
+    }
+
+    public double getVolume() {
+        return volume;
+    }
+
+    /**
+     * @return Candle timestamp in nanoseconds since epoch
+     */
+    public long getTimestampNanos() {
+        return timestampNanos;
+    }
+}
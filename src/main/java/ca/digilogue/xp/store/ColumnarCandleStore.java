@@ -0,0 +1,257 @@
+package ca.digilogue.xp.store;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Optional primitive, column-oriented copy of the latest candles
+ * (app.store.columnar.enabled).
+ *
+ * Rows are indexed by the dense symbol ids of the SymbolRegistry; every field
+ * lives in its own primitive column. Updates overwrite a row in place without
+ * allocating, and readers copy a row into a reusable CandleView instead of
+ * dereferencing an OhlcvCandle and its Instant.
+ *
+ * This is a mirror, not a replacement: the CandleStore remains the source of
+ * truth, so ingest still allocates its candles and the mirror adds one row
+ * write per changed symbol on top (see CandleStoreBenchmark).
+ *
+ * Each row is guarded by a sequence lock: the writer makes the row's sequence odd,
+ * writes the fields and makes it even again; a reader retries if the sequence was
+ * odd or changed while it copied. Writers are serialized, readers never block.
+ *
+ * When enabled it follows the CandleStore (only changed and removed symbols are
+ * touched per snapshot), and getLatestCandle is served from it.
+ */
+@Component
+public class ColumnarCandleStore implements CandleSnapshotListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarCandleStore.class);
+
+    private static final VarHandle SEQ = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    @Value("${app.store.columnar.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.store.columnar.initial-capacity:1024}")
+    private int initialCapacity;
+
+    private final CandleStore candleStore;
+    private final SymbolRegistry symbols;
+    private final Object writeLock = new Object();
+
+    private volatile Columns columns;
+
+    public ColumnarCandleStore(CandleStore candleStore, SymbolRegistry symbols) {
+        this.candleStore = candleStore;
+        this.symbols = symbols;
+        this.columns = new Columns(16);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        columns = new Columns(Math.max(16, initialCapacity));
+        candleStore.addListener(this);
+        Map<String, OhlcvCandle> current = candleStore.snapshot().getCandles();
+        apply(current, current.keySet());
+        log.info("Columnar candle store enabled (initial capacity: {})", columns.capacity());
+    }
+
+    /**
+     * @return True if the columnar store is enabled and follows the CandleStore
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void onSnapshot(CandleSnapshot snapshot) {
+        apply(snapshot.getCandles(), snapshot.getChangedSymbols());
+        for (String symbol : snapshot.getRemovedSymbols()) {
+            remove(symbol);
+        }
+    }
+
+    private void apply(Map<String, OhlcvCandle> candles, Iterable<String> symbols) {
+        for (String symbol : symbols) {
+            OhlcvCandle candle = candles.get(symbol);
+            if (candle != null) {
+                Instant timestamp = candle.getTimestamp();
+                update(symbol, candle.getOpen(), candle.getHigh(), candle.getLow(), candle.getClose(),
+                        candle.getVolume(),
+                        timestamp != null ? timestamp.getEpochSecond() * 1_000_000_000L + timestamp.getNano()
+                                : NO_TIMESTAMP);
+            }
+        }
+    }
+
+    /**
+     * Overwrites the row of a symbol in place.
+     */
+    public void update(String symbol, double open, double high, double low, double close,
+                       double volume, long timestampNanos) {
+        int id = symbols.idOf(symbol);
+        synchronized (writeLock) {
+            Columns c = columnsFor(id);
+            long seq = (long) SEQ.getVolatile(c.seq, id);
+            SEQ.setOpaque(c.seq, id, seq + 1);
+            VarHandle.storeStoreFence(); // the odd sequence must be visible before any field write
+            c.open[id] = open;
+            c.high[id] = high;
+            c.low[id] = low;
+            c.close[id] = close;
+            c.volume[id] = volume;
+            c.timestamp[id] = timestampNanos;
+            c.present[id] = true;
+            SEQ.setRelease(c.seq, id, seq + 2);
+        }
+    }
+
+    /**
+     * Marks the row of a symbol as absent (its id stays reserved).
+     */
+    public void remove(String symbol) {
+        int id = symbols.find(symbol);
+        if (id < 0 || id >= columns.size) {
+            return;
+        }
+        synchronized (writeLock) {
+            Columns c = columns;
+            long seq = (long) SEQ.getVolatile(c.seq, id);
+            SEQ.setOpaque(c.seq, id, seq + 1);
+            VarHandle.storeStoreFence(); // the odd sequence must be visible before any field write
+            c.present[id] = false;
+            SEQ.setRelease(c.seq, id, seq + 2);
+        }
+    }
+
+    /**
+     * Copies the current row of a symbol into the view.
+     *
+     * @param symbol The trading symbol
+     * @param view   The view to fill
+     * @return True if the symbol has a candle, false otherwise (view left unchanged)
+     */
+    public boolean read(String symbol, CandleView view) {
+        int id = symbols.find(symbol);
+        return id >= 0 && read(id, view);
+    }
+
+    /**
+     * Copies the current row of a symbol id into the view.
+     *
+     * @param id   The symbol id
+     * @param view The view to fill
+     * @return True if the id has a candle, false otherwise (view left unchanged)
+     */
+    public boolean read(int id, CandleView view) {
+        Columns c = columns;
+        if (id < 0 || id >= c.size) {
+            return false;
+        }
+        while (true) {
+            long before = (long) SEQ.getAcquire(c.seq, id);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            boolean present = c.present[id];
+            double open = c.open[id];
+            double high = c.high[id];
+            double low = c.low[id];
+            double close = c.close[id];
+            double volume = c.volume[id];
+            long timestamp = c.timestamp[id];
+            VarHandle.loadLoadFence();
+            if ((long) SEQ.getVolatile(c.seq, id) != before) {
+                continue;
+            }
+            if (!present) {
+                return false;
+            }
+            view.symbolId = id;
+            view.symbol = symbols.nameOf(id);
+            view.open = open;
+            view.high = high;
+            view.low = low;
+            view.close = close;
+            view.volume = volume;
+            view.timestampNanos = timestamp == NO_TIMESTAMP ? 0L : timestamp;
+            return true;
+        }
+    }
+
+    /**
+     * Returns columns that have a row for the id, growing them if needed. Must hold writeLock.
+     */
+    private Columns columnsFor(int id) {
+        Columns c = columns;
+        if (id < c.size) {
+            return c;
+        }
+        while (id >= c.capacity()) {
+            c = c.grow();
+        }
+        c.size = id + 1;
+        columns = c;
+        return c;
+    }
+
+    /**
+     * One generation of columns; replaced (copied) as a whole when it has to grow.
+     */
+    private static final class Columns {
+        final long[] seq;
+        final boolean[] present;
+        final double[] open;
+        final double[] high;
+        final double[] low;
+        final double[] close;
+        final double[] volume;
+        final long[] timestamp;
+        volatile int size;
+
+        Columns(int capacity) {
+            seq = new long[capacity];
+            present = new boolean[capacity];
+            open = new double[capacity];
+            high = new double[capacity];
+            low = new double[capacity];
+            close = new double[capacity];
+            volume = new double[capacity];
+            timestamp = new long[capacity];
+        }
+
+        int capacity() {
+            return seq.length;
+        }
+
+        Columns grow() {
+            Columns next = new Columns(capacity() * 2);
+            int n = size;
+            System.arraycopy(seq, 0, next.seq, 0, n);
+            System.arraycopy(present, 0, next.present, 0, n);
+            System.arraycopy(open, 0, next.open, 0, n);
+            System.arraycopy(high, 0, next.high, 0, n);
+            System.arraycopy(low, 0, next.low, 0, n);
+            System.arraycopy(close, 0, next.close, 0, n);
+            System.arraycopy(volume, 0, next.volume, 0, n);
+            System.arraycopy(timestamp, 0, next.timestamp, 0, n);
+            next.size = n;
+            return next;
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package ca.digilogue.xp.store;
+
+import ca.digilogue.xp.generator.OhlcvCandle;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Optional in-memory rolling history of the most recent candles of every symbol
+ * (app.store.history.enabled), so "last N candles" queries need no InfluxDB
+ * round trip.
+ *
+ * Each symbol, indexed by its SymbolRegistry id, has a ring of primitive columns
+ * that every ingested candle is appended to (a changed candle with the same
+ * timestamp as the newest entry, e.g. an updated forming bar, replaces it).
+ * The i-th most recent candle is one array index away.
+ *
+ * Rings start at initial-capacity slots and double, up to capacity, only once
+ * they are full, so rarely updated symbols stay small. Memory for all rings is
+ * bounded by memory-budget-bytes: a ring that cannot grow within the budget keeps
+ * its current size (and just keeps fewer candles), and a new symbol gets no ring
+ * if not even initial-capacity fits. Removed symbols keep their history.
+ *
+ * Like the ColumnarCandleStore, every ring is guarded by a sequence lock: the
+ * single writer (the CandleStore listener) makes the sequence odd, writes and
+ * makes it even; readers copy without locking and retry if it changed meanwhile.
+ *
+ * Metrics:
+ *   candles.history.memory   - bytes of ring columns allocated
+ *   candles.history.symbols  - symbols with a ring
+ *   candles.history.capped   - ring allocations or growths refused by the memory budget
+ */
+@Component
+public class RecentCandleHistory implements CandleSnapshotListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RecentCandleHistory.class);
+
+    private static final VarHandle SEQ;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    // open, high, low, close, volume, timestamp
+    private static final long BYTES_PER_SLOT = 6 * 8;
+
+    static {
+        try {
+            SEQ = MethodHandles.lookup().findVarHandle(Ring.class, "seq", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Value("${app.store.history.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.store.history.capacity:3600}")
+    private int capacity;
+
+    @Value("${app.store.history.initial-capacity:64}")
+    private int initialCapacity;
+
+    @Value("${app.store.history.memory-budget-bytes:268435456}")
+    private long memoryBudgetBytes;
+
+    private final CandleStore candleStore;
+    private final SymbolRegistry symbols;
+    private final Counter capped;
+    private final MeterRegistry meterRegistry;
+    private final Object writeLock = new Object();
+
+    private volatile Ring[] rings = new Ring[0];
+    private volatile long allocatedBytes;
+    private volatile int ringCount;
+    private boolean budgetWarned;
+
+    public RecentCandleHistory(CandleStore candleStore, SymbolRegistry symbols, MeterRegistry meterRegistry) {
+        this.candleStore = candleStore;
+        this.symbols = symbols;
+        this.meterRegistry = meterRegistry;
+        this.capped = Counter.builder("candles.history.capped")
+                .description("History ring allocations or growths refused by the memory budget")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("candles.history.memory", this, history -> history.allocatedBytes)
+                .description("Bytes allocated for recent candle history rings")
+                .register(meterRegistry);
+        Gauge.builder("candles.history.symbols", this, history -> history.ringCount)
+                .description("Symbols with a recent candle history ring")
+                .register(meterRegistry);
+        if (!enabled) {
+            return;
+        }
+        capacity = Math.max(1, capacity);
+        initialCapacity = Math.max(1, Math.min(initialCapacity, capacity));
+        candleStore.addListener(this);
+        Map<String, OhlcvCandle> current = candleStore.snapshot().getCandles();
+        for (OhlcvCandle candle : current.values()) {
+            append(candle);
+        }
+        log.info("Recent candle history enabled: up to {} candle(s) per symbol, memory budget {} bytes",
+                capacity, memoryBudgetBytes);
+    }
+
+    /**
+     * @return True if the history is enabled and follows the CandleStore
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return Maximum number of candles kept per symbol
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void onSnapshot(CandleSnapshot snapshot) {
+        for (String symbol : snapshot.getChangedSymbols()) {
+            OhlcvCandle candle = snapshot.get(symbol);
+            if (candle != null) {
+                append(candle);
+            }
+        }
+    }
+
+    /**
+     * Appends a candle to its symbol's ring (or replaces the newest entry if it has the same timestamp).
+     */
+    public void append(OhlcvCandle candle) {
+        Instant timestamp = candle.getTimestamp();
+        append(symbols.idOf(candle.getSymbol()), candle.getOpen(), candle.getHigh(), candle.getLow(),
+                candle.getClose(), candle.getVolume(),
+                timestamp != null ? timestamp.getEpochSecond() * 1_000_000_000L + timestamp.getNano() : NO_TIMESTAMP);
+    }
+
+    private void append(int id, double open, double high, double low, double close, double volume,
+                        long timestampNanos) {
+        synchronized (writeLock) {
+            Ring ring = ringFor(id);
+            if (ring == null) {
+                return;
+            }
+            long seq = (long) SEQ.getVolatile(ring);
+            SEQ.setOpaque(ring, seq + 1);
+            VarHandle.storeStoreFence(); // the odd sequence must be visible before any slot write
+
+            Slots s = ring.slots;
+            long index;
+            if (ring.count > 0 && timestampNanos != NO_TIMESTAMP && ring.lastTimestamp == timestampNanos) {
+                index = ring.count - 1;
+            } else {
+                if (ring.count == s.capacity() && s.capacity() < capacity) {
+                    s = grow(ring);
+                }
+                index = ring.count;
+                ring.count = index + 1;
+            }
+            int slot = (int) (index % s.capacity());
+            s.open[slot] = open;
+            s.high[slot] = high;
+            s.low[slot] = low;
+            s.close[slot] = close;
+            s.volume[slot] = volume;
+            s.timestamp[slot] = timestampNanos;
+            ring.lastTimestamp = timestampNanos;
+            SEQ.setRelease(ring, seq + 2);
+        }
+    }
+
+    /**
+     * Copies the most recent candles of a symbol, oldest first.
+     *
+     * @param symbol The trading symbol
+     * @param count  How many of the newest candles to copy (at most the ring size)
+     * @param out    Buffer to copy into
+     * @return Number of candles copied (0 if the symbol has no history)
+     */
+    public int copyRecent(String symbol, int count, RecentCandles out) {
+        int id = symbols.find(symbol);
+        Ring[] current = rings;
+        out.symbol = symbol;
+        out.size = 0;
+        if (id < 0 || id >= current.length || current[id] == null || count <= 0) {
+            return 0;
+        }
+        Ring ring = current[id];
+        while (true) {
+            long before = (long) SEQ.getAcquire(ring);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            Slots s = ring.slots;
+            long total = ring.count;
+            int n = (int) Math.min(Math.min(count, total), s.capacity());
+            out.ensureCapacity(n);
+            for (int i = 0; i < n; i++) {
+                int slot = (int) ((total - n + i) % s.capacity());
+                out.open[i] = s.open[slot];
+                out.high[i] = s.high[slot];
+                out.low[i] = s.low[slot];
+                out.close[i] = s.close[slot];
+                out.volume[i] = s.volume[slot];
+                long timestamp = s.timestamp[slot];
+                out.timestampNanos[i] = timestamp == NO_TIMESTAMP ? 0L : timestamp;
+            }
+            VarHandle.loadLoadFence();
+            if ((long) SEQ.getVolatile(ring) != before) {
+                continue;
+            }
+            out.size = n;
+            return n;
+        }
+    }
+
+    /**
+     * Copies one candle by its age.
+     *
+     * @param symbol The trading symbol
+     * @param back   0 for the newest candle, 1 for the one before, ...
+     * @param view   The view to fill
+     * @return True if the symbol has a candle that far back, false otherwise (view left unchanged)
+     */
+    public boolean read(String symbol, int back, CandleView view) {
+        int id = symbols.find(symbol);
+        Ring[] current = rings;
+        if (id < 0 || id >= current.length || current[id] == null || back < 0) {
+            return false;
+        }
+        Ring ring = current[id];
+        while (true) {
+            long before = (long) SEQ.getAcquire(ring);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            Slots s = ring.slots;
+            long total = ring.count;
+            if (back >= Math.min(total, s.capacity())) {
+                return false;
+            }
+            int slot = (int) ((total - 1 - back) % s.capacity());
+            double open = s.open[slot];
+            double high = s.high[slot];
+            double low = s.low[slot];
+            double close = s.close[slot];
+            double volume = s.volume[slot];
+            long timestamp = s.timestamp[slot];
+            VarHandle.loadLoadFence();
+            if ((long) SEQ.getVolatile(ring) != before) {
+                continue;
+            }
+            view.symbolId = id;
+            view.symbol = symbols.nameOf(id);
+            view.open = open;
+            view.high = high;
+            view.low = low;
+            view.close = close;
+            view.volume = volume;
+            view.timestampNanos = timestamp == NO_TIMESTAMP ? 0L : timestamp;
+            return true;
+        }
+    }
+
+    /**
+     * Returns the ring of a symbol id, creating it if the budget allows. Must hold writeLock.
+     */
+    private Ring ringFor(int id) {
+        Ring[] current = rings;
+        if (id < current.length && current[id] != null) {
+            return current[id];
+        }
+        long bytes = initialCapacity * BYTES_PER_SLOT;
+        if (!reserve(bytes)) {
+            return null;
+        }
+        if (id >= current.length) {
+            current = Arrays.copyOf(current, Math.max(id + 1, Math.max(64, current.length * 2)));
+        }
+        Ring ring = new Ring(new Slots(initialCapacity));
+        current[id] = ring;
+        rings = current;
+        ringCount++;
+        return ring;
+    }
+
+    /**
+     * Doubles a full, not yet wrapped ring (oldest candle at slot 0), if the budget allows.
+     */
+    private Slots grow(Ring ring) {
+        Slots s = ring.slots;
+        int next = (int) Math.min((long) s.capacity() * 2, capacity);
+        if (!reserve((next - s.capacity()) * BYTES_PER_SLOT)) {
+            return s;
+        }
+        Slots grown = new Slots(next);
+        int n = s.capacity();
+        System.arraycopy(s.open, 0, grown.open, 0, n);
+        System.arraycopy(s.high, 0, grown.high, 0, n);
+        System.arraycopy(s.low, 0, grown.low, 0, n);
+        System.arraycopy(s.close, 0, grown.close, 0, n);
+        System.arraycopy(s.volume, 0, grown.volume, 0, n);
+        System.arraycopy(s.timestamp, 0, grown.timestamp, 0, n);
+        ring.slots = grown;
+        return grown;
+    }
+
+    private boolean reserve(long bytes) {
+        if (allocatedBytes + bytes > memoryBudgetBytes) {
+            capped.increment();
+            if (!budgetWarned) {
+                budgetWarned = true;
+                log.warn("Recent candle history reached its memory budget of {} bytes - "
+                        + "rings stop growing and new symbols get no history", memoryBudgetBytes);
+            }
+            return false;
+        }
+        allocatedBytes += bytes;
+        return true;
+    }
+
+    /**
+     * History of one symbol. count is the number of candles ever appended; the
+     * newest is at slot (count - 1) % capacity.
+     */
+    private static final class Ring {
+        volatile long seq;
+        Slots slots;
+        long count;
+        long lastTimestamp = NO_TIMESTAMP;
+
+        Ring(Slots slots) {
+            this.slots = slots;
+        }
+    }
+
+    /**
+     * One generation of ring columns; replaced as a whole when the ring grows.
+     */
+    private static final class Slots {
+        final double[] open;
+        final double[] high;
+        final double[] low;
+        final double[] close;
+        final double[] volume;
+        final long[] timestamp;
+
+        Slots(int capacity) {
+            open = new double[capacity];
+            high = new double[capacity];
+            low = new double[capacity];
+            close = new double[capacity];
+            volume = new double[capacity];
+            timestamp = new long[capacity];
+        }
+
+        int capacity() {
+            return open.length;
+        }
+    }
+}
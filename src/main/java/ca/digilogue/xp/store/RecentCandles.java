@@ -0,0 +1,67 @@
+package ca.digilogue.xp.store;
+
+/**
+ * Reusable buffer holding a copy of a symbol's most recent candles, oldest first,
+ * filled by RecentCandleHistory.copyRecent(). The arrays grow as needed and are
+ * kept, so repeated reads into the same buffer do not allocate. Not thread-safe.
+ */
+public final class RecentCandles {
+
+    String symbol;
+    int size;
+    double[] open = new double[0];
+    double[] high = new double[0];
+    double[] low = new double[0];
+    double[] close = new double[0];
+    double[] volume = new double[0];
+    long[] timestampNanos = new long[0];
+
+    void ensureCapacity(int capacity) {
+        if (open.length < capacity) {
+            open = new double[capacity];
+            high = new double[capacity];
+            low = new double[capacity];
+            close = new double[capacity];
+            volume = new double[capacity];
+            timestampNanos = new long[capacity];
+        }
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * @return Number of candles copied; valid indexes are 0 (oldest) until size() - 1 (newest)
+     */
+    public int size() {
+        return size;
+    }
+
+    public double getOpen(int index) {
+        return open[index];
+    }
+
+    public double getHigh(int index) {
+        return high[index];
+    }
+
+    public double getLow(int index) {
+        return low[index];
+    }
+
+    public double getClose(int index) {
+        return close[index];
+    }
+
+    public double getVolume(int index) {
+        return volume[index];
+    }
+
+    /**
+     * @return Candle timestamp in nanoseconds since epoch (0 if the candle had none)
+     */
+    public long getTimestampNanos(int index) {
+        return timestampNanos[index];
+    }
+}
@@ -0,0 +1,236 @@
+package ca.digilogue.xp.store;
+
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Central symbol dictionary: assigns every symbol a stable, dense int id and
+ * keeps one canonical String instance per symbol.
+ *
+ * Ingest interns symbols straight from the parser's character buffer, so a
+ * known symbol costs neither a String allocation nor a fresh hashCode
+ * computation; the canonical instances used as map keys have their hash cached
+ * and compare equal by identity. Ids index primitive structures such as the
+ * ColumnarCandleStore columns and the per-symbol encode cache.
+ *
+ * Lookups are lock-free reads of an open-addressing table. Symbols are added
+ * under a lock and published with release/acquire semantics, so a reader that
+ * finds a key also sees its id. Ids are never reused.
+ */
+@Component
+public class SymbolRegistry {
+
+    private static final VarHandle KEYS = MethodHandles.arrayElementVarHandle(String[].class);
+    private static final int MAX_LOAD_PERCENT = 50;
+
+    private final Object writeLock = new Object();
+
+    private volatile Table table = new Table(64);
+    private volatile String[] names = new String[16];
+    private volatile int size;
+
+    /**
+     * Returns the id of a symbol, assigning the next free one if it is new.
+     *
+     * @param symbol The trading symbol
+     * @return The symbol's id (0-based, dense)
+     */
+    public int idOf(String symbol) {
+        int id = find(symbol);
+        return id >= 0 ? id : add(symbol);
+    }
+
+    /**
+     * @param symbol The trading symbol
+     * @return The symbol's id, or -1 if it was never registered
+     */
+    public int find(String symbol) {
+        Table t = table;
+        int mask = t.keys.length - 1;
+        for (int slot = mix(symbol.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            String key = (String) KEYS.getAcquire(t.keys, slot);
+            if (key == null) {
+                return -1;
+            }
+            if (key == symbol || key.equals(symbol)) {
+                return t.ids[slot];
+            }
+        }
+    }
+
+    /**
+     * @param id A symbol id
+     * @return The canonical symbol, or null if the id was never assigned
+     */
+    public String nameOf(int id) {
+        return id >= 0 && id < size ? names[id] : null;
+    }
+
+    /**
+     * @return Number of registered symbols (ids are 0 until size - 1)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the canonical instance of a symbol, registering it if it is new.
+     *
+     * @param symbol The trading symbol (may be null)
+     * @return The canonical symbol, or null for null
+     */
+    public String intern(String symbol) {
+        if (symbol == null) {
+            return null;
+        }
+        return nameOf(idOf(symbol));
+    }
+
+    /**
+     * Returns the canonical instance of the symbol spelled by the characters,
+     * registering it if it is new. Known symbols do not allocate.
+     *
+     * @param chars  Character buffer (e.g. JsonParser.getTextCharacters())
+     * @param offset Offset of the symbol in the buffer
+     * @param length Length of the symbol
+     * @return The canonical symbol
+     */
+    public String intern(char[] chars, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i]; // same as String.hashCode()
+        }
+        Table t = table;
+        int mask = t.keys.length - 1;
+        for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+            String key = (String) KEYS.getAcquire(t.keys, slot);
+            if (key == null) {
+                break;
+            }
+            if (key.length() == length && sameChars(key, chars, offset)) {
+                return key;
+            }
+        }
+        return intern(new String(chars, offset, length));
+    }
+
+    /**
+     * Returns the canonical instance of the symbol encoded as UTF-8 bytes
+     * (e.g. a Kafka record key), registering it if it is new. Known ASCII
+     * symbols do not allocate.
+     *
+     * @param utf8 The encoded symbol
+     * @return The canonical symbol
+     */
+    public String intern(byte[] utf8) {
+        int hash = 0;
+        for (byte b : utf8) {
+            if (b < 0) {
+                return intern(new String(utf8, StandardCharsets.UTF_8));
+            }
+            hash = 31 * hash + b;
+        }
+        Table t = table;
+        int mask = t.keys.length - 1;
+        for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+            String key = (String) KEYS.getAcquire(t.keys, slot);
+            if (key == null) {
+                break;
+            }
+            if (key.length() == utf8.length && sameAscii(key, utf8)) {
+                return key;
+            }
+        }
+        return intern(new String(utf8, StandardCharsets.US_ASCII));
+    }
+
+    private int add(String symbol) {
+        synchronized (writeLock) {
+            int id = find(symbol);
+            if (id >= 0) {
+                return id;
+            }
+            id = size;
+            Table t = table;
+            if ((id + 1) * 100 > t.keys.length * MAX_LOAD_PERCENT) {
+                // Rehash into a table twice the size; readers keep using the old one until it is published
+                Table grown = new Table(t.keys.length * 2);
+                for (int i = 0; i < t.keys.length; i++) {
+                    if (t.keys[i] != null) {
+                        grown.put(t.keys[i], t.ids[i]);
+                    }
+                }
+                t = grown;
+                table = grown;
+            }
+
+            String[] currentNames = names;
+            if (id == currentNames.length) {
+                currentNames = Arrays.copyOf(currentNames, currentNames.length * 2);
+            }
+            currentNames[id] = symbol;
+            names = currentNames;
+            t.put(symbol, id);
+            size = id + 1;
+            return id;
+        }
+    }
+
+    private static boolean sameChars(String key, char[] chars, int offset) {
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameAscii(String key, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (key.charAt(i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Spreads String.hashCode() over the table. Similar symbols (SYM1, SYM2, ...) have
+     * nearly consecutive hash codes; without the multiply they fill runs of adjacent
+     * slots that linear probing then has to walk.
+     */
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Open-addressing slots of symbol to id. Slots are only ever filled, never cleared.
+     */
+    private static final class Table {
+        private final String[] keys;
+        private final int[] ids;
+
+        private Table(int capacity) {
+            this.keys = new String[capacity];
+            this.ids = new int[capacity];
+        }
+
+        /**
+         * Writes the id before releasing the key, so readers that see the key see the id.
+         */
+        private void put(String symbol, int id) {
+            int mask = keys.length - 1;
+            int slot = mix(symbol.hashCode()) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            ids[slot] = id;
+            KEYS.setRelease(keys, slot, symbol);
+        }
+    }
+}